@@ -0,0 +1,949 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generates {@code Optional3} through {@code OptionalN}, and their matching
+ * {@code ConsumerN}, {@code CheckedConsumerN}, {@code PredicateN}, {@code CheckedPredicateN}
+ * and {@code CheckedFunctionN} interfaces and {@code TupleN} classes,
+ * so that every arity has the same flat shape: one object holding N fields.
+ * <p>
+ * {@link Optional2} and {@link Optional1} are hand-written; the generated types mirror them.
+ * Run by Maven during {@code generate-sources}:
+ * <pre>
+ * java src/build/java/OptionalNGenerator.java [outputDir] [maxArity]
+ * </pre>
+ */
+public final class OptionalNGenerator {
+
+    private static final String PACKAGE = "com.terheyden.optional2";
+    private static final int MIN_ARITY = 3;
+
+    private OptionalNGenerator() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    public static void main(String... args) throws IOException {
+
+        Path outputDir = Path.of(args[0]).resolve(PACKAGE.replace('.', '/'));
+        int maxArity = Integer.parseInt(args[1]);
+        Files.createDirectories(outputDir);
+
+        for (int n = MIN_ARITY; n <= maxArity; n++) {
+            write(outputDir, "Consumer" + n, consumer(n));
+            write(outputDir, "CheckedConsumer" + n, checkedConsumer(n));
+            write(outputDir, "Predicate" + n, predicate(n));
+            write(outputDir, "CheckedPredicate" + n, checkedPredicate(n));
+            write(outputDir, "CheckedFunction" + n, checkedFunction(n));
+            write(outputDir, "Tuple" + n, tuple(n));
+            write(outputDir, "Optional" + n, optional(n, maxArity));
+        }
+
+        write(outputDir, "OptionalNUtils", utils(maxArity));
+    }
+
+    private static void write(Path outputDir, String className, String source) throws IOException {
+
+        Path file = outputDir.resolve(className + ".java");
+
+        // Only touch the file if it changed, to keep incremental compiles cheap.
+        if (Files.exists(file) && Files.readString(file).equals(source)) {
+            return;
+        }
+
+        Files.writeString(file, source);
+    }
+
+    /**
+     * Joins {@code 1..n} with ", " using the given formatter.
+     */
+    private static String join(int n, IntFunction<String> formatter) {
+        return IntStream.rangeClosed(1, n)
+            .mapToObj(formatter)
+            .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Joins {@code 1..n} with the given separator using the given formatter.
+     */
+    private static String join(int n, String separator, IntFunction<String> formatter) {
+        return IntStream.rangeClosed(1, n)
+            .mapToObj(formatter)
+            .collect(Collectors.joining(separator));
+    }
+
+    private static String typeParams(int n) {
+        return join(n, i -> "T" + i);
+    }
+
+    private static String superParams(int n) {
+        return join(n, i -> "? super T" + i);
+    }
+
+    private static String params(int n) {
+        return join(n, i -> "T" + i + " value" + i);
+    }
+
+    private static String args(int n) {
+        return join(n, i -> "value" + i);
+    }
+
+    private static String header() {
+        return """
+            package %s;
+
+            // Generated by src/build/java/OptionalNGenerator.java, do not edit.
+
+            """.formatted(PACKAGE);
+    }
+
+    private static String consumer(int n) {
+        return header() + """
+            /**
+             * Consumer$N interface, see {@link Consumer2}.
+             */
+            @FunctionalInterface
+            public interface Consumer$N<$TP> {
+
+                void accept($PARAMS);
+
+                /**
+                 * Returns a composed {@code Consumer$N} that performs, in sequence, this operation followed by
+                 * the {@code after} operation.
+                 *
+                 * @see Consumer2#andThen(Consumer2)
+                 */
+                default Consumer$N<$TP> andThen(Consumer$N<$SUP> after) {
+                    return ($ARGS) -> {
+                        accept($ARGS);
+                        after.accept($ARGS);
+                    };
+                }
+
+                default CheckedConsumer$N<$TP> checked() {
+                    return ($ARGS) -> accept($ARGS);
+                }
+            }
+            """.replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$SUP", superParams(n))
+            .replace("$PARAMS", params(n))
+            .replace("$ARGS", args(n));
+    }
+
+    private static String checkedConsumer(int n) {
+        return header() + """
+            /**
+             * Functional interface for accepting $N values, see {@link CheckedConsumer2}.
+             */
+            @FunctionalInterface
+            public interface CheckedConsumer$N<$TP> {
+
+                /**
+                 * Accept $N values and perform some action.
+                 */
+                void accept($PARAMS) throws Throwable;
+
+                /**
+                 * Returns a composed {@code CheckedConsumer$N} that performs, in sequence, this operation followed by
+                 * the {@code after} operation.
+                 *
+                 * @see CheckedConsumer2#andThen(CheckedConsumer2)
+                 */
+                default CheckedConsumer$N<$TP> andThen(CheckedConsumer$N<$SUP> after) {
+                    return ($ARGS) -> {
+                        accept($ARGS);
+                        after.accept($ARGS);
+                    };
+                }
+
+                default Consumer$N<$TP> unchecked() {
+                    return ($ARGS) -> {
+                        try {
+                            accept($ARGS);
+                        } catch (Throwable throwable) {
+                            Optional2Utils.throwUnchecked(throwable);
+                        }
+                    };
+                }
+            }
+            """.replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$SUP", superParams(n))
+            .replace("$PARAMS", params(n))
+            .replace("$ARGS", args(n));
+    }
+
+    private static String predicate(int n) {
+        return header() + """
+            /**
+             * Predicate$N interface, see {@link Predicate2}.
+             */
+            @FunctionalInterface
+            public interface Predicate$N<$TP> {
+
+                boolean test($PARAMS);
+
+                /**
+                 * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+                 *
+                 * @see Predicate2#and(Predicate2)
+                 */
+                default Predicate$N<$TP> and(Predicate$N<$SUP> other) {
+                    return ($ARGS) -> test($ARGS) && other.test($ARGS);
+                }
+
+                /**
+                 * Returns a predicate that represents the logical negation of this predicate.
+                 */
+                default Predicate$N<$TP> negate() {
+                    return ($ARGS) -> !test($ARGS);
+                }
+
+                /**
+                 * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+                 *
+                 * @see Predicate2#or(Predicate2)
+                 */
+                default Predicate$N<$TP> or(Predicate$N<$SUP> other) {
+                    return ($ARGS) -> test($ARGS) || other.test($ARGS);
+                }
+            }
+            """.replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$SUP", superParams(n))
+            .replace("$PARAMS", params(n))
+            .replace("$ARGS", args(n));
+    }
+
+    private static String checkedPredicate(int n) {
+        return header() + """
+            /**
+             * CheckedPredicate$N interface, see {@link CheckedPredicate2}.
+             */
+            @FunctionalInterface
+            public interface CheckedPredicate$N<$TP> {
+
+                boolean test($PARAMS) throws Throwable;
+
+                default CheckedPredicate$N<$TP> negate() {
+                    return ($ARGS) -> !test($ARGS);
+                }
+
+                default Predicate$N<$TP> unchecked() {
+                    return ($ARGS) -> {
+                        try {
+                            return test($ARGS);
+                        } catch (Throwable e) {
+                            return Optional2Utils.throwUnchecked(e);
+                        }
+                    };
+                }
+            }
+            """.replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$PARAMS", params(n))
+            .replace("$ARGS", args(n));
+    }
+
+    private static String checkedFunction(int n) {
+        return header() + """
+            /**
+             * Functional interface for mapping $N values, see {@link CheckedFunction2}.
+             */
+            @FunctionalInterface
+            public interface CheckedFunction$N<$TP, R> {
+
+                /**
+                 * Map $N values.
+                 */
+                R apply($PARAMS) throws Throwable;
+            }
+            """.replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$PARAMS", params(n));
+    }
+
+    private static String tuple(int n) {
+        return header() + """
+            import javax.annotation.Nullable;
+            import java.util.Objects;
+
+            /**
+             * An immutable tuple of $N values, as returned by {@link Optional$N#get()}; see {@link Tuple2}.
+             */
+            public final class Tuple$N<$TP> {
+
+            $FIELDS
+
+                public Tuple$N($PARAMS) {
+            $ASSIGN
+                }
+            $ACCESSORS
+
+                /**
+                 * Combines the values with the function; checked exceptions are rethrown as is.
+                 */
+                public <R> R apply(CheckedFunction$N<$SUP, ? extends R> function) {
+                    return OptionalNUtils.apply(function, $FIELD_ARGS);
+                }
+
+                @Override
+                public boolean equals(@Nullable Object obj) {
+
+                    if (this == obj) {
+                        return true;
+                    }
+
+                    return obj instanceof Tuple$N<$WILDCARDS> other
+                        && $EQUALS;
+                }
+
+                @Override
+                public int hashCode() {
+                    return Objects.hash($FIELD_ARGS);
+                }
+
+                @Override
+                public String toString() {
+                    return "(" + $TO_STRING + ")";
+                }
+            }
+            """.replace("$FIELDS", join(n, "\n", i -> "    public final T" + i + " _" + i + ";"))
+            .replace("$ASSIGN", join(n, "\n", i -> "        this._" + i + " = value" + i + ";"))
+            .replace("$ACCESSORS", join(n, "\n", i -> """
+
+                    public T%d _%d() {
+                        return _%d;
+                    }
+                """.formatted(i, i, i).stripTrailing()))
+            .replace("$WILDCARDS", join(n, i -> "?"))
+            .replace("$EQUALS", join(n, "\n            && ", i -> "Objects.equals(_" + i + ", other._" + i + ")"))
+            .replace("$FIELD_ARGS", join(n, i -> "_" + i))
+            .replace("$TO_STRING", join(n, " + \", \" + ", i -> "_" + i))
+            .replace("$SUP", superParams(n))
+            .replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$PARAMS", params(n));
+    }
+
+    private static String utils(int maxArity) {
+
+        StringBuilder body = new StringBuilder();
+
+        for (int n = MIN_ARITY; n <= maxArity; n++) {
+            body.append("""
+
+                    /* package */ static <$TP, R> R apply(CheckedFunction$N<$SUP, ? extends R> function, $PARAMS) {
+                        try {
+                            return function.apply($ARGS);
+                        } catch (Throwable throwable) {
+                            return Optional2Utils.throwUnchecked(throwable);
+                        }
+                    }
+
+                    /* package */ static <$TP> void accept(CheckedConsumer$N<$SUP> consumer, $PARAMS) {
+                        try {
+                            consumer.accept($ARGS);
+                        } catch (Throwable throwable) {
+                            Optional2Utils.throwUnchecked(throwable);
+                        }
+                    }
+
+                    /* package */ static <$TP> boolean test(CheckedPredicate$N<$SUP> predicate, $PARAMS) {
+                        try {
+                            return predicate.test($ARGS);
+                        } catch (Throwable throwable) {
+                            return Optional2Utils.throwUnchecked(throwable);
+                        }
+                    }
+                """.replace("$N", String.valueOf(n))
+                .replace("$TP", typeParams(n))
+                .replace("$SUP", superParams(n))
+                .replace("$PARAMS", params(n))
+                .replace("$ARGS", args(n)));
+        }
+
+        return header() + """
+            /**
+             * The {@link Optional2Utils} invocation helpers for arities 3 and up.
+             */
+            /* package */ final class OptionalNUtils {
+
+                private OptionalNUtils() {
+                    // Private constructor since this shouldn't be instantiated.
+                }
+            """ + body + "}\n";
+    }
+
+    private static String optional(int n, int maxArity) {
+
+        int prev = n - 1;
+        int next = n + 1;
+        boolean hasNext = n < maxArity;
+
+        String allPresent = join(n, " && ", i -> "value" + i + " != null");
+        String allEmpty = join(n, " && ", i -> "value" + i + " == null");
+        String allButLastPresent = join(prev, " && ", i -> "value" + i + " != null");
+        String percentS = join(n, ",", i -> "%s");
+        String emptyFields = join(n, "\n", i -> "        @Nullable\n        private final T" + i + " value" + i + ";");
+        String nullableParams = join(n, i -> "@Nullable T" + i + " value" + i);
+        String assignFields = join(n, "\n", i -> "            this.value" + i + " = value" + i + ";");
+        String getterDecls = join(n, "", i -> """
+
+                /**
+                 * Returns value %d, if present, or throws a {@link NoSuchElementException} if it's null.
+                 */
+                T%d getValue%d();
+            """.formatted(i, i, i));
+        String presentGetters = join(n, "", i -> """
+
+                    @Override
+                    public T%d getValue%d() {
+                        return value%d;
+                    }
+            """.formatted(i, i, i));
+        String emptyGetters = join(n, "", i -> """
+
+                    @Override
+                    public T%d getValue%d() {
+
+                        if (value%d == null) {
+                            throw new NoSuchElementException("No value present");
+                        }
+
+                        return value%d;
+                    }
+            """.formatted(i, i, i, i));
+
+        String andOfDecls = !hasNext ? "" : """
+
+                /**
+                 * Adds another Optional value to track via {@link Optional$NEXT}.
+                 */
+                <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(@Nullable T$NEXT value$NEXT);
+
+                /**
+                 * Adds another Optional value to track via {@link Optional$NEXT}.
+                 */
+                <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper);
+
+                /**
+                 * Adds another Optional value to track via {@link Optional$NEXT}.
+                 */
+                <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(T$NEXT value$NEXT);
+
+                /**
+                 * Adds another Optional value to track via {@link Optional$NEXT}.
+                 * A null result from the mapper leaves the new value empty,
+                 * so it can be filled in via {@link Optional$NEXT#or(Object)}.
+                 */
+                <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper);
+            """;
+
+        String presentAndOf = !hasNext ? "" : """
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(@Nullable T$NEXT value$NEXT) {
+                        return Optional$NEXT.ofNullable($ARGS, value$NEXT);
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(
+                        CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper) {
+
+                        return Optional$NEXT.ofNullable($ARGS, OptionalNUtils.apply(valueMapper, $ARGS));
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(T$NEXT value$NEXT) {
+                        return new Optional$NEXT.Present<>($ARGS, value$NEXT);
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper) {
+                        return Optional$NEXT.ofNullable($ARGS, OptionalNUtils.apply(valueMapper, $ARGS));
+                    }
+            """;
+
+        String emptyAndOf = !hasNext ? "" : """
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(@Nullable T$NEXT value$NEXT) {
+                        return Optional$NEXT.empty();
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOfNullable(
+                        CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper) {
+
+                        return Optional$NEXT.empty();
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(T$NEXT value$NEXT) {
+                        return Optional$NEXT.empty();
+                    }
+
+                    @Override
+                    public <T$NEXT> Optional$NEXT<$TP, T$NEXT> andOf(CheckedFunction$N<$SUP, ? extends T$NEXT> valueMapper) {
+                        return Optional$NEXT.empty();
+                    }
+            """;
+
+        return header() + """
+            import javax.annotation.Nullable;
+            import java.util.NoSuchElementException;
+            import java.util.Objects;
+            import java.util.Optional;
+
+            /**
+             * Handles $N optional values; the $N-value version of {@link Optional2}.
+             * <p>
+             * An {@code Optional$N} is either a {@link Present} (all values non-null) or an {@link Empty}
+             * (any value null). Move up from {@link Optional$PREV} via {@code andOf()}.
+             */
+            public sealed interface Optional$N<$TP> permits Optional$N.Present, Optional$N.Empty {
+
+                static <$TP> Optional$N<$TP> of($PARAMS) {
+                    return ofNullable($ARGS);
+                }
+
+                static <$TP> Optional$N<$TP> ofNullable($NULLABLE_PARAMS) {
+
+                    if ($ALL_PRESENT) {
+                        return new Present<>($ARGS);
+                    }
+
+                    return $ALL_EMPTY
+                        ? empty()
+                        : new Empty<>($ARGS);
+                }
+
+                /**
+                 * Returns an empty immutable singleton {@code Optional$N} instance.
+                 */
+                @SuppressWarnings("unchecked")
+                static <$TP> Optional$N<$TP> empty() {
+                    return (Optional$N<$TP>) Empty.EMPTY;
+                }
+
+                /**
+                 * Throws the given exception if any value is null.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier);
+
+                /**
+                 * Throws a {@link NoSuchElementException} if any value is null.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> throwIfEmpty();
+
+                /**
+                 * Returns a {@link Tuple$N} containing all values, if present.
+                 * If any value is null, throws a {@link NoSuchElementException}.
+                 */
+                Tuple$N<$TP> get();
+
+                /**
+                 * Returns an {@link Optional} containing a {@link Tuple$N} of all values,
+                 * if present. If any value is null, {@link Optional#empty()} is returned.
+                 */
+                Optional<Tuple$N<$TP>> getOptional();
+            $GETTER_DECLS
+                /**
+                 * If the last value is null, use the supplier to get a non-empty value to use instead.
+                 *
+                 * @see Optional2#or(CheckedFunction0)
+                 */
+                Optional$N<$TP> or(CheckedFunction0<Optional<T$N>> supplyIfEmpty);
+
+                /**
+                 * If the last value is null, use the given replacement value instead.
+                 *
+                 * @see Optional2#or(Optional1)
+                 */
+                Optional$N<$TP> or(Optional1<T$N> useIfEmpty);
+
+                /**
+                 * If the last value is null, use the given replacement value instead.
+                 *
+                 * @see Optional2#or(Optional)
+                 */
+                Optional$N<$TP> or(Optional<T$N> useIfEmpty);
+
+                /**
+                 * If the last value is null, use the given replacement value instead.
+                 *
+                 * @see Optional2#or(Object)
+                 */
+                Optional$N<$TP> or(T$N useIfEmpty);
+
+                /**
+                 * Returns a {@link Tuple$N} of the values if present, else null.
+                 */
+                @Nullable
+                Tuple$N<$TP> orElseNull();
+
+                /**
+                 * If all values are present, returns a {@link Tuple$N} that contains them.
+                 * Otherwise, throws a {@link NoSuchElementException}.
+                 */
+                Tuple$N<$TP> orElseThrow();
+
+                /**
+                 * If all values are present, passes them to the given function and returns its result.
+                 * Otherwise, throws a {@link NoSuchElementException}.
+                 */
+                <R> R get(CheckedFunction$N<$SUP, ? extends R> mapper);
+
+                /**
+                 * True if all values are present.
+                 */
+                boolean isPresent();
+
+                /**
+                 * True if any value is not present.
+                 */
+                boolean isEmpty();
+
+                /**
+                 * If all values are present, apply the consumer to them.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> ifPresent(CheckedConsumer$N<$SUP> consumer);
+
+                /**
+                 * If all values are present, apply the consumer to them.
+                 * Otherwise, run the given {@link CheckedRunnable}.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> ifPresentOrElse(CheckedConsumer$N<$SUP> presentConsumer, CheckedRunnable emptyAction);
+
+                /**
+                 * Run the given {@link CheckedRunnable} if any value is null.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> ifEmpty(CheckedRunnable runIfEmpty);
+
+                /**
+                 * If all values are present, apply the given filter.
+                 *
+                 * @return this, for chaining
+                 */
+                Optional$N<$TP> filter(CheckedPredicate$N<$SUP> predicate);
+
+                /**
+                 * If all values are present, combine down to an {@link Optional}.
+                 * Otherwise return {@link Optional#empty()}.
+                 */
+                <R> Optional<R> reduce(CheckedFunction$N<$SUP, ? extends R> mapper);
+
+                /**
+                 * If all values are present, combine them with the given function and return the result.
+                 * If any value is null, or the function returns null, return {@code other}.
+                 */
+                <R> R reduceOrElse(CheckedFunction$N<$SUP, ? extends R> mapper, R other);
+
+                /**
+                 * If all values are present, combine down to an {@link Optional}.
+                 */
+                <R> Optional<R> flatMapReduce(CheckedFunction$N<$SUP, Optional<R>> mapper);
+            $ANDOF_DECLS
+                /**
+                 * An {@link Optional$N} where all values are present.
+                 */
+                record Present<$TP>($PARAMS) implements Optional$N<$TP> {
+
+                    public Present {
+            $REQUIRE_NON_NULL
+                    }
+
+                    @Override
+                    public Optional$N<$TP> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> throwIfEmpty() {
+                        return this;
+                    }
+
+                    @Override
+                    public Tuple$N<$TP> get() {
+                        return new Tuple$N<>($ARGS);
+                    }
+
+                    @Override
+                    public Optional<Tuple$N<$TP>> getOptional() {
+                        return Optional.of(get());
+                    }
+            $PRESENT_GETTERS
+                    @Override
+                    public Optional$N<$TP> or(CheckedFunction0<Optional<T$N>> supplyIfEmpty) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(Optional1<T$N> useIfEmpty) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(Optional<T$N> useIfEmpty) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(T$N useIfEmpty) {
+                        return this;
+                    }
+
+                    @Override
+                    public Tuple$N<$TP> orElseNull() {
+                        return get();
+                    }
+
+                    @Override
+                    public Tuple$N<$TP> orElseThrow() {
+                        return get();
+                    }
+
+                    @Override
+                    public <R> R get(CheckedFunction$N<$SUP, ? extends R> mapper) {
+                        return OptionalNUtils.apply(mapper, $ARGS);
+                    }
+
+                    @Override
+                    public boolean isPresent() {
+                        return true;
+                    }
+
+                    @Override
+                    public boolean isEmpty() {
+                        return false;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifPresent(CheckedConsumer$N<$SUP> consumer) {
+                        OptionalNUtils.accept(consumer, $ARGS);
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifPresentOrElse(
+                        CheckedConsumer$N<$SUP> presentConsumer,
+                        CheckedRunnable emptyAction) {
+
+                        OptionalNUtils.accept(presentConsumer, $ARGS);
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifEmpty(CheckedRunnable runIfEmpty) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> filter(CheckedPredicate$N<$SUP> predicate) {
+                        return OptionalNUtils.test(predicate, $ARGS)
+                            ? this
+                            : empty();
+                    }
+
+                    @Override
+                    public <R> Optional<R> reduce(CheckedFunction$N<$SUP, ? extends R> mapper) {
+                        return Optional.ofNullable(OptionalNUtils.apply(mapper, $ARGS));
+                    }
+
+                    @Override
+                    public <R> R reduceOrElse(CheckedFunction$N<$SUP, ? extends R> mapper, R other) {
+                        R result = OptionalNUtils.apply(mapper, $ARGS);
+                        return result == null ? other : result;
+                    }
+
+                    @Override
+                    public <R> Optional<R> flatMapReduce(CheckedFunction$N<$SUP, Optional<R>> mapper) {
+                        return OptionalNUtils.apply(mapper, $ARGS);
+                    }
+            $PRESENT_ANDOF
+                    @Override
+                    public String toString() {
+                        return "Optional$N[$PERCENT_S]".formatted($ARGS);
+                    }
+                }
+
+                /**
+                 * An {@link Optional$N} where any value is null.
+                 * The all-null instance is a singleton, see {@link #empty()}.
+                 */
+                final class Empty<$TP> implements Optional$N<$TP> {
+
+                    // These generics aren't strongly typed, for later casting purposes.
+                    private static final Empty EMPTY = new Empty($NULLS);
+
+            $EMPTY_FIELDS
+
+                    private Empty($NULLABLE_PARAMS) {
+            $ASSIGN_FIELDS
+                    }
+
+                    @Override
+                    public Optional$N<$TP> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+                        return Optional2Utils.throwUnchecked(Optional2Utils.apply(exceptionSupplier));
+                    }
+
+                    @Override
+                    public Optional$N<$TP> throwIfEmpty() {
+                        throw emptyException();
+                    }
+
+                    @Override
+                    public Tuple$N<$TP> get() {
+                        throw emptyException();
+                    }
+
+                    @Override
+                    public Optional<Tuple$N<$TP>> getOptional() {
+                        return Optional.empty();
+                    }
+            $EMPTY_GETTERS
+                    @Override
+                    public Optional$N<$TP> or(CheckedFunction0<Optional<T$N>> supplyIfEmpty) {
+                        return $ALL_BUT_LAST_PRESENT
+                            ? ofNullable($PREV_ARGS, Optional2Utils.apply(supplyIfEmpty).orElse(null))
+                            : empty();
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(Optional1<T$N> useIfEmpty) {
+                        return $ALL_BUT_LAST_PRESENT
+                            ? ofNullable($PREV_ARGS, useIfEmpty.orElseNull())
+                            : empty();
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(Optional<T$N> useIfEmpty) {
+                        return $ALL_BUT_LAST_PRESENT
+                            ? ofNullable($PREV_ARGS, useIfEmpty.orElse(null))
+                            : empty();
+                    }
+
+                    @Override
+                    public Optional$N<$TP> or(T$N useIfEmpty) {
+                        return $ALL_BUT_LAST_PRESENT
+                            ? new Present<>($PREV_ARGS, useIfEmpty)
+                            : empty();
+                    }
+
+                    @Override
+                    @Nullable
+                    public Tuple$N<$TP> orElseNull() {
+                        return null;
+                    }
+
+                    @Override
+                    public Tuple$N<$TP> orElseThrow() {
+                        throw emptyException();
+                    }
+
+                    @Override
+                    public <R> R get(CheckedFunction$N<$SUP, ? extends R> mapper) {
+                        throw emptyException();
+                    }
+
+                    @Override
+                    public boolean isPresent() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isEmpty() {
+                        return true;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifPresent(CheckedConsumer$N<$SUP> consumer) {
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifPresentOrElse(
+                        CheckedConsumer$N<$SUP> presentConsumer,
+                        CheckedRunnable emptyAction) {
+
+                        Optional2Utils.run(emptyAction);
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> ifEmpty(CheckedRunnable runIfEmpty) {
+                        Optional2Utils.run(runIfEmpty);
+                        return this;
+                    }
+
+                    @Override
+                    public Optional$N<$TP> filter(CheckedPredicate$N<$SUP> predicate) {
+                        return this;
+                    }
+
+                    @Override
+                    public <R> Optional<R> reduce(CheckedFunction$N<$SUP, ? extends R> mapper) {
+                        return Optional.empty();
+                    }
+
+                    @Override
+                    public <R> R reduceOrElse(CheckedFunction$N<$SUP, ? extends R> mapper, R other) {
+                        return other;
+                    }
+
+                    @Override
+                    public <R> Optional<R> flatMapReduce(CheckedFunction$N<$SUP, Optional<R>> mapper) {
+                        return Optional.empty();
+                    }
+            $EMPTY_ANDOF
+                    @Override
+                    public String toString() {
+                        return "Optional$N[$PERCENT_S]".formatted($ARGS);
+                    }
+
+                    private NoSuchElementException emptyException() {
+                        return new NoSuchElementException("One or more Optional$N values are empty: " + this);
+                    }
+                }
+            }
+            """
+            .replace("$ANDOF_DECLS", andOfDecls)
+            .replace("$PRESENT_ANDOF", presentAndOf)
+            .replace("$EMPTY_ANDOF", emptyAndOf)
+            .replace("$GETTER_DECLS", getterDecls)
+            .replace("$PRESENT_GETTERS", presentGetters)
+            .replace("$EMPTY_GETTERS", emptyGetters)
+            .replace("$EMPTY_FIELDS", emptyFields)
+            .replace("$ASSIGN_FIELDS", assignFields)
+            .replace("$REQUIRE_NON_NULL", join(n, "\n", i -> "            Objects.requireNonNull(value" + i + ");"))
+            .replace("$ALL_PRESENT", allPresent)
+            .replace("$ALL_EMPTY", allEmpty)
+            .replace("$ALL_BUT_LAST_PRESENT", allButLastPresent)
+            .replace("$PERCENT_S", percentS)
+            .replace("$NULLABLE_PARAMS", nullableParams)
+            .replace("$NULLS", join(n, i -> "null"))
+            .replace("$PREV_ARGS", args(prev))
+            .replace("$PREV", String.valueOf(prev))
+            .replace("$NEXT", String.valueOf(next))
+            .replace("$N", String.valueOf(n))
+            .replace("$TP", typeParams(n))
+            .replace("$SUP", superParams(n))
+            .replace("$PARAMS", params(n))
+            .replace("$ARGS", args(n));
+    }
+}
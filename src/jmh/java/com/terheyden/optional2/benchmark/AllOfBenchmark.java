@@ -0,0 +1,104 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import com.terheyden.optional2.OptionalAll;
+import com.terheyden.optional2.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validating a request with 16 optional fields: nested {@link Optional2}s (an object and a tuple per level)
+ * versus {@link OptionalAll}, with plain null checks as the floor. {@code emptyAt} is the first missing field,
+ * or -1 if none are, to show the early exit. Returns the index of the first empty field.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AllOfBenchmark {
+
+    private static final int FIELDS = 16;
+
+    @Param({ "-1", "2" })
+    public int emptyAt;
+
+    private final Object[] request = new Object[FIELDS];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < FIELDS; i++) {
+            request[i] = i == emptyAt ? null : "field" + i;
+        }
+    }
+
+    private Object field(int index) {
+        return request[index];
+    }
+
+    @Benchmark
+    public int nullChecks() {
+
+        for (int i = 0; i < FIELDS; i++) {
+            if (field(i) == null) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Benchmark
+    public int nestedOptional2() {
+
+        Optional2<Object, Object> fields = Optional2.ofNullable(field(0), field(1));
+
+        if (!fields.isPresent()) {
+            return field(0) == null ? 0 : 1;
+        }
+
+        for (int i = 2; i < FIELDS; i++) {
+
+            Tuple2<Object, Object> soFar = fields.get();
+            fields = Optional2.ofNullable(soFar, field(i));
+
+            if (!fields.isPresent()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Benchmark
+    public int allOfSuppliers() {
+        return Optional2.allOf(
+            () -> field(0), () -> field(1), () -> field(2), () -> field(3),
+            () -> field(4), () -> field(5), () -> field(6), () -> field(7),
+            () -> field(8), () -> field(9), () -> field(10), () -> field(11),
+            () -> field(12), () -> field(13), () -> field(14), () -> field(15))
+            .emptyIndex();
+    }
+
+    @Benchmark
+    public int allOfValues() {
+        return OptionalAll.ofNullable(
+            field(0), field(1), field(2), field(3),
+            field(4), field(5), field(6), field(7),
+            field(8), field(9), field(10), field(11),
+            field(12), field(13), field(14), field(15))
+            .emptyIndex();
+    }
+}
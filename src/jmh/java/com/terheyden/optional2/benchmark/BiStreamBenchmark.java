@@ -0,0 +1,68 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import com.terheyden.optional2.BiStream;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Pairs processed as a {@code Stream<Optional2>} versus a {@link BiStream}.
+ * Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BiStreamBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private List<String> names;
+    private List<Integer> nums;
+
+    @Setup
+    public void setup() {
+        names = IntStream.range(0, SIZE).mapToObj(i -> "Cora" + i).toList();
+        nums = Arrays.asList(IntStream.range(0, SIZE).boxed().toArray(Integer[]::new));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long optional2Stream() {
+        return IntStream.range(0, SIZE)
+            .mapToObj(i -> Optional2.ofNullable(names.get(i), nums.get(i)))
+            .map(opt -> opt.filter((name, num) -> num % 4 != 0))
+            .map(opt -> opt.map((name, num) -> name, (name, num) -> name.length() + num))
+            .flatMap(opt -> opt.reduce((name, len) -> len).stream())
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long biStream() {
+        return BiStream
+            .zip(names.stream(), nums.stream())
+            .filter((name, num) -> num % 4 != 0)
+            .mapSecond((name, num) -> name.length() + num)
+            .reduce((name, len) -> len)
+            .mapToLong(Integer::longValue)
+            .sum();
+    }
+}
@@ -0,0 +1,84 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 10k concurrent chains, each with a blocking lookup that sleeps to simulate I/O latency.
+ * {@code andOfBlocking} uses virtual threads on Java 21+ and the bounded pool on Java 17;
+ * {@code fixedPool} runs the same chains on a sized platform pool via {@code andOfAsync}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingBenchmark {
+
+    private static final int CHAINS = 10_000;
+    private static final long LATENCY_MILLIS = 10;
+
+    private ExecutorService fixedPool;
+
+    @Setup
+    public void setup() {
+        fixedPool = Executors.newFixedThreadPool(200);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixedPool.shutdownNow();
+    }
+
+    private static Integer lookup(String name) throws InterruptedException {
+        Thread.sleep(LATENCY_MILLIS);
+        return name.length();
+    }
+
+    @Benchmark
+    public long andOfBlocking() {
+
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[CHAINS];
+
+        for (int i = 0; i < CHAINS; i++) {
+            chains[i] = Optional2
+                .ofNullable("Cora" + i)
+                .andOfBlocking(BlockingBenchmark::lookup)
+                .toCompletableFuture();
+        }
+
+        return CompletableFuture.allOf(chains).thenApply(ignored -> chains.length).join();
+    }
+
+    @Benchmark
+    public long fixedPool() {
+
+        CompletableFuture<?>[] chains = new CompletableFuture<?>[CHAINS];
+
+        for (int i = 0; i < CHAINS; i++) {
+            String name = "Cora" + i;
+            chains[i] = Optional2
+                .async(() -> name, fixedPool)
+                .andOfAsync(BlockingBenchmark::lookup)
+                .toCompletableFuture();
+        }
+
+        return CompletableFuture.allOf(chains).thenApply(ignored -> chains.length).join();
+    }
+}
@@ -0,0 +1,103 @@
+package com.terheyden.optional2.benchmark;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import io.vavr.control.Option;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The README chain, {@code Optional2.of(name).andOf(findUserId).reduce(loginUser)},
+ * compared against the same logic written with null checks, {@link Optional}, and vavr.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean present;
+
+    @Nullable
+    private String name;
+
+    @Setup
+    public void setup() {
+        name = present ? "Cora" : null;
+    }
+
+    @Nullable
+    private static Integer findUserId(String name) {
+        return name.isEmpty() ? null : name.length();
+    }
+
+    private static User loginUser(String name, Integer userId) {
+        return new User(name, userId);
+    }
+
+    @Benchmark
+    @Nullable
+    public User nullChecks() {
+
+        if (name == null) {
+            return null;
+        }
+
+        Integer userId = findUserId(name);
+
+        if (userId == null) {
+            return null;
+        }
+
+        return loginUser(name, userId);
+    }
+
+    @Benchmark
+    @Nullable
+    public User javaOptional() {
+        return Optional.ofNullable(name)
+            .flatMap(nm -> Optional.ofNullable(findUserId(nm)).map(userId -> loginUser(nm, userId)))
+            .orElse(null);
+    }
+
+    @Benchmark
+    @Nullable
+    public User vavrTuple() {
+        return Option.of(name)
+            .flatMap(nm -> Option.of(findUserId(nm)).map(userId -> Tuple.of(nm, userId)))
+            .map((Tuple2<String, Integer> tup) -> tup.apply(ChainBenchmark::loginUser))
+            .getOrNull();
+    }
+
+    @Benchmark
+    @Nullable
+    public User optional2() {
+        return Optional2.ofNullable(name)
+            .andOf(ChainBenchmark::findUserId)
+            .reduce(ChainBenchmark::loginUser)
+            .orElse(null);
+    }
+
+    /**
+     * The result of the chain.
+     */
+    public record User(String name, Integer userId) {
+    }
+}
@@ -0,0 +1,83 @@
+package com.terheyden.optional2.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Deadline;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of a deadline on a lookup that finishes in time: {@code andOf} with a {@link Deadline},
+ * against plain {@code andOf} and the usual hand-written version, {@link CompletableFuture#orTimeout}
+ * on a thread pool. Both schedule a timer per call, but only {@code orTimeout} hops threads.
+ * {@code andOfNoDeadline} is {@link Deadline#none()}, which schedules nothing.
+ * The lookup itself is trivial, so this is all overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeadlineBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static Integer findUserId(String name) {
+        return name.length();
+    }
+
+    @Benchmark
+    public Integer andOf() {
+        return Optional2.ofNullable("Cora")
+            .andOf(DeadlineBenchmark::findUserId)
+            .getSecondValue();
+    }
+
+    @Benchmark
+    public Integer andOfNoDeadline() {
+        return Optional2.ofNullable("Cora")
+            .andOf(DeadlineBenchmark::findUserId, Deadline.none())
+            .getSecondValue();
+    }
+
+    @Benchmark
+    public Integer andOfTimeout() {
+        return Optional2.ofNullable("Cora")
+            .andOf(DeadlineBenchmark::findUserId, TIMEOUT)
+            .getSecondValue();
+    }
+
+    @Benchmark
+    public Integer orTimeout() {
+        return CompletableFuture.supplyAsync(() -> findUserId("Cora"), executor)
+            .orTimeout(TIMEOUT.toNanos(), TimeUnit.NANOSECONDS)
+            .join();
+    }
+}
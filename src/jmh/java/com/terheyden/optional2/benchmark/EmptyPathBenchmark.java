@@ -0,0 +1,75 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.EmptyValueException;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throwing and catching on an empty {@link Optional2}, the way validation code that uses
+ * {@code orElseThrow()} for control flow does. Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EmptyPathBenchmark {
+
+    private static final EmptyValueException NO_USER = EmptyValueException.preallocated("No user");
+
+    private final Optional2<String, UUID> empty = Optional2.ofNullable("Cora", null);
+
+    /**
+     * What {@code orElseThrow()} used to do: format the values, and capture the stack trace.
+     */
+    @Benchmark
+    public void eagerMessage(Blackhole blackhole) {
+        try {
+            blackhole.consume(empty.orElseThrow(() ->
+                new NoSuchElementException("One or more Optional2 values are empty: " + empty)));
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void orElseThrow(Blackhole blackhole) {
+        try {
+            blackhole.consume(empty.orElseThrow());
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void orElseThrowStackless(Blackhole blackhole) {
+        try {
+            blackhole.consume(empty.orElseThrowStackless());
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void preallocated(Blackhole blackhole) {
+        try {
+            blackhole.consume(empty.orElseThrow(() -> NO_USER));
+        } catch (NoSuchElementException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.terheyden.optional2.benchmark;
+
+import java.time.DayOfWeek;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Recurring pairs, kept (as a cache or a batch would keep them) so they can't be scalar-replaced:
+ * a fresh {@link Optional2} each time, versus {@link Optional2#interned(Object, Object)}.
+ * Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InternBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String[] REGIONS = { "us-east", "us-west", "eu-west", "ap-south" };
+
+    private final String[] tenants = new String[SIZE];
+    private final String[] regions = new String[SIZE];
+    private final DayOfWeek[] days = new DayOfWeek[SIZE];
+    private final TimeUnit[] units = new TimeUnit[SIZE];
+
+    private final Object[] kept = new Object[SIZE];
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            tenants[i] = "tenant-" + random.nextInt(100);
+            regions[i] = REGIONS[random.nextInt(REGIONS.length)];
+            days[i] = DayOfWeek.values()[random.nextInt(7)];
+            units[i] = TimeUnit.values()[random.nextInt(7)];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Object[] stringsFresh() {
+
+        for (int i = 0; i < SIZE; i++) {
+            kept[i] = Optional2.of(tenants[i], regions[i]);
+        }
+
+        return kept;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Object[] stringsInterned() {
+
+        for (int i = 0; i < SIZE; i++) {
+            kept[i] = Optional2.interned(tenants[i], regions[i]);
+        }
+
+        return kept;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Object[] enumsFresh() {
+
+        for (int i = 0; i < SIZE; i++) {
+            kept[i] = Optional2.of(days[i], units[i]);
+        }
+
+        return kept;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public Object[] enumsInterned() {
+
+        for (int i = 0; i < SIZE; i++) {
+            kept[i] = Optional2.interned(days[i], units[i]);
+        }
+
+        return kept;
+    }
+}
@@ -0,0 +1,136 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import io.vavr.Tuple;
+import io.vavr.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A pair of values as a {@link HashMap} key, built fresh for each lookup, the way a cache keyed on
+ * two values is used: {@link Optional2} versus vavr {@link Tuple2} versus a concatenated {@link String}.
+ * The pairs are a region name and a small sequential id, the kind of key where {@code 31 * h1 + h2} collides.
+ * Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MapKeyBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final String[] REGIONS = { "us-east", "us-west", "eu-west", "ap-south" };
+
+    private final String[] regions = new String[SIZE];
+    private final Integer[] ids = new Integer[SIZE];
+
+    private final Map<Optional2<String, Integer>, Integer> optional2Map = new HashMap<>();
+    private final Map<Tuple2<String, Integer>, Integer> tuple2Map = new HashMap<>();
+    private final Map<String, Integer> stringMap = new HashMap<>();
+
+    @Setup
+    public void setup() {
+
+        for (int i = 0; i < SIZE; i++) {
+            regions[i] = REGIONS[i % REGIONS.length];
+            ids[i] = i / REGIONS.length;
+
+            optional2Map.put(Optional2.of(regions[i], ids[i]), i);
+            tuple2Map.put(Tuple.of(regions[i], ids[i]), i);
+            stringMap.put(regions[i] + ":" + ids[i], i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long optional2Get() {
+
+        long sum = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            sum += optional2Map.get(Optional2.of(regions[i], ids[i]));
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long tuple2Get() {
+
+        long sum = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            sum += tuple2Map.get(Tuple.of(regions[i], ids[i]));
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long stringGet() {
+
+        long sum = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            sum += stringMap.get(regions[i] + ":" + ids[i]);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int optional2Put() {
+
+        Map<Optional2<String, Integer>, Integer> map = new HashMap<>(SIZE * 2);
+
+        for (int i = 0; i < SIZE; i++) {
+            map.put(Optional2.of(regions[i], ids[i]), i);
+        }
+
+        return map.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int tuple2Put() {
+
+        Map<Tuple2<String, Integer>, Integer> map = new HashMap<>(SIZE * 2);
+
+        for (int i = 0; i < SIZE; i++) {
+            map.put(Tuple.of(regions[i], ids[i]), i);
+        }
+
+        return map.size();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int stringPut() {
+
+        Map<String, Integer> map = new HashMap<>(SIZE * 2);
+
+        for (int i = 0; i < SIZE; i++) {
+            map.put(regions[i] + ":" + ids[i], i);
+        }
+
+        return map.size();
+    }
+}
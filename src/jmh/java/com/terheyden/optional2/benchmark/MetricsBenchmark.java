@@ -0,0 +1,85 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.CheckedFunction1;
+import com.terheyden.optional2.CheckedFunction2;
+import com.terheyden.optional2.Optional2;
+import com.terheyden.optional2.Optional2Metrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of {@link Optional2Metrics}: a plain chain, versus the same chain with its steps
+ * and run instrumented. Metrics are off by default, so the two should match;
+ * run with {@code -jvmArgs -Doptional2.metrics=true} to see the cost when on.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final Optional2Metrics.Chain CHAIN = Optional2Metrics.chain("benchmark");
+
+    private static final CheckedFunction1<String, Integer> LENGTH = CHAIN.step("length", String::length);
+    private static final CheckedFunction2<String, Integer, Integer> SUM = CHAIN.step("sum", (String name, Integer len) -> name.hashCode() + len);
+
+    private final String[] names = new String[SIZE];
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = random.nextDouble() < 0.9 ? "Cora" + i : null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long plain() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += Optional2
+                .ofNullable(name)
+                .andOf(String::length)
+                .reduceOrElse((nm, len) -> nm.hashCode() + len, 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long instrumented() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += CHAIN.run(() -> Optional2
+                .ofNullable(name)
+                .andOf(LENGTH)
+                .reduceOrElse(SUM, 0));
+        }
+
+        return sum;
+    }
+}
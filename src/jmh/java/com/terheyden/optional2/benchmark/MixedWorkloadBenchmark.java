@@ -0,0 +1,94 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional1;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Long chains over a mix of present and empty inputs, so that every step's presence check
+ * sees both outcomes. {@code presentRatio} selects a mostly-present or mostly-empty workload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MixedWorkloadBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({ "0.9", "0.1" })
+    public double presentRatio;
+
+    private final String[] names = new String[SIZE];
+    private final Optional2<String, Integer>[] opts = new Optional2[SIZE];
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            boolean present = random.nextDouble() < presentRatio;
+            names[i] = present ? "Cora" + i : null;
+            opts[i] = present
+                ? Optional2.of(names[i], i)
+                : Optional2.ofNullable(null, null);
+        }
+    }
+
+    /**
+     * The README chain: {@code ifEmpty().or().andOf().or().ifPresent()}.
+     */
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long readmeChain() {
+
+        long[] sum = new long[1];
+
+        for (String name : names) {
+            Optional1<String> opt1 = Optional2.ofNullable(name);
+            opt1
+                .ifEmpty(() -> sum[0]--)
+                .or(() -> Optional.empty())
+                .andOf(String::length)
+                .or(() -> Optional.of(0))
+                .ifPresent((nm, len) -> sum[0] += len);
+        }
+
+        return sum[0];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long optional2Chain() {
+
+        long sum = 0;
+
+        for (Optional2<String, Integer> opt : opts) {
+            sum += opt
+                .filter((name, num) -> num >= 0)
+                .map(String::length, num -> num + 1)
+                .or(7)
+                .reduceOrElse((len, num) -> len + num, 0);
+        }
+
+        return sum;
+    }
+}
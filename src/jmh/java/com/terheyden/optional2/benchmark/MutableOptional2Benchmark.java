@@ -0,0 +1,88 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.MutableOptional2;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A parsing loop that runs a filter / map / or / reduce chain per record:
+ * a fresh immutable {@link Optional2} per step, versus one reused {@link MutableOptional2} cursor.
+ * Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MutableOptional2Benchmark {
+
+    private static final int SIZE = 1024;
+
+    private final String[] keys = new String[SIZE];
+    private final String[] values = new String[SIZE];
+
+    private final MutableOptional2<String, String> cursor = MutableOptional2.create();
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            keys[i] = random.nextDouble() < 0.9 ? "key" + i : "";
+            values[i] = random.nextDouble() < 0.8 ? Integer.toString(random.nextInt(1000)) : null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long immutable() {
+
+        long sum = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            sum += Optional2
+                .ofNullable(keys[i], values[i])
+                .or("0")
+                .filter((key, value) -> !key.isEmpty())
+                .map(String::length, Integer::parseInt)
+                .map((len, num) -> len + num, (len, num) -> num)
+                .reduceOrElse(Integer::sum, 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long cursor() {
+
+        long sum = 0;
+
+        for (int i = 0; i < SIZE; i++) {
+            sum += cursor
+                .reset(keys[i], values[i])
+                .or("0")
+                .filter((key, value) -> !key.isEmpty())
+                .map(String::length, Integer::parseInt)
+                .map((len, num) -> len + num, (len, num) -> num)
+                .reduceOrElse(Integer::sum, 0);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,99 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional1;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-operation cost of the {@link Optional1} API, on both the present and empty paths.
+ * Run with {@code -prof gc} to see allocation per operation.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Optional1Benchmark {
+
+    @Param({ "true", "false" })
+    public boolean present;
+
+    private Optional1<String> opt1;
+
+    @Setup
+    public void setup() {
+        opt1 = present
+            ? Optional2.of("Cora")
+            : Optional1.empty();
+    }
+
+    @Benchmark
+    public Object andOf() {
+        return opt1.andOf(String::length);
+    }
+
+    @Benchmark
+    public Object map() {
+        return opt1.map(String::length);
+    }
+
+    @Benchmark
+    public Object flatMap() {
+        return opt1.flatMap(name -> Optional.of(name.length()));
+    }
+
+    @Benchmark
+    public Object filter() {
+        return opt1.filter(name -> !name.isEmpty());
+    }
+
+    @Benchmark
+    public Object orValue() {
+        return opt1.or("Other");
+    }
+
+    @Benchmark
+    public Object orSupplier() {
+        return opt1.or(() -> Optional.of("Other"));
+    }
+
+    @Benchmark
+    public Object ifPresent(Blackhole bh) {
+        return opt1.ifPresent(bh::consume);
+    }
+
+    @Benchmark
+    public Object throwIfEmpty() {
+        try {
+            return opt1.throwIfEmpty();
+        } catch (NoSuchElementException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object getOptional() {
+        return opt1.getOptional();
+    }
+
+    @Benchmark
+    public Object orElse() {
+        return opt1.orElse("Other");
+    }
+}
@@ -0,0 +1,88 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import com.terheyden.optional2.Optional2Batch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The same or/filter/map/sum over a list of {@link Optional2}s versus an {@link Optional2Batch}.
+ * Batch operations work in place, so each batch invocation starts from a {@link Optional2Batch#copy()},
+ * and that copy is included in the measured cost. Run with {@code -prof gc} to compare allocations.
+ * <p>
+ * Each batch operation is its own pass over the columns, so a step that reads the values
+ * (rather than only their presence) pays for visiting them again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Optional2BatchBenchmark {
+
+    @Param({ "1024", "1048576" })
+    public int size;
+
+    private final List<Optional2<String, Integer>> list = new ArrayList<>();
+    private Optional2Batch<String, Integer> batch;
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+        list.clear();
+
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextDouble() < 0.9
+                ? Optional2.of("Cora" + i, i)
+                : Optional2.ofNullable("Cora" + i, null));
+        }
+
+        batch = Optional2Batch.unzip(list);
+    }
+
+    @Benchmark
+    public long optional2List() {
+
+        long sum = 0;
+
+        for (Optional2<String, Integer> opt : list) {
+            sum += opt
+                .or(0)
+                .filter((name, num) -> (num & 3) != 0)
+                .map((name, num) -> name, (name, num) -> name.length())
+                .reduceOrElse((name, len) -> len, 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long optional2Batch() {
+
+        long[] sum = new long[1];
+
+        batch.copy()
+            .or(0)
+            .filter((name, num) -> (num & 3) != 0)
+            .map((name, num) -> name, (name, num) -> name.length())
+            .ifPresent((name, len) -> sum[0] += len);
+
+        return sum[0];
+    }
+}
@@ -0,0 +1,108 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-operation cost of the {@link Optional2} API, on both the present and empty paths.
+ * Run with {@code -prof gc} to see allocation per operation.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Optional2Benchmark {
+
+    @Param({ "true", "false" })
+    public boolean present;
+
+    private Optional2<String, Integer> opt2;
+
+    @Setup
+    public void setup() {
+        opt2 = present
+            ? Optional2.of("Cora", 42)
+            : Optional2.empty();
+    }
+
+    @Benchmark
+    public Object map() {
+        return opt2.map(String::length, num -> num + 1);
+    }
+
+    @Benchmark
+    public Object mapBoth() {
+        return opt2.map((name, num) -> name.length() + num, (name, num) -> num);
+    }
+
+    @Benchmark
+    public Object flatMap() {
+        return opt2.flatMap(name -> Optional.of(name.length()), num -> Optional.of(num + 1));
+    }
+
+    @Benchmark
+    public Object filter() {
+        return opt2.filter((name, num) -> num > 0);
+    }
+
+    @Benchmark
+    public Object reduce() {
+        return opt2.reduce((name, num) -> name.length() + num);
+    }
+
+    @Benchmark
+    public Object flatMapReduce() {
+        return opt2.flatMapReduce((name, num) -> Optional.of(name.length() + num));
+    }
+
+    @Benchmark
+    public Object orValue() {
+        return opt2.or(7);
+    }
+
+    @Benchmark
+    public Object orSupplier() {
+        return opt2.or(() -> Optional.of(7));
+    }
+
+    @Benchmark
+    public Object ifPresent(Blackhole bh) {
+        return opt2.ifPresent((name, num) -> bh.consume(num));
+    }
+
+    @Benchmark
+    public Object throwIfEmpty() {
+        try {
+            return opt2.throwIfEmpty();
+        } catch (NoSuchElementException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object getOptional() {
+        return opt2.getOptional();
+    }
+
+    @Benchmark
+    public Object orElse() {
+        return opt2.orElse("Other", 7);
+    }
+}
@@ -0,0 +1,91 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.Optional2;
+import com.terheyden.optional2.Optional2Pipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The same chain applied to many inputs: built fluently per input, versus
+ * defined once as an {@link Optional2Pipeline}. Run with {@code -prof gc} to compare allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+    private static final int SIZE = 1024;
+
+    @Param({ "0.9", "0.1" })
+    public double presentRatio;
+
+    private final String[] names = new String[SIZE];
+
+    private final Optional2Pipeline<String, Integer> pipeline = Optional2Pipeline.<String>builder()
+        .filter(name -> name.length() > 2)
+        .andOf(String::length)
+        .or(() -> Optional.of(0))
+        .filter((name, len) -> len < 100)
+        .map(String::length, len -> len + 1)
+        .reduce(Integer::sum);
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = random.nextDouble() < presentRatio ? "Cora" + i : null;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long fluentChain() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += Optional2
+                .ofNullable(name)
+                .filter(nm -> nm.length() > 2)
+                .andOf(String::length)
+                .or(() -> Optional.of(0))
+                .filter((nm, len) -> len < 100)
+                .map(String::length, len -> len + 1)
+                .reduceOrElse(Integer::sum, 0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long pipeline() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += pipeline.applyOrElse(name, 0);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,228 @@
+package com.terheyden.optional2.benchmark;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.terheyden.optional2.Optional2;
+import com.terheyden.optional2.Optional2Processor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Streams names through the README chain with {@link Optional2Processor}, per element.
+ * One in eight names is blank and comes out empty. {@code loop} is the same chain in a plain loop,
+ * and {@code submissionPublisher} is the usual hand-written alternative: one async hop per element,
+ * with the chain in the consumer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProcessorBenchmark {
+
+    private static final int SIZE = 4096;
+
+    @Param({ "16", "256" })
+    public int maxInFlight;
+
+    private final String[] names = new String[SIZE];
+    private ExecutorService executor;
+
+    @Setup
+    public void setup() {
+
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = i % 8 == 0 ? "" : "Cora" + i;
+        }
+
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nullable
+    private static Integer findUserId(String name) {
+        return name.isEmpty() ? null : name.length();
+    }
+
+    private static long loginUser(String name, Integer userId) {
+        return name.hashCode() + userId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void loop(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(Optional2.ofNullable(name)
+                .andOf(ProcessorBenchmark::findUserId)
+                .reduceOrElse(ProcessorBenchmark::loginUser, -1L));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long processor(Blackhole blackhole) throws InterruptedException {
+
+        Optional2Processor<String, Integer, Long> processor = Optional2Processor.<String>builder()
+            .andOf(ProcessorBenchmark::findUserId)
+            .maxInFlight(maxInFlight)
+            .reduce(ProcessorBenchmark::loginUser);
+
+        return run(processor, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long asyncProcessor(Blackhole blackhole) throws InterruptedException {
+
+        Optional2Processor<String, Integer, Long> processor = Optional2Processor.<String>builder()
+            .andOfAsync(ProcessorBenchmark::findUserId, executor)
+            .maxInFlight(maxInFlight)
+            .reduce(ProcessorBenchmark::loginUser);
+
+        return run(processor, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long submissionPublisher(Blackhole blackhole) {
+
+        try (SubmissionPublisher<String> publisher = new SubmissionPublisher<>(executor, maxInFlight)) {
+
+            var done = publisher.consume(name -> blackhole.consume(Optional2.ofNullable(name)
+                .andOf(ProcessorBenchmark::findUserId)
+                .reduceOrElse(ProcessorBenchmark::loginUser, -1L)));
+
+            for (String name : names) {
+                publisher.submit(name);
+            }
+
+            publisher.close();
+            done.join();
+            return SIZE;
+        }
+    }
+
+    private long run(Optional2Processor<String, Integer, Long> processor, Blackhole blackhole)
+        throws InterruptedException {
+
+        CountingSubscriber subscriber = new CountingSubscriber(blackhole);
+        new ArrayPublisher(names).subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.done.await();
+        return subscriber.count;
+    }
+
+    /**
+     * Publishes an array on whichever thread requests more, one at a time.
+     */
+    private static final class ArrayPublisher implements Flow.Publisher<String> {
+
+        private final String[] items;
+
+        private ArrayPublisher(String[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super String> subscriber) {
+
+            AtomicLong requested = new AtomicLong();
+            AtomicInteger wip = new AtomicInteger();
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                private int index;
+                private volatile boolean cancelled;
+
+                @Override
+                public void request(long n) {
+
+                    requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+
+                    int missed = 1;
+
+                    do {
+                        while (!cancelled && index < items.length && requested.get() > 0) {
+                            requested.decrementAndGet();
+                            subscriber.onNext(items[index++]);
+                        }
+
+                        if (!cancelled && index == items.length) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                        }
+
+                        missed = wip.addAndGet(-missed);
+                    } while (missed != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+    private static final class CountingSubscriber implements Flow.Subscriber<Long> {
+
+        private final Blackhole blackhole;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private long count;
+
+        private CountingSubscriber(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Long item) {
+            blackhole.consume(item);
+            count++;
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            throwable.printStackTrace();
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
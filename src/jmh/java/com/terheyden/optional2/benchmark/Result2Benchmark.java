@@ -0,0 +1,126 @@
+package com.terheyden.optional2.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.terheyden.optional2.EmptyValueException;
+import com.terheyden.optional2.Optional2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A batch of lookups where some fail: catching the sneaky-thrown exception around each chain,
+ * versus keeping it as a value via {@code andOfTry}. Each failure throws a fresh exception
+ * in both cases; {@code stackless} also shows a lookup that throws a preallocated one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class Result2Benchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final EmptyValueException LOOKUP_FAILED = EmptyValueException.preallocated("Lookup failed");
+
+    @Param({ "0.05", "0.1" })
+    public double failureRatio;
+
+    private final String[] names = new String[SIZE];
+
+    @Setup
+    public void setup() {
+
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = random.nextDouble() < failureRatio ? "fail" : "Cora" + i;
+        }
+    }
+
+    private static Integer lookup(String name) {
+
+        if (name.equals("fail")) {
+            throw new IllegalStateException("Lookup failed: " + name);
+        }
+
+        return name.length();
+    }
+
+    private static Integer lookupStackless(String name) {
+
+        if (name.equals("fail")) {
+            throw LOOKUP_FAILED;
+        }
+
+        return name.length();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long tryCatch() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            try {
+                sum += Optional2
+                    .ofNullable(name)
+                    .andOf(Result2Benchmark::lookup)
+                    .reduceOrElse((nm, len) -> nm.length() + len, 0);
+            } catch (IllegalStateException e) {
+                sum--;
+            }
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long andOfTry() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += Optional2
+                .ofNullable(name)
+                .andOfTry(Result2Benchmark::lookup)
+                .recover(ex -> -1)
+                .reduce((nm, len) -> nm.length() + len)
+                .orElse(0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public long andOfTryStackless() {
+
+        long sum = 0;
+
+        for (String name : names) {
+            sum += Optional2
+                .ofNullable(name)
+                .andOfTry(Result2Benchmark::lookupStackless)
+                .recover(ex -> -1)
+                .reduce((nm, len) -> nm.length() + len)
+                .orElse(0);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,116 @@
+package com.terheyden.optional2.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+/**
+ * Cold-start cost of the library: runs {@code StartupProbe} in fresh JVMs and reports the time
+ * to the first {@code Optional2} chain, the whole JVM's wall time, and how many classes were loaded
+ * by the time the chain finished. JMH can't measure this, since its own harness warms up the JVM first.
+ * <p>
+ * Build with {@code mvn -Pjmh package -DskipTests} (and {@code mvn -Pcds package -DskipTests} for the CDS archive;
+ * neither profile changes the library jar, so the order doesn't matter), then run against the library jar alone,
+ * adding any JVM options to compare (like the CDS archive, which is only valid for the jar it was recorded with):
+ * <pre>
+ * java -cp target/benchmarks.jar com.terheyden.optional2.benchmark.StartupBenchmark \
+ *     target/optional2-0.0.1-SNAPSHOT.jar [-XX:SharedArchiveFile=target/optional2.jsa]
+ * </pre>
+ * Set {@code -Dstartup.runs} to change the number of JVMs (default 20, plus one discarded).
+ */
+public final class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("startup.runs", 20);
+    private static final String PROBE = "com.terheyden.optional2.StartupProbe";
+    private static final String DONE = PROBE + "$Done";
+
+    private StartupBenchmark() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    public static void main(String... args) throws IOException, InterruptedException {
+
+        if (args.length == 0) {
+            System.err.println("Usage: StartupBenchmark <library jar> [JVM options...]");
+            System.exit(1);
+        }
+
+        List<String> jvmOptions = Arrays.asList(args).subList(1, args.length);
+        List<Run> runs = new ArrayList<>();
+
+        // The first JVM pays for cold file caches; don't count it.
+        run(args[0], jvmOptions);
+
+        for (int i = 0; i < RUNS; i++) {
+            runs.add(run(args[0], jvmOptions));
+        }
+
+        System.out.printf("%d JVMs, %s%n", RUNS, jvmOptions.isEmpty() ? "no extra options" : jvmOptions);
+        report("first chain (us)", runs, run -> TimeUnit.NANOSECONDS.toMicros(run.chainNanos()));
+        report("JVM wall (ms)", runs, run -> TimeUnit.NANOSECONDS.toMillis(run.wallNanos()));
+        report("classes loaded", runs, Run::classesLoaded);
+    }
+
+    private static Run run(String jar, List<String> jvmOptions) throws IOException, InterruptedException {
+
+        Path classLog = Files.createTempFile("startup", ".log");
+
+        try {
+            List<String> command = new ArrayList<>();
+            command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+            command.addAll(jvmOptions);
+            command.add("-Xlog:class+load:file=" + classLog);
+            command.add("-cp");
+            command.add(jar);
+            command.add(PROBE);
+
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            String output = new String(process.getInputStream().readAllBytes());
+            int exitCode = process.waitFor();
+            long wallNanos = System.nanoTime() - start;
+
+            if (exitCode != 0) {
+                throw new IllegalStateException("StartupProbe failed:\n" + output);
+            }
+
+            long chainNanos = Long.parseLong(output.lines().findFirst().orElseThrow().trim());
+            return new Run(chainNanos, wallNanos, classesLoadedBefore(classLog, DONE));
+
+        } finally {
+            Files.deleteIfExists(classLog);
+        }
+    }
+
+    /**
+     * Counts the classes in the {@code -Xlog:class+load} log up to the given class.
+     */
+    private static long classesLoadedBefore(Path classLog, String className) throws IOException {
+
+        List<String> lines = Files.readAllLines(classLog);
+        String marker = " " + className + " ";
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).contains(marker)) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException(className + " was never loaded");
+    }
+
+    private static void report(String label, List<Run> runs, ToLongFunction<Run> metric) {
+
+        long[] values = runs.stream().mapToLong(metric).sorted().toArray();
+        System.out.printf("  %-18s median %7d   min %7d   max %7d%n",
+            label, values[values.length / 2], values[0], values[values.length - 1]);
+    }
+
+    private record Run(long chainNanos, long wallNanos, long classesLoaded) {
+    }
+}
@@ -0,0 +1,131 @@
+package com.terheyden.optional2;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Optional1} whose value is still being computed. Each {@code Async} step runs
+ * on the given {@link Executor}, so a chain of slow lookups never blocks the calling thread:
+ * <pre>{@code
+ * CompletionStage<Optional<TestUser>> user = Optional2
+ *     .async(() -> findUserName(request), executor)
+ *     .andOfAsync(name -> TestService.findUserId(name))
+ *     .reduceAsync((name, userId) -> TestService.loginUser(userId, name));
+ * }</pre>
+ * Create via {@link Optional2#async(CheckedFunction0, Executor)} or {@link #of(CompletionStage, Executor)}.
+ * Mapper exceptions complete the chain exceptionally.
+ */
+public final class AsyncOptional1<C> {
+
+    private final CompletableFuture<Optional1<C>> future;
+    private final Executor executor;
+
+    /* package */ AsyncOptional1(CompletableFuture<Optional1<C>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Wraps a stage that produces a nullable value. Later steps run on the given executor.
+     */
+    public static <C> AsyncOptional1<C> of(CompletionStage<? extends C> stage, Executor executor) {
+        return new AsyncOptional1<>(
+            stage.toCompletableFuture().thenApply(Optional2::ofNullable),
+            executor);
+    }
+
+    /**
+     * Adds a second value computed from the first. The mapper runs on the executor
+     * once the first value is present, and not at all if it's empty.
+     * A null result leaves the second value empty.
+     *
+     * @see Optional1#andOf(CheckedFunction1)
+     */
+    public <D> AsyncOptional2<C, D> andOfAsync(CheckedFunction1<? super C, ? extends D> valueMapper) {
+        return new AsyncOptional2<>(future.thenCompose(opt1 -> {
+
+            if (!(opt1 instanceof Optional1.Present<C> present)) {
+                return CompletableFuture.completedFuture(Optional2.empty());
+            }
+
+            C obj1 = present.value();
+            return Optional2Utils
+                .supplyAsync(() -> valueMapper.apply(obj1), executor)
+                .thenApply(obj2 -> Optional2.ofNullable(obj1, obj2));
+
+        }), executor);
+    }
+
+    /**
+     * Adds a second value that doesn't depend on the first. The supplier starts on the executor
+     * right away, in parallel with the first value, and is cancelled (interrupted if running)
+     * if the first value turns out to be empty.
+     */
+    public <D> AsyncOptional2<C, D> andOfAsync(CheckedFunction0<? extends D> supplyObj2) {
+
+        CompletableFuture<D> second = Optional2Utils.supplyAsync(supplyObj2, executor);
+
+        future.whenComplete((opt1, throwable) -> {
+            if (throwable != null || opt1.isEmpty()) {
+                second.cancel(true);
+            }
+        });
+
+        return new AsyncOptional2<>(future.thenCompose(opt1 -> opt1 instanceof Optional1.Present<C> present
+            ? second.thenApply(obj2 -> Optional2.ofNullable(present.value(), obj2))
+            : CompletableFuture.completedFuture(Optional2.empty())), executor);
+    }
+
+    /**
+     * @see Optional1#map(CheckedFunction1)
+     */
+    public <B> AsyncOptional1<B> mapAsync(CheckedFunction1<? super C, ? extends B> mapper) {
+        return new AsyncOptional1<>(future.thenCompose(opt1 -> opt1 instanceof Optional1.Present<C> present
+            ? Optional2Utils.supplyAsync(() -> mapper.apply(present.value()), executor).thenApply(Optional2::ofNullable)
+            : CompletableFuture.completedFuture(Optional1.empty())), executor);
+    }
+
+    /**
+     * If the value is empty, ask the supplier on the executor.
+     *
+     * @see Optional1#or(CheckedFunction0)
+     */
+    public AsyncOptional1<C> orAsync(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+        return new AsyncOptional1<>(future.thenCompose(opt1 -> opt1.isPresent()
+            ? CompletableFuture.completedFuture(opt1)
+            : Optional2Utils.supplyAsync(supplyIfEmpty, executor).thenApply(opt -> Optional2.ofNullable(opt.orElse(null)))),
+            executor);
+    }
+
+    /**
+     * A quick check, run on whichever thread completes the value.
+     *
+     * @see Optional1#filter(CheckedPredicate)
+     */
+    public AsyncOptional1<C> filter(CheckedPredicate<? super C> predicate) {
+        return new AsyncOptional1<>(future.thenApply(opt1 -> opt1.filter(predicate)), executor);
+    }
+
+    /**
+     * The result, once complete.
+     */
+    public CompletableFuture<Optional1<C>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Wait for the result. Exceptions are rethrown as they were thrown by the mapper.
+     */
+    public Optional1<C> join() {
+        return Optional2Utils.join(future);
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() && !future.isCompletedExceptionally()
+            ? "Async" + future.join()
+            : "AsyncOptional1[?]";
+    }
+}
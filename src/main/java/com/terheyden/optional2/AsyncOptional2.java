@@ -0,0 +1,134 @@
+package com.terheyden.optional2;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Optional2} whose values are still being computed.
+ * Create via {@link AsyncOptional1#andOfAsync(CheckedFunction1)}.
+ *
+ * @see AsyncOptional1
+ */
+public final class AsyncOptional2<C, D> {
+
+    private final CompletableFuture<Optional2<C, D>> future;
+    private final Executor executor;
+
+    /* package */ AsyncOptional2(CompletableFuture<Optional2<C, D>> future, Executor executor) {
+        this.future = future;
+        this.executor = executor;
+    }
+
+    /**
+     * Maps both values in parallel on the executor. If the first mapper returns null
+     * or fails, the second is cancelled (interrupted if running), and the result is empty.
+     *
+     * @see Optional2#map(CheckedFunction1, CheckedFunction1)
+     */
+    public <A, E> AsyncOptional2<A, E> mapAsync(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2) {
+
+        return new AsyncOptional2<>(future.thenCompose(opt2 -> opt2 instanceof Optional2.Present<C, D> present
+            ? both(
+                Optional2Utils.supplyAsync(() -> mapper1.apply(present.first()), executor),
+                Optional2Utils.supplyAsync(() -> mapper2.apply(present.second()), executor))
+            : CompletableFuture.completedFuture(Optional2.empty())), executor);
+    }
+
+    /**
+     * Maps both values in parallel on the executor, using both values.
+     *
+     * @see #mapAsync(CheckedFunction1, CheckedFunction1)
+     */
+    public <A, E> AsyncOptional2<A, E> mapAsync(
+        CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+        return new AsyncOptional2<>(future.thenCompose(opt2 -> opt2 instanceof Optional2.Present<C, D> present
+            ? both(
+                Optional2Utils.supplyAsync(() -> mapper1.apply(present.first(), present.second()), executor),
+                Optional2Utils.supplyAsync(() -> mapper2.apply(present.first(), present.second()), executor))
+            : CompletableFuture.completedFuture(Optional2.empty())), executor);
+    }
+
+    /**
+     * If the first value is present but the second isn't, ask the supplier on the executor.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    public AsyncOptional2<C, D> orAsync(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+        return new AsyncOptional2<>(future.thenCompose(opt2 -> {
+
+            if (!(opt2 instanceof Optional2.Empty<C, D> partial) || partial.firstOrNull() == null) {
+                return CompletableFuture.completedFuture(opt2);
+            }
+
+            C obj1 = partial.firstOrNull();
+            return Optional2Utils
+                .supplyAsync(supplyIfEmpty, executor)
+                .thenApply(opt -> Optional2.ofNullable(obj1, opt.orElse(null)));
+
+        }), executor);
+    }
+
+    /**
+     * A quick check, run on whichever thread completes the values.
+     *
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    public AsyncOptional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+        return new AsyncOptional2<>(future.thenApply(opt2 -> opt2.filter(predicate)), executor);
+    }
+
+    /**
+     * If both values are present, combine them on the executor.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    public <E> CompletionStage<Optional<E>> reduceAsync(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+        return future.thenCompose(opt2 -> opt2 instanceof Optional2.Present<C, D> present
+            ? Optional2Utils.supplyAsync(() -> mapper.apply(present.first(), present.second()), executor)
+                .thenApply(Optional::ofNullable)
+            : CompletableFuture.completedFuture(Optional.empty()));
+    }
+
+    /**
+     * The result, once complete.
+     */
+    public CompletableFuture<Optional2<C, D>> toCompletableFuture() {
+        return future;
+    }
+
+    /**
+     * Wait for the result. Exceptions are rethrown as they were thrown by the mapper.
+     */
+    public Optional2<C, D> join() {
+        return Optional2Utils.join(future);
+    }
+
+    /**
+     * Pairs up two in-flight values, cancelling the second if the first comes back empty or fails.
+     */
+    private static <A, E> CompletableFuture<Optional2<A, E>> both(CompletableFuture<A> first, CompletableFuture<E> second) {
+
+        first.whenComplete((obj1, throwable) -> {
+            if (throwable != null || obj1 == null) {
+                second.cancel(true);
+            }
+        });
+
+        return first.thenCompose(obj1 -> obj1 == null
+            ? CompletableFuture.completedFuture(Optional2.empty())
+            : second.thenApply(obj2 -> Optional2.ofNullable(obj1, obj2)));
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() && !future.isCompletedExceptionally()
+            ? "Async" + future.join()
+            : "AsyncOptional2[?,?]";
+    }
+}
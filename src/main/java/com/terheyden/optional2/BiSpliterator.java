@@ -0,0 +1,45 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Spliterator;
+
+/**
+ * A {@link Spliterator} over pairs of values, which hands each pair to a {@link Consumer2}
+ * instead of wrapping it in a tuple. Backs {@link BiStream}.
+ * Pairs are never null; characteristics are the same as {@link Spliterator}'s.
+ */
+/* package */ interface BiSpliterator<C, D> {
+
+    /**
+     * If a pair remains, pass it to the action and return true.
+     */
+    boolean tryAdvance(Consumer2<? super C, ? super D> action);
+
+    /**
+     * Pass every remaining pair to the action.
+     */
+    default void forEachRemaining(Consumer2<? super C, ? super D> action) {
+        boolean advanced;
+        do {
+            advanced = tryAdvance(action);
+        } while (advanced);
+    }
+
+    /**
+     * Split off a prefix of the remaining pairs, or return null if they can't be split.
+     *
+     * @see Spliterator#trySplit()
+     */
+    @Nullable
+    BiSpliterator<C, D> trySplit();
+
+    /**
+     * @see Spliterator#estimateSize()
+     */
+    long estimateSize();
+
+    /**
+     * @see Spliterator#characteristics()
+     */
+    int characteristics();
+}
@@ -0,0 +1,449 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * The {@link BiSpliterator} implementations behind {@link BiStream}.
+ */
+/* package */ final class BiSpliterators {
+
+    /**
+     * Characteristics that survive a step which may drop pairs.
+     */
+    private static final int DROPPING_MASK = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private BiSpliterators() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    /**
+     * A step applied to each pair; passes zero or one pairs downstream.
+     */
+    @FunctionalInterface
+    /* package */ interface Step<C, D, A, E> {
+
+        /**
+         * Handle one pair, passing a result pair to the downstream consumer if there is one.
+         *
+         * @return true if a pair was passed downstream
+         */
+        boolean push(C obj1, D obj2, Consumer2<? super A, ? super E> downstream);
+    }
+
+    /**
+     * Captures the element handed over by a {@link Spliterator#tryAdvance(Consumer)} call.
+     * Reused for every element, so the sequential path allocates nothing.
+     */
+    private static final class Holder<T> implements Consumer<T> {
+
+        @Nullable
+        private T value;
+
+        @Override
+        public void accept(T value) {
+            this.value = value;
+        }
+
+        @Nullable
+        private T take() {
+            T taken = value;
+            value = null;
+            return taken;
+        }
+    }
+
+    /**
+     * Pairs stored in two parallel arrays. Splits in half, exactly.
+     */
+    /* package */ static final class ArraySpliterator<C, D> implements BiSpliterator<C, D> {
+
+        private static final int CHARACTERISTICS =
+            Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+
+        private final Object[] firsts;
+        private final Object[] seconds;
+        private int index;
+        private final int fence;
+
+        /* package */ ArraySpliterator(Object[] firsts, Object[] seconds, int index, int fence) {
+            this.firsts = firsts;
+            this.seconds = seconds;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer2<? super C, ? super D> action) {
+
+            if (index >= fence) {
+                return false;
+            }
+
+            int i = index++;
+            action.accept((C) firsts[i], (D) seconds[i]);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer2<? super C, ? super D> action) {
+
+            for (int i = index; i < fence; i++) {
+                action.accept((C) firsts[i], (D) seconds[i]);
+            }
+
+            index = fence;
+        }
+
+        @Override
+        @Nullable
+        public BiSpliterator<C, D> trySplit() {
+
+            int lo = index;
+            int mid = (lo + fence) >>> 1;
+
+            if (lo >= mid) {
+                return null;
+            }
+
+            index = mid;
+            return new ArraySpliterator<>(firsts, seconds, lo, mid);
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    /**
+     * Pairs two spliterators up element by element, skipping pairs with a null value.
+     * Neither side can be split at a chosen point, so splits hand off a batch
+     * of pairs copied into an {@link ArraySpliterator}, like the JDK does for iterators.
+     */
+    /* package */ static final class ZipSpliterator<C, D> implements BiSpliterator<C, D> {
+
+        private static final int BATCH_UNIT = 1 << 10;
+        private static final int MAX_BATCH = 1 << 25;
+
+        private final Spliterator<C> firsts;
+        private final Spliterator<D> seconds;
+        private final Holder<C> first = new Holder<>();
+        private final Holder<D> second = new Holder<>();
+        private int batch;
+
+        /* package */ ZipSpliterator(Spliterator<C> firsts, Spliterator<D> seconds) {
+            this.firsts = firsts;
+            this.seconds = seconds;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer2<? super C, ? super D> action) {
+
+            while (firsts.tryAdvance(first) && seconds.tryAdvance(second)) {
+
+                C obj1 = first.take();
+                D obj2 = second.take();
+
+                if (obj1 != null && obj2 != null) {
+                    action.accept(obj1, obj2);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        @Nullable
+        public BiSpliterator<C, D> trySplit() {
+
+            long size = estimateSize();
+            int max = (int) Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), size);
+
+            if (max <= 0) {
+                return null;
+            }
+
+            Object[] batchFirsts = new Object[max];
+            Object[] batchSeconds = new Object[max];
+            int count = 0;
+
+            while (count < max && firsts.tryAdvance(first) && seconds.tryAdvance(second)) {
+
+                C obj1 = first.take();
+                D obj2 = second.take();
+
+                if (obj1 != null && obj2 != null) {
+                    batchFirsts[count] = obj1;
+                    batchSeconds[count] = obj2;
+                    count++;
+                }
+            }
+
+            if (count == 0) {
+                return null;
+            }
+
+            batch = count;
+            return new ArraySpliterator<>(batchFirsts, batchSeconds, 0, count);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Math.min(firsts.estimateSize(), seconds.estimateSize());
+        }
+
+        @Override
+        public int characteristics() {
+            return firsts.characteristics() & seconds.characteristics() & DROPPING_MASK;
+        }
+    }
+
+    /**
+     * The key-value pairs of a map's entry spliterator, skipping null keys and values.
+     * Splits however the map's own spliterator does.
+     */
+    /* package */ static final class EntrySpliterator<C, D> implements BiSpliterator<C, D> {
+
+        private final Spliterator<Map.Entry<C, D>> entries;
+        private final Holder<Map.Entry<C, D>> entry = new Holder<>();
+
+        /* package */ EntrySpliterator(Spliterator<Map.Entry<C, D>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer2<? super C, ? super D> action) {
+
+            while (entries.tryAdvance(entry)) {
+
+                Map.Entry<C, D> next = entry.take();
+
+                if (next != null && next.getKey() != null && next.getValue() != null) {
+                    action.accept(next.getKey(), next.getValue());
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer2<? super C, ? super D> action) {
+            entries.forEachRemaining(next -> {
+                if (next.getKey() != null && next.getValue() != null) {
+                    action.accept(next.getKey(), next.getValue());
+                }
+            });
+        }
+
+        @Override
+        @Nullable
+        public BiSpliterator<C, D> trySplit() {
+            Spliterator<Map.Entry<C, D>> split = entries.trySplit();
+            return split == null ? null : new EntrySpliterator<>(split);
+        }
+
+        @Override
+        public long estimateSize() {
+            return entries.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return entries.characteristics() & DROPPING_MASK;
+        }
+    }
+
+    /**
+     * The values of each present {@link Optional2}, skipping empty ones.
+     * The {@link Optional2.Present} already holds the pair, so nothing new is allocated.
+     */
+    /* package */ static final class Optional2Spliterator<C, D> implements BiSpliterator<C, D> {
+
+        private final Spliterator<? extends Optional2<C, D>> optionals;
+        private final Holder<Optional2<C, D>> optional = new Holder<>();
+
+        /* package */ Optional2Spliterator(Spliterator<? extends Optional2<C, D>> optionals) {
+            this.optionals = optionals;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer2<? super C, ? super D> action) {
+
+            while (optionals.tryAdvance(optional)) {
+                if (optional.take() instanceof Optional2.Present<C, D> present) {
+                    action.accept(present.first(), present.second());
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer2<? super C, ? super D> action) {
+            optionals.forEachRemaining(opt -> {
+                if (opt instanceof Optional2.Present<C, D> present) {
+                    action.accept(present.first(), present.second());
+                }
+            });
+        }
+
+        @Override
+        @Nullable
+        public BiSpliterator<C, D> trySplit() {
+            Spliterator<? extends Optional2<C, D>> split = optionals.trySplit();
+            return split == null ? null : new Optional2Spliterator<>(split);
+        }
+
+        @Override
+        public long estimateSize() {
+            return optionals.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return optionals.characteristics() & DROPPING_MASK;
+        }
+    }
+
+    /**
+     * Applies a {@link Step} to each pair of a source spliterator.
+     * The spliterator is its own consumer of the source, so {@link #tryAdvance(Consumer2)}
+     * doesn't allocate a lambda per call.
+     */
+    /* package */ static final class StepSpliterator<C, D, A, E> implements BiSpliterator<A, E>, Consumer2<C, D> {
+
+        private final BiSpliterator<C, D> source;
+        private final Step<C, D, A, E> step;
+        private Consumer2<? super A, ? super E> downstream = (obj1, obj2) -> { };
+        private boolean pushed;
+
+        /* package */ StepSpliterator(BiSpliterator<C, D> source, Step<C, D, A, E> step) {
+            this.source = source;
+            this.step = step;
+        }
+
+        @Override
+        public void accept(C obj1, D obj2) {
+            pushed = step.push(obj1, obj2, downstream);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer2<? super A, ? super E> action) {
+
+            downstream = action;
+            pushed = false;
+            boolean advanced;
+
+            do {
+                advanced = source.tryAdvance(this);
+            } while (advanced && !pushed);
+
+            return pushed;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer2<? super A, ? super E> action) {
+            source.forEachRemaining((obj1, obj2) -> step.push(obj1, obj2, action));
+        }
+
+        @Override
+        @Nullable
+        public BiSpliterator<A, E> trySplit() {
+            BiSpliterator<C, D> split = source.trySplit();
+            return split == null ? null : new StepSpliterator<>(split, step);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & DROPPING_MASK;
+        }
+    }
+
+    /**
+     * Combines each pair down to one value, for handing off to a regular {@link java.util.stream.Stream}.
+     * Null results are skipped.
+     */
+    /* package */ static final class ReducingSpliterator<C, D, R> implements Spliterator<R>, Consumer2<C, D> {
+
+        private final BiSpliterator<C, D> source;
+        private final CheckedFunction2<? super C, ? super D, ? extends R> mapper;
+
+        @Nullable
+        private R next;
+
+        /* package */ ReducingSpliterator(
+            BiSpliterator<C, D> source,
+            CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+
+            this.source = source;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void accept(C obj1, D obj2) {
+            next = Optional2Utils.apply(mapper, obj1, obj2);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super R> action) {
+
+            while (source.tryAdvance(this)) {
+
+                R result = next;
+                next = null;
+
+                if (result != null) {
+                    action.accept(result);
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            source.forEachRemaining((obj1, obj2) -> {
+                R result = Optional2Utils.apply(mapper, obj1, obj2);
+                if (result != null) {
+                    action.accept(result);
+                }
+            });
+        }
+
+        @Override
+        @Nullable
+        public Spliterator<R> trySplit() {
+            BiSpliterator<C, D> split = source.trySplit();
+            return split == null ? null : new ReducingSpliterator<>(split, mapper);
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics() & DROPPING_MASK;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.terheyden.optional2;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A stream of pairs, with {@link Optional2}-style operators:
+ * <pre>{@code
+ * List<TestUser> users = BiStream
+ *     .zip(names.stream(), userIds.stream())
+ *     .filter((name, userId) -> !name.isEmpty())
+ *     .reduce((name, userId) -> TestService.loginUser(userId, name))
+ *     .toList();
+ * }</pre>
+ * Pairs are handed from step to step as two arguments, never wrapped in a tuple
+ * or an {@code Optional2}. Like {@code Optional2}, a pair is only kept if both values
+ * are present: pairs with a null value, and pairs mapped to null, are dropped.
+ * <p>
+ * Like a {@link Stream}, a {@code BiStream} is lazy, and can only be consumed once.
+ * {@link #parallel()} works as it does for streams; sources are split by their own
+ * spliterators, or in batches when pairing up two streams.
+ */
+public final class BiStream<C, D> {
+
+    private final BiSpliterator<C, D> spliterator;
+    private final boolean parallel;
+
+    private BiStream(BiSpliterator<C, D> spliterator, boolean parallel) {
+        this.spliterator = spliterator;
+        this.parallel = parallel;
+    }
+
+    /**
+     * A stream of a single pair.
+     */
+    public static <C, D> BiStream<C, D> of(C obj1, D obj2) {
+        Object[] firsts = { Objects.requireNonNull(obj1) };
+        Object[] seconds = { Objects.requireNonNull(obj2) };
+        return new BiStream<>(new BiSpliterators.ArraySpliterator<>(firsts, seconds, 0, 1), false);
+    }
+
+    /**
+     * An empty stream.
+     */
+    public static <C, D> BiStream<C, D> empty() {
+        return new BiStream<>(new BiSpliterators.ArraySpliterator<>(new Object[0], new Object[0], 0, 0), false);
+    }
+
+    /**
+     * Pairs up two streams element by element, stopping when either runs out.
+     * The result is parallel if either stream is.
+     */
+    public static <C, D> BiStream<C, D> zip(Stream<C> firsts, Stream<D> seconds) {
+        return new BiStream<>(
+            new BiSpliterators.ZipSpliterator<>(firsts.spliterator(), seconds.spliterator()),
+            firsts.isParallel() || seconds.isParallel());
+    }
+
+    /**
+     * Streams the key-value pairs of a map.
+     */
+    public static <C, D> BiStream<C, D> fromMap(Map<C, D> map) {
+        return new BiStream<>(new BiSpliterators.EntrySpliterator<>(map.entrySet().spliterator()), false);
+    }
+
+    /**
+     * Streams the values of each present {@link Optional2}, skipping empty ones.
+     */
+    public static <C, D> BiStream<C, D> flatten(Stream<? extends Optional2<C, D>> optionals) {
+        return new BiStream<>(
+            new BiSpliterators.Optional2Spliterator<>(optionals.spliterator()),
+            optionals.isParallel());
+    }
+
+    /**
+     * Keep the pairs that match the predicate.
+     *
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    public BiStream<C, D> filter(Predicate2<? super C, ? super D> predicate) {
+        return then((obj1, obj2, downstream) -> {
+
+            if (!predicate.test(obj1, obj2)) {
+                return false;
+            }
+
+            downstream.accept(obj1, obj2);
+            return true;
+        });
+    }
+
+    /**
+     * Replace the first value of each pair. A null result drops the pair.
+     */
+    public <A> BiStream<A, D> mapFirst(CheckedFunction2<? super C, ? super D, ? extends A> mapper) {
+        return then((obj1, obj2, downstream) -> {
+
+            A mapped = Optional2Utils.apply(mapper, obj1, obj2);
+
+            if (mapped == null) {
+                return false;
+            }
+
+            downstream.accept(mapped, obj2);
+            return true;
+        });
+    }
+
+    /**
+     * Replace the second value of each pair. A null result drops the pair.
+     */
+    public <E> BiStream<C, E> mapSecond(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+        return then((obj1, obj2, downstream) -> {
+
+            E mapped = Optional2Utils.apply(mapper, obj1, obj2);
+
+            if (mapped == null) {
+                return false;
+            }
+
+            downstream.accept(obj1, mapped);
+            return true;
+        });
+    }
+
+    /**
+     * Combine each pair down to one value. Null results are dropped.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    public <R> Stream<R> reduce(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+        return StreamSupport.stream(new BiSpliterators.ReducingSpliterator<>(spliterator, mapper), parallel);
+    }
+
+    /**
+     * Combine each pair down to an {@link Optional}, keeping the present ones.
+     *
+     * @see Optional2#flatMapReduce(CheckedFunction2)
+     */
+    public <R> Stream<R> flatMap(CheckedFunction2<? super C, ? super D, ? extends Optional<? extends R>> mapper) {
+        return reduce((obj1, obj2) -> mapper.apply(obj1, obj2).orElse(null));
+    }
+
+    /**
+     * The first value of each pair.
+     */
+    public Stream<C> firsts() {
+        return reduce((obj1, obj2) -> obj1);
+    }
+
+    /**
+     * The second value of each pair.
+     */
+    public Stream<D> seconds() {
+        return reduce((obj1, obj2) -> obj2);
+    }
+
+    /**
+     * Pass each pair to the consumer; in no particular order if the stream is parallel.
+     */
+    public void forEach(Consumer2<? super C, ? super D> consumer) {
+
+        if (!parallel) {
+            spliterator.forEachRemaining(consumer);
+            return;
+        }
+
+        reduce((obj1, obj2) -> {
+            consumer.accept(obj1, obj2);
+            return null;
+        }).forEach(ignored -> { });
+    }
+
+    /**
+     * Count the pairs.
+     */
+    public long count() {
+        return reduce((obj1, obj2) -> Boolean.TRUE).count();
+    }
+
+    /**
+     * Collect the pairs into a {@link HashMap}. For duplicate keys, the last pair wins.
+     */
+    public Map<C, D> toMap() {
+
+        if (parallel) {
+            return reduce(Map::entry).collect(Collectors.toMap(
+                Map.Entry::getKey,
+                Map.Entry::getValue,
+                (value1, value2) -> value2,
+                HashMap::new));
+        }
+
+        Map<C, D> map = new HashMap<>();
+        spliterator.forEachRemaining(map::put);
+        return map;
+    }
+
+    /**
+     * A parallel version of this stream.
+     */
+    public BiStream<C, D> parallel() {
+        return new BiStream<>(spliterator, true);
+    }
+
+    /**
+     * A sequential version of this stream.
+     */
+    public BiStream<C, D> sequential() {
+        return new BiStream<>(spliterator, false);
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    private <A, E> BiStream<A, E> then(BiSpliterators.Step<C, D, A, E> step) {
+        return new BiStream<>(new BiSpliterators.StepSpliterator<>(spliterator, step), parallel);
+    }
+}
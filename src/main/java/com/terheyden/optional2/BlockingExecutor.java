@@ -0,0 +1,58 @@
+package com.terheyden.optional2;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking lookups passed to {@link Optional1#andOfBlocking(CheckedFunction1)}
+ * and {@link Optional2#allOfBlocking(CheckedFunction0, CheckedFunction0)}.
+ * <p>
+ * This is the Java 17 version: a shared pool of daemon platform threads, bounded by the
+ * {@code optional2.blocking.maxThreads} system property (default 256). Idle threads time out.
+ * On Java 21+, the multi-release jar replaces this class with one that uses virtual threads,
+ * see {@code src/main/java21}.
+ */
+/* package */ final class BlockingExecutor {
+
+    private static final int MAX_THREADS = Integer.getInteger("optional2.blocking.maxThreads", 256);
+
+    private static final Executor EXECUTOR = newExecutor();
+
+    private BlockingExecutor() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    /* package */ static Executor get() {
+        return EXECUTOR;
+    }
+
+    /**
+     * True if lookups run on virtual threads.
+     */
+    /* package */ static boolean isVirtual() {
+        return false;
+    }
+
+    private static Executor newExecutor() {
+
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "optional2-blocking-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+            MAX_THREADS, MAX_THREADS,
+            30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            threadFactory);
+
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
@@ -0,0 +1,36 @@
+package com.terheyden.optional2;
+
+import java.util.function.Consumer;
+
+/**
+ * Functional interface for accepting one value, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedConsumer<T> {
+
+    /**
+     * Accept a value and perform some action.
+     */
+    void accept(T t) throws Throwable;
+
+    /**
+     * Returns a composed {@code CheckedConsumer} that performs, in sequence, this operation followed by
+     * the {@code after} operation.
+     */
+    default CheckedConsumer<T> andThen(CheckedConsumer<? super T> after) {
+        return t -> {
+            accept(t);
+            after.accept(t);
+        };
+    }
+
+    default Consumer<T> unchecked() {
+        return t -> {
+            try {
+                accept(t);
+            } catch (Throwable throwable) {
+                Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
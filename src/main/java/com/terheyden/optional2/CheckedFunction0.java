@@ -0,0 +1,25 @@
+package com.terheyden.optional2;
+
+import java.util.function.Supplier;
+
+/**
+ * Functional interface for supplying a value, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedFunction0<R> {
+
+    /**
+     * Supply a value.
+     */
+    R apply() throws Throwable;
+
+    default Supplier<R> unchecked() {
+        return () -> {
+            try {
+                return apply();
+            } catch (Throwable throwable) {
+                return Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.terheyden.optional2;
+
+import java.util.function.Function;
+
+/**
+ * Functional interface for mapping one value, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedFunction1<T1, R> {
+
+    /**
+     * Map a value.
+     */
+    R apply(T1 t1) throws Throwable;
+
+    default Function<T1, R> unchecked() {
+        return t1 -> {
+            try {
+                return apply(t1);
+            } catch (Throwable throwable) {
+                return Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
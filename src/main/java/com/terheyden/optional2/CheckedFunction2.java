@@ -0,0 +1,25 @@
+package com.terheyden.optional2;
+
+import java.util.function.BiFunction;
+
+/**
+ * Functional interface for mapping two values, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedFunction2<T1, T2, R> {
+
+    /**
+     * Map two values.
+     */
+    R apply(T1 t1, T2 t2) throws Throwable;
+
+    default BiFunction<T1, T2, R> unchecked() {
+        return (t1, t2) -> {
+            try {
+                return apply(t1, t2);
+            } catch (Throwable throwable) {
+                return Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
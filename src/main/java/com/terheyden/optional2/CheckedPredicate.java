@@ -0,0 +1,26 @@
+package com.terheyden.optional2;
+
+import java.util.function.Predicate;
+
+/**
+ * Functional interface for testing one value, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedPredicate<T> {
+
+    boolean test(T t) throws Throwable;
+
+    default CheckedPredicate<T> negate() {
+        return t -> !test(t);
+    }
+
+    default Predicate<T> unchecked() {
+        return t -> {
+            try {
+                return test(t);
+            } catch (Throwable throwable) {
+                return Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
@@ -0,0 +1,23 @@
+package com.terheyden.optional2;
+
+/**
+ * Functional interface for running an action, possibly throwing a checked exception.
+ */
+@FunctionalInterface
+public interface CheckedRunnable {
+
+    /**
+     * Perform some action.
+     */
+    void run() throws Throwable;
+
+    default Runnable unchecked() {
+        return () -> {
+            try {
+                run();
+            } catch (Throwable throwable) {
+                Optional2Utils.throwUnchecked(throwable);
+            }
+        };
+    }
+}
@@ -0,0 +1,237 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A point in time by which a lookup has to finish, for
+ * {@link Optional1#andOf(CheckedFunction1, Deadline)} and the {@code or} variants that take one:
+ * <pre>{@code
+ * Deadline deadline = Deadline.after(Duration.ofMillis(200));
+ *
+ * TestUser user = Optional2.ofNullable(name)
+ *     .andOf(TestService::findUserId, deadline)
+ *     .or(GUEST_USER_ID)
+ *     .reduce((userName, userId) -> TestService.loginUser(userId, userName))
+ *     .orElseThrow();
+ * }</pre>
+ * The lookup runs on the caller's thread. When time runs out, a shared timer thread interrupts it,
+ * and the value is left empty, so the usual {@code or} methods can supply a fallback. A deadline made
+ * with {@link #orThrow()} throws a {@link TimeoutException} instead. Interruption is cooperative:
+ * a lookup that doesn't respond to it (blocking I/O on a plain socket, say) keeps the caller waiting
+ * until it finishes.
+ * <p>
+ * Deadlines are request-scoped: a lookup runs with its deadline as {@link #current()}, and so does the
+ * code passed to {@link #call(CheckedFunction0)}. Nested lookups never run past the current deadline,
+ * even if their own timeout is longer, so the remaining budget carries through a chain of dependencies.
+ * <p>
+ * Deadlines are measured with {@link System#nanoTime()}, so they only make sense within one JVM.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(0L, true, false, false);
+
+    private static final Duration FOREVER = Duration.ofNanos(Long.MAX_VALUE);
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    /**
+     * The {@link System#nanoTime()} at which this deadline expires. Ignored if {@link #unbounded}.
+     */
+    private final long expiresAt;
+
+    private final boolean unbounded;
+
+    /**
+     * True to throw a {@link TimeoutException} when this expires, instead of leaving the value empty.
+     */
+    private final boolean throwing;
+
+    /**
+     * True if this is the {@link #current()} deadline of a running lookup, whose timer already
+     * interrupts this thread when this deadline expires.
+     */
+    private final boolean lookup;
+
+    private Deadline(long expiresAt, boolean unbounded, boolean throwing, boolean lookup) {
+        this.expiresAt = expiresAt;
+        this.unbounded = unbounded;
+        this.throwing = throwing;
+        this.lookup = lookup;
+    }
+
+    /**
+     * A deadline the given time from now.
+     */
+    public static Deadline after(Duration timeout) {
+        return afterNanos(timeout.toNanos());
+    }
+
+    /**
+     * A deadline the given time from now.
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return afterNanos(unit.toNanos(timeout));
+    }
+
+    private static Deadline afterNanos(long nanos) {
+        // Anything past ~292 years is never, and would overflow.
+        return nanos >= Long.MAX_VALUE / 2
+            ? NONE
+            : new Deadline(System.nanoTime() + nanos, false, false, false);
+    }
+
+    /**
+     * A deadline that never expires.
+     */
+    public static Deadline none() {
+        return NONE;
+    }
+
+    /**
+     * The deadline of the lookup or {@link #call(CheckedFunction0)} running on this thread,
+     * or {@link #none()} if there isn't one.
+     */
+    public static Deadline current() {
+        Deadline current = CURRENT.get();
+        return current == null ? NONE : current;
+    }
+
+    /**
+     * The same deadline, but when it expires, lookups throw a {@link TimeoutException}
+     * instead of leaving the value empty.
+     */
+    public Deadline orThrow() {
+        return throwing ? this : new Deadline(expiresAt, unbounded, true, lookup);
+    }
+
+    /**
+     * Returns the time left, which is zero or negative once expired.
+     */
+    public Duration remaining() {
+        return unbounded ? FOREVER : Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * Returns the nanoseconds left, which is zero or negative once expired,
+     * or {@link Long#MAX_VALUE} for {@link #none()}.
+     */
+    public long remainingNanos() {
+        return unbounded ? Long.MAX_VALUE : expiresAt - System.nanoTime();
+    }
+
+    /**
+     * Returns true if there's no time left.
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Runs the function with this as the {@link #current()} deadline, so that lookups inside it
+     * don't outlive it. The function runs on this thread, and isn't interrupted when time runs out.
+     */
+    public <R> R call(CheckedFunction0<? extends R> function) {
+
+        Deadline previous = CURRENT.get();
+        CURRENT.set(this);
+
+        try {
+            return Optional2Utils.apply(function);
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the supplier on this thread, with this deadline (or the current one, if it's earlier)
+     * as {@link #current()}, and a {@link DeadlineTimer} that interrupts it when that runs out.
+     * If it does, this returns null or throws; a supplier that finishes anyway still has its result used.
+     * <p>
+     * A nested lookup that gets no less than the enclosing lookup's remaining budget doesn't arm a timer,
+     * since the enclosing lookup's timer already interrupts this thread when that runs out.
+     */
+    @Nullable
+    /* package */ <R> R supply(CheckedFunction0<? extends R> supplier) {
+
+        Deadline current = current();
+        Deadline deadline = earliest(current);
+
+        if (deadline.unbounded) {
+            // Neither this nor the current deadline ever expire, so there's nothing to interrupt or propagate.
+            return Optional2Utils.apply(supplier);
+        }
+
+        long nanos = deadline.remainingNanos();
+
+        if (nanos <= 0) {
+            return deadline.expired();
+        }
+
+        if (current.lookup && deadline.expiresAt == current.expiresAt) {
+            return Optional2Utils.apply(supplier);
+        }
+
+        Deadline previous = CURRENT.get();
+        CURRENT.set(new Deadline(deadline.expiresAt, false, deadline.throwing, true));
+        DeadlineTimer timer = DeadlineTimer.arm(nanos);
+        R result = null;
+        Throwable failure = null;
+        boolean inTime;
+
+        try {
+            result = supplier.apply();
+        } catch (Throwable t) {
+            failure = t;
+        } finally {
+            inTime = timer.disarm();
+            restore(previous);
+        }
+
+        if (failure == null) {
+            return result;
+        }
+
+        // If the timer fired, the supplier most likely failed because it was interrupted.
+        return inTime ? Optional2Utils.throwUnchecked(failure) : deadline.expired();
+    }
+
+    /**
+     * Whichever deadline expires first, with this one's {@link #orThrow()} setting.
+     */
+    private Deadline earliest(Deadline other) {
+
+        if (other.unbounded || (!unbounded && expiresAt - other.expiresAt <= 0)) {
+            return this;
+        }
+
+        return new Deadline(other.expiresAt, false, throwing, false);
+    }
+
+    @Nullable
+    private <R> R expired() {
+
+        if (throwing) {
+            return Optional2Utils.throwUnchecked(new TimeoutException("Deadline exceeded"));
+        }
+
+        return null;
+    }
+
+    private static void restore(@Nullable Deadline previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return unbounded
+            ? "Deadline[none]"
+            : "Deadline[" + TimeUnit.NANOSECONDS.toMillis(remainingNanos()) + " ms" + (throwing ? ", throwing]" : "]");
+    }
+}
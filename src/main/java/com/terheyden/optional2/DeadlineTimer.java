@@ -0,0 +1,89 @@
+package com.terheyden.optional2;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interrupts a thread that's still running a {@link Deadline} lookup when its deadline passes.
+ * <p>
+ * Every timer shares one daemon thread, so a lookup doesn't cost a thread or a thread hop:
+ * it runs on its caller's thread, with a timer {@link #arm armed} for the deadline and
+ * {@link #disarm disarmed} in a {@code finally}. Cancelled timers are removed from the queue
+ * right away, so lookups that finish in time (the usual case) don't pile up there.
+ */
+/* package */ final class DeadlineTimer implements Runnable {
+
+    private static final int ARMED = 0;
+    private static final int DISARMED = 1;
+    private static final int FIRING = 2;
+    private static final int FIRED = 3;
+
+    private final Thread thread;
+    private final AtomicInteger state = new AtomicInteger(ARMED);
+    private ScheduledFuture<?> future;
+
+    private DeadlineTimer(Thread thread) {
+        this.thread = thread;
+    }
+
+    /**
+     * Interrupts the current thread in the given time, unless {@link #disarm()}ed first.
+     */
+    /* package */ static DeadlineTimer arm(long nanos) {
+        DeadlineTimer timer = new DeadlineTimer(Thread.currentThread());
+        timer.future = Scheduler.SCHEDULER.schedule(timer, nanos, TimeUnit.NANOSECONDS);
+        return timer;
+    }
+
+    @Override
+    public void run() {
+        if (state.compareAndSet(ARMED, FIRING)) {
+            thread.interrupt();
+            state.set(FIRED);
+        }
+    }
+
+    /**
+     * Call from the armed thread when it's done.
+     *
+     * @return true if the timer hadn't fired yet, and now never will; false if it fired, in which case
+     *     its interrupt has been cleared from this thread
+     */
+    /* package */ boolean disarm() {
+
+        if (state.compareAndSet(ARMED, DISARMED)) {
+            future.cancel(false);
+            return true;
+        }
+
+        // Wait out the interrupt, so it can't land after it's cleared.
+        while (state.get() == FIRING) {
+            Thread.onSpinWait();
+        }
+
+        Thread.interrupted();
+        return false;
+    }
+
+    /**
+     * The shared timer thread, only started when the first timer is armed.
+     */
+    private static final class Scheduler {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+        private static ScheduledThreadPoolExecutor newScheduler() {
+
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "optional2-deadline-timer");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.terheyden.optional2;
+
+/**
+ * A {@link Consumer2} specialized for two {@code double} values, so nothing is boxed.
+ */
+@FunctionalInterface
+public interface DoubleConsumer2 {
+
+    void accept(double s, double t);
+
+    /**
+     * Returns a composed {@code DoubleConsumer2} that performs, in sequence, this operation followed by
+     * the {@code after} operation.
+     *
+     * @see Consumer2#andThen(Consumer2)
+     */
+    default DoubleConsumer2 andThen(DoubleConsumer2 after) {
+        return (s, t) -> {
+            accept(s, t);
+            after.accept(s, t);
+        };
+    }
+}
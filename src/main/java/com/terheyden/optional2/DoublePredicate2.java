@@ -0,0 +1,35 @@
+package com.terheyden.optional2;
+
+/**
+ * A {@link Predicate2} specialized for two {@code double} values, so nothing is boxed.
+ */
+@FunctionalInterface
+public interface DoublePredicate2 {
+
+    boolean test(double s, double t);
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     *
+     * @see Predicate2#and(Predicate2)
+     */
+    default DoublePredicate2 and(DoublePredicate2 other) {
+        return (s, t) -> test(s, t) && other.test(s, t);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     */
+    default DoublePredicate2 negate() {
+        return (s, t) -> !test(s, t);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     *
+     * @see Predicate2#or(Predicate2)
+     */
+    default DoublePredicate2 or(DoublePredicate2 other) {
+        return (s, t) -> test(s, t) || other.test(s, t);
+    }
+}
@@ -0,0 +1,92 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link NoSuchElementException} thrown by {@code throwIfEmpty()} and {@code orElseThrow()}.
+ * Its message is only built when {@link #getMessage()} is called, so an exception that's
+ * caught and discarded never formats the values.
+ * <p>
+ * When emptiness is common and the exception is used for control flow, capturing the stack trace
+ * is most of the cost. Either throw a stackless one via {@link Optional2#orElseThrowStackless()}, or,
+ * cheapest of all, create one per call site up front and reuse it:
+ * <pre>{@code
+ * private static final EmptyValueException NO_USER = EmptyValueException.preallocated("No such user");
+ *
+ * TestUser user = Optional2.ofNullable(name)
+ *     .andOf(TestService::findUserId)
+ *     .orElseThrow(() -> NO_USER)
+ *     .apply((nm, id) -> TestService.loginUser(id, nm));
+ * }</pre>
+ * A preallocated exception is shared, so don't add suppressed exceptions to it
+ * (for example, by throwing it out of a try-with-resources block whose {@code close()} also throws).
+ */
+public class EmptyValueException extends NoSuchElementException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String prefix;
+
+    /**
+     * Appended to the prefix when the message is first needed. May be null if there's nothing to add.
+     */
+    @Nullable
+    private transient Object source;
+
+    @Nullable
+    private String message;
+
+    private final boolean stackTrace;
+
+    /**
+     * @param prefix     the message, or its start if there's a {@code source}
+     * @param source     appended to the message, via {@link String#valueOf(Object)}, when it's first needed
+     * @param stackTrace false to skip capturing the stack trace
+     */
+    /* package */ EmptyValueException(String prefix, @Nullable Object source, boolean stackTrace) {
+        // NoSuchElementException has no writableStackTrace constructor, so stackTrace has to be set
+        // before fillInStackTrace() runs; it's called from the Throwable constructor, hence the check there.
+        super((String) null);
+        this.prefix = prefix;
+        this.source = source;
+        this.stackTrace = stackTrace;
+        if (stackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    /**
+     * A stackless exception with a fixed message, to create once and reuse.
+     */
+    public static EmptyValueException preallocated(String message) {
+        return new EmptyValueException(message, null, false);
+    }
+
+    @Override
+    public String getMessage() {
+
+        if (message == null) {
+            message = source == null ? prefix : prefix + source;
+        }
+
+        return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // The source is transient, so build the message now.
+        getMessage();
+        out.defaultWriteObject();
+    }
+
+    /**
+     * Does nothing when first called from the constructor; the constructor fills in
+     * the stack trace itself, if wanted.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return stackTrace ? super.fillInStackTrace() : this;
+    }
+}
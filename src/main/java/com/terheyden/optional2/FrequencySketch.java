@@ -0,0 +1,66 @@
+package com.terheyden.optional2;
+
+/**
+ * An approximate count of how often each key was seen recently, for TinyLFU admission
+ * in {@link Optional2Cache}. A count-min sketch of 4 rows of small counters, capped at 15.
+ * Every counter is halved after enough increments, so old popularity fades.
+ * Not thread-safe; guarded by the owning cache segment.
+ */
+/* package */ final class FrequencySketch {
+
+    private static final int[] SEEDS = { 0x97cb3127, 0xb3aed24b, 0x1b873593, 0x85ebca6b };
+    private static final int MAX_COUNT = 15;
+
+    private final byte[][] rows;
+    private final int mask;
+    private final int resetAfter;
+    private int increments;
+
+    /* package */ FrequencySketch(int capacity) {
+        int width = Integer.highestOneBit(Math.max(16, capacity * 2 - 1) << 1);
+        this.rows = new byte[SEEDS.length][width];
+        this.mask = width - 1;
+        this.resetAfter = Math.max(10 * capacity, 16);
+    }
+
+    /* package */ void increment(int hash) {
+
+        for (int i = 0; i < rows.length; i++) {
+            int index = index(hash, i);
+            if (rows[i][index] < MAX_COUNT) {
+                rows[i][index]++;
+            }
+        }
+
+        if (++increments >= resetAfter) {
+            reset();
+        }
+    }
+
+    /* package */ int frequency(int hash) {
+
+        int min = MAX_COUNT;
+
+        for (int i = 0; i < rows.length; i++) {
+            min = Math.min(min, rows[i][index(hash, i)]);
+        }
+
+        return min;
+    }
+
+    private int index(int hash, int row) {
+        int mixed = hash * SEEDS[row];
+        return (mixed ^ (mixed >>> 17)) & mask;
+    }
+
+    private void reset() {
+
+        for (byte[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+
+        increments /= 2;
+    }
+}
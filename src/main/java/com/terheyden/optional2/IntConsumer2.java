@@ -0,0 +1,23 @@
+package com.terheyden.optional2;
+
+/**
+ * A {@link Consumer2} specialized for two {@code int} values, so nothing is boxed.
+ */
+@FunctionalInterface
+public interface IntConsumer2 {
+
+    void accept(int s, int t);
+
+    /**
+     * Returns a composed {@code IntConsumer2} that performs, in sequence, this operation followed by
+     * the {@code after} operation.
+     *
+     * @see Consumer2#andThen(Consumer2)
+     */
+    default IntConsumer2 andThen(IntConsumer2 after) {
+        return (s, t) -> {
+            accept(s, t);
+            after.accept(s, t);
+        };
+    }
+}
@@ -0,0 +1,52 @@
+package com.terheyden.optional2;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two buckets: bucket {@code i} counts
+ * latencies in {@code [2^(i-1), 2^i)} nanoseconds, and bucket 0 counts zero.
+ * Recording is a couple of {@link LongAdder} increments, so it stays cheap under contention.
+ */
+/* package */ final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    /* package */ LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /* package */ void record(long nanos) {
+        long clamped = Math.max(0, nanos);
+        buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(clamped))].increment();
+        totalNanos.add(clamped);
+        maxNanos.accumulate(clamped);
+    }
+
+    /* package */ Optional2Metrics.Histogram snapshot() {
+
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            count += counts[i];
+        }
+
+        return new Optional2Metrics.Histogram(count, totalNanos.sum(), maxNanos.get(), counts);
+    }
+
+    /* package */ void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+}
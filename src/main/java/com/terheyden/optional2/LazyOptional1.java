@@ -0,0 +1,141 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * A lazy {@link Optional1}: each step is recorded, and nothing runs
+ * until a terminal operation like {@link #get()} or {@link #ifPresent(CheckedConsumer)}.
+ * Create via {@link Optional2#lazy(CheckedFunction0)}.
+ * <p>
+ * Each terminal operation runs the recorded steps again; call {@link #evaluate()}
+ * once and keep the {@link Optional1} to reuse the result.
+ */
+public final class LazyOptional1<C> {
+
+    private final CheckedFunction0<Optional1<C>> thunk;
+
+    /* package */ LazyOptional1(CheckedFunction0<Optional1<C>> thunk) {
+        this.thunk = thunk;
+    }
+
+    /**
+     * Adds a second value, computed only if the first value is present
+     * and a terminal operation needs it.
+     *
+     * @see Optional1#andOf(CheckedFunction1)
+     */
+    public <D> LazyOptional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper) {
+        return new LazyOptional2<>(thunk, obj1 ->
+            Optional2.ofNullable(obj1, Optional2Events.apply("Optional1.andOf", valueMapper, obj1)));
+    }
+
+    /**
+     * @see Optional1#filter(CheckedPredicate)
+     */
+    public LazyOptional1<C> filter(CheckedPredicate<? super C> predicate) {
+        return new LazyOptional1<>(() -> thunk.apply().filter(predicate));
+    }
+
+    /**
+     * @see Optional1#map(CheckedFunction1)
+     */
+    public <B> LazyOptional1<B> map(CheckedFunction1<? super C, ? extends B> mapper) {
+        return new LazyOptional1<>(() -> thunk.apply().map(mapper));
+    }
+
+    /**
+     * @see Optional1#flatMap(CheckedFunction1)
+     */
+    public <B> LazyOptional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper) {
+        return new LazyOptional1<>(() -> thunk.apply().flatMap(mapper));
+    }
+
+    /**
+     * The supplier only runs if the value turns out to be null.
+     *
+     * @see Optional1#or(CheckedFunction0)
+     */
+    public LazyOptional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+        return new LazyOptional1<>(() -> thunk.apply().or(supplyIfEmpty));
+    }
+
+    /**
+     * @see Optional1#or(Object)
+     */
+    public LazyOptional1<C> or(C useIfEmpty) {
+        return new LazyOptional1<>(() -> thunk.apply().or(useIfEmpty));
+    }
+
+    /**
+     * Run the recorded steps and return the result.
+     */
+    public Optional1<C> evaluate() {
+        return Optional2Utils.apply(thunk);
+    }
+
+    /**
+     * @see Optional1#get()
+     */
+    public C get() {
+        return evaluate().get();
+    }
+
+    /**
+     * @see Optional1#orElse(Object)
+     */
+    public C orElse(C other) {
+        return evaluate().orElse(other);
+    }
+
+    /**
+     * @see Optional1#orElseNull()
+     */
+    @Nullable
+    public C orElseNull() {
+        return evaluate().orElseNull();
+    }
+
+    /**
+     * @see Optional1#orElseGet(CheckedFunction0)
+     */
+    public C orElseGet(CheckedFunction0<? extends C> other) {
+        return evaluate().orElseGet(other);
+    }
+
+    /**
+     * @see Optional1#orElseThrow()
+     */
+    public C orElseThrow() {
+        return evaluate().orElseThrow();
+    }
+
+    /**
+     * @see Optional1#getOptional()
+     */
+    public Optional<C> getOptional() {
+        return evaluate().getOptional();
+    }
+
+    /**
+     * @see Optional1#isPresent()
+     */
+    public boolean isPresent() {
+        return evaluate().isPresent();
+    }
+
+    /**
+     * Evaluates, then consumes the value, if present.
+     *
+     * @return the evaluated {@link Optional1}, for chaining
+     * @see Optional1#ifPresent(CheckedConsumer)
+     */
+    public Optional1<C> ifPresent(CheckedConsumer<? super C> consumer) {
+        return evaluate().ifPresent(consumer);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyOptional1[?]";
+    }
+}
@@ -0,0 +1,203 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * A lazy {@link Optional2}: each step is recorded, and nothing runs
+ * until a terminal operation like {@link #reduce(CheckedFunction2)} or {@link #ifPresent(CheckedConsumer2)}.
+ * Create via {@link Optional2#lazy(CheckedFunction0)} and {@link LazyOptional1#andOf(CheckedFunction1)}.
+ * <p>
+ * Until a step needs both values (like {@link #map(CheckedFunction1, CheckedFunction1)}),
+ * the first value and the steps that compute the second value are kept apart.
+ * That lets {@link #filterFirst(CheckedPredicate)} reject the first value before
+ * the second value is ever computed.
+ * <p>
+ * Each terminal operation runs the recorded steps again; call {@link #evaluate()}
+ * once and keep the {@link Optional2} to reuse the result.
+ */
+public final class LazyOptional2<C, D> {
+
+    /**
+     * Computes the first value. Null once the two values have been fused together.
+     */
+    @Nullable
+    private final CheckedFunction0<Optional1<C>> first;
+
+    /**
+     * Computes the pair from a present first value. Null once fused.
+     */
+    @Nullable
+    private final CheckedFunction1<C, Optional2<C, D>> rest;
+
+    /**
+     * Computes the pair.
+     */
+    private final CheckedFunction0<Optional2<C, D>> thunk;
+
+    /* package */ LazyOptional2(CheckedFunction0<Optional1<C>> first, CheckedFunction1<C, Optional2<C, D>> rest) {
+        this.first = first;
+        this.rest = rest;
+        this.thunk = () -> {
+            Optional1<C> opt1 = first.apply();
+            return opt1.isPresent()
+                ? rest.apply(opt1.get())
+                : Optional2.empty();
+        };
+    }
+
+    private LazyOptional2(CheckedFunction0<Optional2<C, D>> thunk) {
+        this.first = null;
+        this.rest = null;
+        this.thunk = thunk;
+    }
+
+    /**
+     * Filter on the first value only. The second value isn't computed
+     * unless the first value passes.
+     */
+    public LazyOptional2<C, D> filterFirst(CheckedPredicate<? super C> predicate) {
+
+        if (first == null || rest == null) {
+            return filter((obj1, obj2) -> predicate.test(obj1));
+        }
+
+        CheckedFunction0<Optional1<C>> source = first;
+        return new LazyOptional2<>(() -> source.apply().filter(predicate), rest);
+    }
+
+    /**
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    public LazyOptional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+        return then(opt2 -> opt2.filter(predicate));
+    }
+
+    /**
+     * The supplier only runs if the second value turns out to be null.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    public LazyOptional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+        return then(opt2 -> opt2.or(supplyIfEmpty));
+    }
+
+    /**
+     * @see Optional2#or(Object)
+     */
+    public LazyOptional2<C, D> or(D useIfEmpty) {
+        return then(opt2 -> opt2.or(useIfEmpty));
+    }
+
+    /**
+     * @see Optional2#map(CheckedFunction1, CheckedFunction1)
+     */
+    public <A, E> LazyOptional2<A, E> map(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2) {
+
+        return new LazyOptional2<>(() -> evaluate().map(mapper1, mapper2));
+    }
+
+    /**
+     * @see Optional2#map(CheckedFunction2, CheckedFunction2)
+     */
+    public <A, E> LazyOptional2<A, E> map(
+        CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+        return new LazyOptional2<>(() -> evaluate().map(mapper1, mapper2));
+    }
+
+    /**
+     * Adds another pair step, keeping the first value apart if it still is.
+     */
+    private LazyOptional2<C, D> then(CheckedFunction1<Optional2<C, D>, Optional2<C, D>> step) {
+
+        if (first == null || rest == null) {
+            return new LazyOptional2<>(() -> step.apply(thunk.apply()));
+        }
+
+        CheckedFunction1<C, Optional2<C, D>> pairSteps = rest;
+        return new LazyOptional2<>(first, obj1 -> step.apply(pairSteps.apply(obj1)));
+    }
+
+    /**
+     * Run the recorded steps and return the result.
+     */
+    public Optional2<C, D> evaluate() {
+        return Optional2Utils.apply(thunk);
+    }
+
+    /**
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+        return evaluate().reduce(mapper);
+    }
+
+    /**
+     * @see Optional2#reduceOrElse(CheckedFunction2, Object)
+     */
+    public <E> E reduceOrElse(CheckedFunction2<? super C, ? super D, ? extends E> mapper, E other) {
+        return evaluate().reduceOrElse(mapper, other);
+    }
+
+    /**
+     * Evaluates, then consumes both values, if present.
+     *
+     * @return the evaluated {@link Optional2}, for chaining
+     * @see Optional2#ifPresent(CheckedConsumer2)
+     */
+    public Optional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
+        return evaluate().ifPresent(consumer);
+    }
+
+    /**
+     * @see Optional2#get()
+     */
+    public Tuple2<C, D> get() {
+        return evaluate().get();
+    }
+
+    /**
+     * @see Optional2#get(CheckedFunction2)
+     */
+    public <R> R get(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+        return evaluate().get(mapper);
+    }
+
+    /**
+     * @see Optional2#orElse(Object, Object)
+     */
+    public Tuple2<C, D> orElse(C elseValue1, D elseValue2) {
+        return evaluate().orElse(elseValue1, elseValue2);
+    }
+
+    /**
+     * @see Optional2#orElseNull()
+     */
+    @Nullable
+    public Tuple2<C, D> orElseNull() {
+        return evaluate().orElseNull();
+    }
+
+    /**
+     * @see Optional2#orElseThrow()
+     */
+    public Tuple2<C, D> orElseThrow() {
+        return evaluate().orElseThrow();
+    }
+
+    /**
+     * @see Optional2#isPresent()
+     */
+    public boolean isPresent() {
+        return evaluate().isPresent();
+    }
+
+    @Override
+    public String toString() {
+        return "LazyOptional2[?,?]";
+    }
+}
@@ -0,0 +1,23 @@
+package com.terheyden.optional2;
+
+/**
+ * A {@link Consumer2} specialized for two {@code long} values, so nothing is boxed.
+ */
+@FunctionalInterface
+public interface LongConsumer2 {
+
+    void accept(long s, long t);
+
+    /**
+     * Returns a composed {@code LongConsumer2} that performs, in sequence, this operation followed by
+     * the {@code after} operation.
+     *
+     * @see Consumer2#andThen(Consumer2)
+     */
+    default LongConsumer2 andThen(LongConsumer2 after) {
+        return (s, t) -> {
+            accept(s, t);
+            after.accept(s, t);
+        };
+    }
+}
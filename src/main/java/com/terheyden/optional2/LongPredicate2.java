@@ -0,0 +1,35 @@
+package com.terheyden.optional2;
+
+/**
+ * A {@link Predicate2} specialized for two {@code long} values, so nothing is boxed.
+ */
+@FunctionalInterface
+public interface LongPredicate2 {
+
+    boolean test(long s, long t);
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     *
+     * @see Predicate2#and(Predicate2)
+     */
+    default LongPredicate2 and(LongPredicate2 other) {
+        return (s, t) -> test(s, t) && other.test(s, t);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     */
+    default LongPredicate2 negate() {
+        return (s, t) -> !test(s, t);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     *
+     * @see Predicate2#or(Predicate2)
+     */
+    default LongPredicate2 or(LongPredicate2 other) {
+        return (s, t) -> test(s, t) || other.test(s, t);
+    }
+}
@@ -1,15 +0,0 @@
-package com.terheyden.optional2;
-
-/**
- * Hello world.
- */
-public final class MainApp {
-
-    private MainApp() {
-        // Private constructor since this shouldn't be instantiated.
-    }
-
-    public static void main(String... args) {
-        System.out.println("Hello World!");
-    }
-}
@@ -0,0 +1,206 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A reusable, mutable {@link Optional1}, for tight loops where allocating a new {@code Optional1}
+ * per step and per record adds up. Each operator updates this cursor in place and returns it
+ * (retyped, for {@code map}); {@link #reset(Object)} starts over with the next record:
+ * <pre>{@code
+ * MutableOptional1<String> cursor = MutableOptional1.create();
+ *
+ * for (String line : lines) {
+ *     cursor.reset(line)
+ *         .filter(ln -> !ln.isBlank())
+ *         .andOf(TestService::findUserId)
+ *         .ifPresent((name, userId) -> ...);
+ * }
+ * }</pre>
+ * Since it changes with every call, don't keep or share a cursor's result;
+ * take an immutable {@link #snapshot()} of any value that needs to escape.
+ * Cursors aren't thread-safe; use one per thread.
+ */
+public final class MutableOptional1<C> {
+
+    /**
+     * The current value, or null. Untyped, since {@code map()} retypes the cursor in place.
+     */
+    @Nullable
+    private Object value;
+
+    /**
+     * Reused by {@link #andOf(CheckedFunction1)}; created on first use.
+     */
+    @Nullable
+    private MutableOptional2<?, ?> pair;
+
+    private MutableOptional1() {
+    }
+
+    /**
+     * A new, empty cursor. Create one up front and {@link #reset(Object)} it for each record.
+     */
+    public static <C> MutableOptional1<C> create() {
+        return new MutableOptional1<>();
+    }
+
+    /**
+     * Start over with the given value.
+     */
+    @SuppressWarnings("unchecked")
+    public <B> MutableOptional1<B> reset(@Nullable B obj1) {
+        value = obj1;
+        return (MutableOptional1<B>) this;
+    }
+
+    /**
+     * Adds a second value. Returns this cursor's paired {@link MutableOptional2}, which is reused too.
+     *
+     * @see Optional1#andOf(CheckedFunction1)
+     */
+    @SuppressWarnings("unchecked")
+    public <D> MutableOptional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper) {
+
+        if (pair == null) {
+            pair = MutableOptional2.create();
+        }
+
+        C obj1 = valueOrNull();
+        return ((MutableOptional2<C, D>) pair).reset(obj1, obj1 == null ? null : Optional2Utils.apply(valueMapper, obj1));
+    }
+
+    /**
+     * @see Optional1#filter(CheckedPredicate)
+     */
+    public MutableOptional1<C> filter(CheckedPredicate<? super C> predicate) {
+
+        C obj1 = valueOrNull();
+        if (obj1 != null && !Optional2Utils.test(predicate, obj1)) {
+            value = null;
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional1#map(CheckedFunction1)
+     */
+    @SuppressWarnings("unchecked")
+    public <B> MutableOptional1<B> map(CheckedFunction1<? super C, ? extends B> mapper) {
+
+        C obj1 = valueOrNull();
+        if (obj1 != null) {
+            value = Optional2Utils.apply(mapper, obj1);
+        }
+
+        return (MutableOptional1<B>) this;
+    }
+
+    /**
+     * @see Optional1#flatMap(CheckedFunction1)
+     */
+    @SuppressWarnings("unchecked")
+    public <B> MutableOptional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper) {
+
+        C obj1 = valueOrNull();
+        if (obj1 != null) {
+            value = Optional2Utils.apply(mapper, obj1).orElse(null);
+        }
+
+        return (MutableOptional1<B>) this;
+    }
+
+    /**
+     * @see Optional1#or(Object)
+     */
+    public MutableOptional1<C> or(@Nullable C useIfEmpty) {
+
+        if (value == null) {
+            value = useIfEmpty;
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional1#or(CheckedFunction0)
+     */
+    public MutableOptional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+
+        if (value == null) {
+            value = Optional2Utils.apply(supplyIfEmpty).orElse(null);
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional1#ifPresent(CheckedConsumer)
+     */
+    public MutableOptional1<C> ifPresent(CheckedConsumer<? super C> consumer) {
+
+        C obj1 = valueOrNull();
+        if (obj1 != null) {
+            Optional2Utils.accept(consumer, obj1);
+        }
+
+        return this;
+    }
+
+    /**
+     * An immutable copy of the current value, safe to keep after the cursor moves on.
+     */
+    public Optional1<C> snapshot() {
+        return Optional2.ofNullable(valueOrNull());
+    }
+
+    /**
+     * @see Optional1#get()
+     */
+    public C get() {
+
+        C obj1 = valueOrNull();
+        if (obj1 == null) {
+            throw new NoSuchElementException("No value present");
+        }
+
+        return obj1;
+    }
+
+    /**
+     * @see Optional1#orElse(Object)
+     */
+    public C orElse(C other) {
+        C obj1 = valueOrNull();
+        return obj1 == null ? other : obj1;
+    }
+
+    /**
+     * @see Optional1#orElseNull()
+     */
+    @Nullable
+    public C orElseNull() {
+        return valueOrNull();
+    }
+
+    public boolean isPresent() {
+        return value != null;
+    }
+
+    public boolean isEmpty() {
+        return value == null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private C valueOrNull() {
+        return (C) value;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableOptional1[%s]".formatted(value);
+    }
+}
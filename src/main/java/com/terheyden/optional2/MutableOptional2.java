@@ -0,0 +1,211 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A reusable, mutable {@link Optional2}; see {@link MutableOptional1}.
+ * Each operator updates this cursor in place and returns it (retyped, for {@code map});
+ * {@link #reset(Object, Object)} starts over with the next record:
+ * <pre>{@code
+ * MutableOptional2<String, UUID> cursor = MutableOptional2.create();
+ *
+ * for (Row row : rows) {
+ *     TestUser user = cursor.reset(row.name(), row.userId())
+ *         .filter((name, userId) -> !name.isBlank())
+ *         .reduceOrNull((name, userId) -> TestService.loginUser(userId, name));
+ * }
+ * }</pre>
+ * Like {@link Optional2.Empty}, a partially-empty cursor keeps its first value, so {@code or()} can fill in the second.
+ * Take an immutable {@link #snapshot()} of any value that needs to escape. Cursors aren't thread-safe.
+ */
+public final class MutableOptional2<C, D> {
+
+    /**
+     * The current values, or null. Untyped, since {@code map()} retypes the cursor in place.
+     */
+    @Nullable
+    private Object obj1;
+    @Nullable
+    private Object obj2;
+
+    private MutableOptional2() {
+    }
+
+    /**
+     * A new, empty cursor. Create one up front and {@link #reset(Object, Object)} it for each record.
+     */
+    public static <C, D> MutableOptional2<C, D> create() {
+        return new MutableOptional2<>();
+    }
+
+    /**
+     * Start over with the given values.
+     */
+    @SuppressWarnings("unchecked")
+    public <A, E> MutableOptional2<A, E> reset(@Nullable A obj1, @Nullable E obj2) {
+        this.obj1 = obj1;
+        this.obj2 = obj2;
+        return (MutableOptional2<A, E>) this;
+    }
+
+    /**
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    public MutableOptional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+
+        if (isPresent() && !Optional2Utils.test(predicate, first(), second())) {
+            clear();
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional2#map(CheckedFunction1, CheckedFunction1)
+     */
+    public <A, E> MutableOptional2<A, E> map(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2) {
+
+        if (!isPresent()) {
+            return clear();
+        }
+
+        A mapped1 = Optional2Utils.apply(mapper1, first());
+        E mapped2 = Optional2Utils.apply(mapper2, second());
+        return reset(mapped1, mapped2);
+    }
+
+    /**
+     * @see Optional2#map(CheckedFunction2, CheckedFunction2)
+     */
+    public <A, E> MutableOptional2<A, E> map(
+        CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+        if (!isPresent()) {
+            return clear();
+        }
+
+        A mapped1 = Optional2Utils.apply(mapper1, first(), second());
+        E mapped2 = Optional2Utils.apply(mapper2, first(), second());
+        return reset(mapped1, mapped2);
+    }
+
+    /**
+     * @see Optional2#or(Object)
+     */
+    public MutableOptional2<C, D> or(@Nullable D useIfEmpty) {
+
+        if (obj1 != null && obj2 == null) {
+            obj2 = useIfEmpty;
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional2#or(CheckedFunction0)
+     */
+    public MutableOptional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+
+        if (obj1 != null && obj2 == null) {
+            obj2 = Optional2Utils.apply(supplyIfEmpty).orElse(null);
+        }
+
+        return this;
+    }
+
+    /**
+     * @see Optional2#ifPresent(CheckedConsumer2)
+     */
+    public MutableOptional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
+
+        if (isPresent()) {
+            Optional2Utils.accept(consumer, first(), second());
+        }
+
+        return this;
+    }
+
+    /**
+     * Like {@link Optional2#reduce(CheckedFunction2)}, but returns null instead of an empty {@link Optional},
+     * so nothing is allocated.
+     */
+    @Nullable
+    public <E> E reduceOrNull(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+        return isPresent()
+            ? Optional2Utils.apply(mapper, first(), second())
+            : null;
+    }
+
+    /**
+     * @see Optional2#reduceOrElse(CheckedFunction2, Object)
+     */
+    public <E> E reduceOrElse(CheckedFunction2<? super C, ? super D, ? extends E> mapper, E other) {
+        E result = reduceOrNull(mapper);
+        return result == null ? other : result;
+    }
+
+    /**
+     * An immutable copy of the current values, safe to keep after the cursor moves on.
+     */
+    public Optional2<C, D> snapshot() {
+        return Optional2.ofNullable(first(), second());
+    }
+
+    /**
+     * @see Optional2#getFirstValue()
+     */
+    public C getFirstValue() {
+
+        if (obj1 == null) {
+            throw new NoSuchElementException("No value present");
+        }
+
+        return first();
+    }
+
+    /**
+     * @see Optional2#getSecondValue()
+     */
+    public D getSecondValue() {
+
+        if (obj2 == null) {
+            throw new NoSuchElementException("No value present");
+        }
+
+        return second();
+    }
+
+    public boolean isPresent() {
+        return obj1 != null && obj2 != null;
+    }
+
+    public boolean isEmpty() {
+        return !isPresent();
+    }
+
+    private <A, E> MutableOptional2<A, E> clear() {
+        return reset(null, null);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private C first() {
+        return (C) obj1;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private D second() {
+        return (D) obj2;
+    }
+
+    @Override
+    public String toString() {
+        return "MutableOptional2[%s,%s]".formatted(obj1, obj2);
+    }
+}
@@ -0,0 +1,12 @@
+package com.terheyden.optional2;
+
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BiFunction} whose second argument is a primitive {@code long}.
+ */
+@FunctionalInterface
+public interface ObjLongFunction<T, R> {
+
+    R apply(T t, long value);
+}
@@ -0,0 +1,38 @@
+package com.terheyden.optional2;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A {@link Predicate2} whose second value is a primitive {@code long}.
+ * The predicate counterpart of {@link ObjLongConsumer}.
+ */
+@FunctionalInterface
+public interface ObjLongPredicate<T> {
+
+    boolean test(T t, long value);
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     *
+     * @see Predicate2#and(Predicate2)
+     */
+    default ObjLongPredicate<T> and(ObjLongPredicate<? super T> other) {
+        return (t, value) -> test(t, value) && other.test(t, value);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     */
+    default ObjLongPredicate<T> negate() {
+        return (t, value) -> !test(t, value);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     *
+     * @see Predicate2#or(Predicate2)
+     */
+    default ObjLongPredicate<T> or(ObjLongPredicate<? super T> other) {
+        return (t, value) -> test(t, value) || other.test(t, value);
+    }
+}
@@ -1,99 +1,106 @@
 package com.terheyden.optional2;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-
-import io.vavr.CheckedConsumer;
-import io.vavr.CheckedFunction0;
-import io.vavr.CheckedFunction1;
-import io.vavr.CheckedPredicate;
-import io.vavr.CheckedRunnable;
+import java.util.stream.Stream;
 
 /**
  * Optional1 class.
+ * <p>
+ * An {@code Optional1} is either a {@link Present} holding a non-null value,
+ * or the {@link Empty} singleton. Create via {@link Optional2#ofNullable(Object)}.
  */
-public class Optional1<C> {
+public sealed interface Optional1<C> permits Optional1.Present, Optional1.Empty {
 
     /**
-     * There's no generic type, for casting.
+     * Returns an empty immutable singleton {@code Optional2} instance.
      */
-    private static final Optional1 EMPTY = new Optional1<>(Optional.empty());
-
-    private final Optional<C> obj1;
+    @SuppressWarnings("unchecked")
+    static <C> Optional1<C> empty() {
+        return (Optional1<C>) Empty.EMPTY;
+    }
 
     /**
-     * Create via {@link Optional2#ofNullable(Object)}.
+     * Flatten a stream of {@code Optional1}s down to their present values.
+     * Uses {@link Stream#mapMulti}, so it doesn't create a stream per element
+     * like {@code flatMap(Optional1::stream)} would.
      */
-    /* package */ Optional1(@Nullable C obj1) {
-        this.obj1 = Optional.ofNullable(obj1);
+    static <C> Stream<C> flatten(Stream<? extends Optional1<C>> optionals) {
+        return optionals.mapMulti((opt, sink) -> {
+            if (opt instanceof Present<C> present) {
+                sink.accept(present.value());
+            }
+        });
     }
 
     /**
-     * Create via {@link Optional2#ofNullable(Object)}.
+     * Adds a second Optional value to track via {@link Optional2}.
      */
-    /* package */ Optional1(Optional<C> obj1) {
-        this.obj1 = obj1;
-    }
+    <D> Optional2<C, D> andOfNullable(@Nullable D obj2);
 
     /**
-     * Returns an empty immutable singleton {@code Optional2} instance.
+     * Adds a second Optional value to track via {@link Optional2}.
      */
-    @SuppressWarnings("unchecked")
-    public static <C> Optional1<C> empty() {
-        return (Optional1<C>) EMPTY;
-    }
+    <D> Optional2<C, D> andOfNullable(CheckedFunction1<C, D> valueMapper);
 
     /**
      * Adds a second Optional value to track via {@link Optional2}.
      */
-    public <D> Optional2<C, D> andOfNullable(@Nullable D obj2) {
-        return isEmpty()
-            ? Optional2.empty()
-            : new Optional2<>(obj1, Optional.ofNullable(obj2));
-    }
+    <D> Optional2<C, D> andOf(D obj2);
 
     /**
      * Adds a second Optional value to track via {@link Optional2}.
+     * Like {@link Optional#map(Function)}, a null result from the mapper
+     * leaves the second value empty, so it can be filled in via {@link Optional2#or(Object)}.
      */
-    public <D> Optional2<C, D> andOfNullable(CheckedFunction1<C, D> valueMapper) {
+    <D> Optional2<C, D> andOf(CheckedFunction1<C, D> valueMapper);
 
-        // Don't calculate anything if we're empty.
-        if (isEmpty()) {
-            return Optional2.empty();
-        }
-
-        // Calculate the second value.
-        D obj2 = valueMapper.unchecked().apply(obj1.get());
-        return new Optional2<>(obj1, Optional.ofNullable(obj2));
-    }
+    /**
+     * Like {@link #andOf(CheckedFunction1)}, for a mapper that might be slow. If the deadline passes first,
+     * the mapper is interrupted and the second value is left empty, so it can be filled in via
+     * {@link Optional2#or(Object)} (or a {@link java.util.concurrent.TimeoutException} is thrown, if
+     * the deadline was made with {@link Deadline#orThrow()}).
+     * <p>
+     * The mapper runs on this thread, with the deadline as {@link Deadline#current()},
+     * so the lookups it makes can't outlive it. It has to respond to interrupts to be cut short.
+     */
+    <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Deadline deadline);
 
     /**
-     * Adds a second Optional value to track via {@link Optional2}.
+     * Like {@link #andOf(CheckedFunction1, Deadline)}, with a deadline the given time from now,
+     * or the {@link Deadline#current() current} one, if that's sooner.
      */
-    public <D> Optional2<C, D> andOf(D obj2) {
-        return isEmpty()
-            ? Optional2.empty()
-            : new Optional2<>(obj1, Optional.of(obj2));
-    }
+    <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Duration timeout);
 
     /**
-     * Adds a second Optional value to track via {@link Optional2}.
+     * Like {@link #andOf(CheckedFunction1)}, for a mapper that blocks, such as a remote lookup.
+     * The mapper runs on a shared executor for blocking work (virtual threads on Java 21+,
+     * a bounded thread pool on Java 17), and the chain continues asynchronously.
+     *
+     * @see AsyncOptional1#andOfAsync(CheckedFunction1)
      */
-    public <D> Optional2<C, D> andOf(CheckedFunction1<C, D> valueMapper) {
+    <D> AsyncOptional2<C, D> andOfBlocking(CheckedFunction1<? super C, ? extends D> valueMapper);
 
-        // Don't calculate anything if we're empty.
-        if (isEmpty()) {
-            return Optional2.empty();
-        }
+    /**
+     * Like {@link #andOf(CheckedFunction1)}, but if the mapper throws, the exception is kept
+     * in the returned {@link Result2} instead of being thrown, and the chain carries on.
+     */
+    <D> Result2<C, D> andOfTry(CheckedFunction1<? super C, ? extends D> valueMapper);
 
-        // Calculate the second value.
-        D obj2 = valueMapper.unchecked().apply(obj1.get());
-        return new Optional2<>(obj1, Optional.of(obj2));
-    }
+    /**
+     * Like {@link #andOf(CheckedFunction1)}, but the mapper's result is cached by value,
+     * so repeated lookups of the same value skip the mapper entirely.
+     *
+     * @see Optional2Cache
+     */
+    <D> Optional2<C, D> andOfCached(Optional2Cache<C, D> cache, CheckedFunction1<? super C, ? extends D> valueMapper);
 
     /**
      * A chainable version of {@link #orElseThrow(CheckedFunction0)}.
@@ -102,10 +109,7 @@ public class Optional1<C> {
      * @return this, for chaining
      * @throws NoSuchElementException if either value is null
      */
-    public Optional1<C> throwIfEmpty(CheckedFunction0<? extends RuntimeException> exceptionSupplier) {
-        obj1.orElseThrow(exceptionSupplier.unchecked());
-        return this;
-    }
+    Optional1<C> throwIfEmpty(CheckedFunction0<? extends RuntimeException> exceptionSupplier);
 
     /**
      * A chainable version of {@link #orElseThrow(CheckedFunction0)}.
@@ -114,39 +118,33 @@ public class Optional1<C> {
      * @return this, for chaining
      * @throws NoSuchElementException if either value is null
      */
-    public Optional1<C> throwIfEmpty() {
-        obj1.orElseThrow();
-        return this;
-    }
+    Optional1<C> throwIfEmpty();
 
     /**
-     * Run the given {@link CheckedRunnable} if the value is null.
+     * Like {@link #throwIfEmpty()}, but the exception has no stack trace, so it's much cheaper to throw.
      *
      * @return this, for chaining
+     * @throws EmptyValueException if the value is null
      */
-    public Optional1<C> runIfEmpty(CheckedRunnable runIfEmpty) {
-
-        if (isEmpty()) {
-            runIfEmpty.unchecked().run();
-        }
+    Optional1<C> throwIfEmptyStackless();
 
-        return this;
-    }
+    /**
+     * Run the given {@link CheckedRunnable} if the value is null.
+     *
+     * @return this, for chaining
+     */
+    Optional1<C> runIfEmpty(CheckedRunnable runIfEmpty);
 
     /**
      * Similar to {@link Optional#get()}, returns the value, if present,
      * otherwise throws {@link NoSuchElementException}.
      */
-    public C get() {
-        return obj1.get();
-    }
+    C get();
 
     /**
      * Convert this single-value {@link Optional2} into a Java {@link Optional}.
      */
-    public Optional<C> getOptional() {
-        return obj1;
-    }
+    Optional<C> getOptional();
 
     /**
      * If this value is null, use the supplier to get a non-empty value to use instead.
@@ -156,95 +154,82 @@ public class Optional1<C> {
      *
      * @see Optional#or(Supplier)
      */
-    public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+    Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty);
 
-        return isEmpty()
-            ? new Optional1<>(supplyIfEmpty.unchecked().apply())
-            : this;
-    }
+    /**
+     * Like {@link #or(CheckedFunction0)}, but if the deadline passes first, the supplier is interrupted
+     * and this stays empty (or throws, see {@link Deadline#orThrow()}).
+     *
+     * @see #andOf(CheckedFunction1, Deadline)
+     */
+    Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Deadline deadline);
+
+    /**
+     * Like {@link #or(CheckedFunction0, Deadline)}, with a deadline the given time from now,
+     * or the {@link Deadline#current() current} one, if that's sooner.
+     */
+    Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Duration timeout);
 
     /**
      * If this value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional1<C> or(Optional1<C> useIfEmpty) {
-
-        return isEmpty()
-            ? useIfEmpty
-            : this;
-    }
+    Optional1<C> or(Optional1<C> useIfEmpty);
 
     /**
      * If this value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional1<C> or(Optional<C> useIfEmpty) {
-
-        return isEmpty()
-            ? new Optional1<>(useIfEmpty)
-            : this;
-    }
+    Optional1<C> or(Optional<C> useIfEmpty);
 
     /**
      * If this value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional1<C> or(C useIfEmpty) {
-
-        return isEmpty()
-            ? new Optional1<>(useIfEmpty)
-            : this;
-    }
+    Optional1<C> or(C useIfEmpty);
 
     /**
      * Returns the value, if present, otherwise returns the given value.
      */
-    public C orElse(C other) {
-        return obj1.orElse(other);
-    }
+    C orElse(C other);
 
     /**
      * Returns the value if present, else null.
      * Equivalent to: {@code orElse(null)}, but with proper {@code @Nullable} annotations.
      */
     @Nullable
-    public C orElseNull() {
-        return obj1.orElse(null);
-    }
+    C orElseNull();
 
     /**
      * Returns the value, if present, otherwise computes the value from the given supplier.
      */
-    public C orElseGet(CheckedFunction0<? extends C> other) {
-        return obj1.orElseGet(other.unchecked());
-    }
+    C orElseGet(CheckedFunction0<? extends C> other);
 
     /**
      * Returns the value, if present, otherwise throws the exception from the given supplier.
      */
-    public <X extends Throwable> C orElseThrow(CheckedFunction0<? extends X> exceptionSupplier) throws X {
-        return obj1.orElseThrow(exceptionSupplier.unchecked());
-    }
+    <X extends Throwable> C orElseThrow(CheckedFunction0<? extends X> exceptionSupplier) throws X;
 
     /**
      * Returns the value, if present, otherwise throws a {@link NoSuchElementException}.
      *
      * @throws NoSuchElementException if the value is not present
      */
-    public C orElseThrow() {
-        return obj1.orElseThrow();
-    }
+    C orElseThrow();
 
-    public boolean isPresent() {
-        return obj1.isPresent();
-    }
+    /**
+     * Like {@link #orElseThrow()}, but the exception has no stack trace, so it's much cheaper to throw.
+     *
+     * @throws EmptyValueException if the value is not present
+     */
+    C orElseThrowStackless();
 
-    public boolean isEmpty() {
-        return obj1.isEmpty();
-    }
+    boolean isPresent();
+
+    boolean isEmpty();
 
     /**
      * Consume the value, if present.
@@ -252,10 +237,7 @@ public class Optional1<C> {
      * @return this, for chaining
      * @see Optional#ifPresent(Consumer)
      */
-    public Optional1<C> ifPresent(CheckedConsumer<? super C> consumer) {
-        obj1.ifPresent(consumer.unchecked());
-        return this;
-    }
+    Optional1<C> ifPresent(CheckedConsumer<? super C> consumer);
 
     /**
      * Consume the value with the given consumer,
@@ -264,10 +246,7 @@ public class Optional1<C> {
      * @return this, for chaining
      * @see Optional#ifPresentOrElse(Consumer, Runnable)
      */
-    public Optional1<C> ifPresentOrElse(CheckedConsumer<? super C> consumer, CheckedRunnable emptyAction) {
-        obj1.ifPresentOrElse(consumer.unchecked(), emptyAction.unchecked());
-        return this;
-    }
+    Optional1<C> ifPresentOrElse(CheckedConsumer<? super C> consumer, CheckedRunnable emptyAction);
 
     /**
      * Run the given {@link CheckedRunnable} if the value is null.
@@ -275,26 +254,11 @@ public class Optional1<C> {
      * @return this, for chaining
      * @see Optional#ifPresent(Consumer)
      */
-    public Optional1<C> ifEmpty(CheckedRunnable runIfEmpty) {
-
-        if (isEmpty()) {
-            runIfEmpty.unchecked().run();
-        }
+    Optional1<C> ifEmpty(CheckedRunnable runIfEmpty);
 
-        return this;
-    }
-
-    public Optional1<C> filter(CheckedPredicate<? super C> predicate) {
-        return isEmpty()
-            ? this
-            : new Optional1<>(obj1.filter(predicate.unchecked()));
-    }
+    Optional1<C> filter(CheckedPredicate<? super C> predicate);
 
-    public <B> Optional1<B> map(CheckedFunction1<? super C, ? extends B> mapper) {
-        return isEmpty()
-            ? empty()
-            : new Optional1<>(obj1.map(mapper.unchecked()));
-    }
+    <B> Optional1<B> map(CheckedFunction1<? super C, ? extends B> mapper);
 
     /**
      * FlatMap an {@link Optional} value from the given mapper.
@@ -304,14 +268,446 @@ public class Optional1<C> {
      *
      * @see Optional#flatMap(Function)
      */
-    public <B> Optional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper) {
-        return isEmpty()
-            ? empty()
-            : new Optional1<>(obj1.flatMap(mapper.unchecked()));
+    <B> Optional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper);
+
+    /**
+     * A stream of the value, if present, otherwise an empty stream.
+     *
+     * @see Optional#stream()
+     */
+    Stream<C> stream();
+
+    /**
+     * An {@link Optional1} holding a non-null value.
+     */
+    record Present<C>(C value) implements Optional1<C> {
+
+        public Present {
+            Objects.requireNonNull(value);
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfNullable(@Nullable D obj2) {
+            return Optional2.ofNullable(value, obj2);
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfNullable(CheckedFunction1<C, D> valueMapper) {
+            return Optional2.ofNullable(value, Optional2Events.apply("Optional1.andOfNullable", valueMapper, value));
+        }
+
+        @Override
+        public <D> AsyncOptional2<C, D> andOfBlocking(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            return new AsyncOptional1<>(CompletableFuture.completedFuture((Optional1<C>) this), BlockingExecutor.get())
+                .andOfAsync(valueMapper);
+        }
+
+        @Override
+        public <D> Result2<C, D> andOfTry(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            try {
+                return Result2.ofNullable(value, valueMapper.apply(value));
+            } catch (Throwable throwable) {
+                return Result2.failure(value, throwable);
+            }
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfCached(
+            Optional2Cache<C, D> cache,
+            CheckedFunction1<? super C, ? extends D> valueMapper) {
+
+            return Optional2.ofNullable(value, cache.get(value, valueMapper));
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(D obj2) {
+            return new Optional2.Present<>(value, obj2);
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<C, D> valueMapper) {
+            return Optional2.ofNullable(value, Optional2Events.apply("Optional1.andOf", valueMapper, value));
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Deadline deadline) {
+            return Optional2.ofNullable(
+                value,
+                deadline.supply(() -> Optional2Events.apply("Optional1.andOf", valueMapper, value)));
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Duration timeout) {
+            return andOf(valueMapper, Deadline.after(timeout));
+        }
+
+        @Override
+        public Optional1<C> throwIfEmpty(CheckedFunction0<? extends RuntimeException> exceptionSupplier) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> throwIfEmptyStackless() {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> runIfEmpty(CheckedRunnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public C get() {
+            return value;
+        }
+
+        @Override
+        public Optional<C> getOptional() {
+            return Optional.of(value);
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Deadline deadline) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> or(Optional1<C> useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> or(Optional<C> useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> or(C useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public C orElse(C other) {
+            return value;
+        }
+
+        @Override
+        public C orElseNull() {
+            return value;
+        }
+
+        @Override
+        public C orElseGet(CheckedFunction0<? extends C> other) {
+            return value;
+        }
+
+        @Override
+        public <X extends Throwable> C orElseThrow(CheckedFunction0<? extends X> exceptionSupplier) {
+            return value;
+        }
+
+        @Override
+        public C orElseThrow() {
+            return value;
+        }
+
+        @Override
+        public C orElseThrowStackless() {
+            return value;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public Optional1<C> ifPresent(CheckedConsumer<? super C> consumer) {
+            Optional2Utils.accept(consumer, value);
+            return this;
+        }
+
+        @Override
+        public Optional1<C> ifPresentOrElse(CheckedConsumer<? super C> consumer, CheckedRunnable emptyAction) {
+            Optional2Utils.accept(consumer, value);
+            return this;
+        }
+
+        @Override
+        public Optional1<C> ifEmpty(CheckedRunnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> filter(CheckedPredicate<? super C> predicate) {
+            return Optional2Utils.test(predicate, value)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public <B> Optional1<B> map(CheckedFunction1<? super C, ? extends B> mapper) {
+            return Optional2.ofNullable(Optional2Events.apply("Optional1.map", mapper, value));
+        }
+
+        @Override
+        public <B> Optional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper) {
+            return Optional2.ofNullable(Optional2Events.apply("Optional1.flatMap", mapper, value).orElse(null));
+        }
+
+        @Override
+        public Stream<C> stream() {
+            return Stream.of(value);
+        }
+
+        @Override
+        public String toString() {
+            return "Optional2[%s]".formatted(value);
+        }
     }
 
-    @Override
-    public String toString() {
-        return "Optional2[%s]".formatted(obj1.isEmpty() ? "null" : obj1.get());
+    /**
+     * The empty {@link Optional1} singleton, see {@link #empty()}.
+     */
+    final class Empty<C> implements Optional1<C> {
+
+        /**
+         * There's no generic type, for casting.
+         */
+        private static final Empty EMPTY = new Empty<>();
+
+        private Empty() {
+            // Use the singleton.
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfNullable(@Nullable D obj2) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfNullable(CheckedFunction1<C, D> valueMapper) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(D obj2) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<C, D> valueMapper) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Deadline deadline) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper, Duration timeout) {
+            return Optional2.empty();
+        }
+
+        @Override
+        public <D> AsyncOptional2<C, D> andOfBlocking(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            return new AsyncOptional2<>(CompletableFuture.completedFuture(Optional2.empty()), BlockingExecutor.get());
+        }
+
+        @Override
+        public <D> Result2<C, D> andOfTry(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            return Result2.empty();
+        }
+
+        @Override
+        public <D> Optional2<C, D> andOfCached(
+            Optional2Cache<C, D> cache,
+            CheckedFunction1<? super C, ? extends D> valueMapper) {
+
+            return Optional2.empty();
+        }
+
+        @Override
+        public Optional1<C> throwIfEmpty(CheckedFunction0<? extends RuntimeException> exceptionSupplier) {
+            recordThrow("Optional1.throwIfEmpty");
+            throw Optional2Utils.apply(exceptionSupplier);
+        }
+
+        @Override
+        public Optional1<C> throwIfEmpty() {
+            recordThrow("Optional1.throwIfEmpty");
+            throw emptyException(true);
+        }
+
+        @Override
+        public Optional1<C> throwIfEmptyStackless() {
+            recordThrow("Optional1.throwIfEmptyStackless");
+            throw emptyException(false);
+        }
+
+        @Override
+        public Optional1<C> runIfEmpty(CheckedRunnable runIfEmpty) {
+            Optional2Utils.run(runIfEmpty);
+            return this;
+        }
+
+        @Override
+        public C get() {
+            throw emptyException(true);
+        }
+
+        @Override
+        public Optional<C> getOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+            return Optional2.ofNullable(Optional2Events.apply("Optional1.or", supplyIfEmpty).orElse(null));
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Deadline deadline) {
+            Optional<C> supplied = deadline.supply(() -> Optional2Events.apply("Optional1.or", supplyIfEmpty));
+            return supplied == null ? this : Optional2.ofNullable(supplied.orElse(null));
+        }
+
+        @Override
+        public Optional1<C> or(CheckedFunction0<Optional<C>> supplyIfEmpty, Duration timeout) {
+            return or(supplyIfEmpty, Deadline.after(timeout));
+        }
+
+        @Override
+        public Optional1<C> or(Optional1<C> useIfEmpty) {
+            return useIfEmpty;
+        }
+
+        @Override
+        public Optional1<C> or(Optional<C> useIfEmpty) {
+            return Optional2.ofNullable(useIfEmpty.orElse(null));
+        }
+
+        @Override
+        public Optional1<C> or(C useIfEmpty) {
+            return Optional2.ofNullable(useIfEmpty);
+        }
+
+        @Override
+        public C orElse(C other) {
+            return other;
+        }
+
+        @Override
+        @Nullable
+        public C orElseNull() {
+            return null;
+        }
+
+        @Override
+        public C orElseGet(CheckedFunction0<? extends C> other) {
+            return Optional2Utils.apply(other);
+        }
+
+        @Override
+        public <X extends Throwable> C orElseThrow(CheckedFunction0<? extends X> exceptionSupplier) throws X {
+            recordThrow("Optional1.orElseThrow");
+            throw Optional2Utils.apply(exceptionSupplier);
+        }
+
+        @Override
+        public C orElseThrow() {
+            recordThrow("Optional1.orElseThrow");
+            throw emptyException(true);
+        }
+
+        @Override
+        public C orElseThrowStackless() {
+            recordThrow("Optional1.orElseThrowStackless");
+            throw emptyException(false);
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public Optional1<C> ifPresent(CheckedConsumer<? super C> consumer) {
+            return this;
+        }
+
+        @Override
+        public Optional1<C> ifPresentOrElse(CheckedConsumer<? super C> consumer, CheckedRunnable emptyAction) {
+            Optional2Utils.run(emptyAction);
+            return this;
+        }
+
+        @Override
+        public Optional1<C> ifEmpty(CheckedRunnable runIfEmpty) {
+            Optional2Utils.run(runIfEmpty);
+            return this;
+        }
+
+        @Override
+        public Optional1<C> filter(CheckedPredicate<? super C> predicate) {
+            return this;
+        }
+
+        @Override
+        public <B> Optional1<B> map(CheckedFunction1<? super C, ? extends B> mapper) {
+            return empty();
+        }
+
+        @Override
+        public <B> Optional1<B> flatMap(CheckedFunction1<? super C, ? extends Optional<? extends B>> mapper) {
+            return empty();
+        }
+
+        @Override
+        public Stream<C> stream() {
+            return Stream.empty();
+        }
+
+        @Override
+        public String toString() {
+            return "Optional2[null]";
+        }
+
+        private static EmptyValueException emptyException(boolean stackTrace) {
+            return new EmptyValueException("No value present", null, stackTrace);
+        }
+
+        private static void recordThrow(String operation) {
+            if (Optional2Metrics.ENABLED) {
+                Optional2Metrics.recordEmptyThrow(true);
+            }
+            Optional2Events.emptyThrow(operation, true);
+        }
     }
 }
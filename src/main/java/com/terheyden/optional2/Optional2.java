@@ -1,63 +1,142 @@
 package com.terheyden.optional2;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import io.vavr.CheckedConsumer;
-import io.vavr.CheckedFunction0;
-import io.vavr.CheckedFunction1;
-import io.vavr.CheckedFunction2;
-import io.vavr.CheckedRunnable;
-import io.vavr.Tuple;
-import io.vavr.Tuple2;
-
 /**
  * Handles two optional values, providing methods to verify them in various ways.
+ * <p>
+ * An {@code Optional2} is either a {@link Present} (both values non-null) or an {@link Empty}
+ * (either value null). Each implementation knows its own state, so the methods don't
+ * re-check for presence, and the types can be used with pattern matching:
+ * <pre>{@code
+ * if (opt instanceof Optional2.Present<String, UUID>(var name, var userId)) { ... }
+ * }</pre>
  */
-public class Optional2<C, D> {
+public sealed interface Optional2<C, D> permits Optional2.Present, Optional2.Empty {
 
-    // These generics aren't strongly typed, for later casting purposes.
-    private static final Optional2 EMPTY = new Optional2(Optional.empty(), Optional.empty());
+    static <C> Optional1<C> of(C obj1) {
+        return ofNullable(obj1);
+    }
 
-    private final Optional<C> obj1;
-    private final Optional<D> obj2;
+    static <C, D> Optional2<C, D> of(C obj1, D obj2) {
+        return ofNullable(obj1, obj2);
+    }
 
-    /* package */ Optional2(@Nullable C obj1, @Nullable D obj2) {
-        this.obj1 = Optional.ofNullable(obj1);
-        this.obj2 = Optional.ofNullable(obj2);
+    static <C> Optional1<C> ofNullable(@Nullable C obj1) {
+        return obj1 == null
+            ? Optional1.empty()
+            : new Optional1.Present<>(obj1);
     }
 
-    /* package */ Optional2(Optional<C> obj1, Optional<D> obj2) {
-        this.obj1 = obj1;
-        this.obj2 = obj2;
+    static <C, D> Optional2<C, D> ofNullable(@Nullable C obj1, @Nullable D obj2) {
+
+        if (obj1 != null && obj2 != null) {
+            return new Present<>(obj1, obj2);
+        }
+
+        return obj1 == null && obj2 == null
+            ? empty()
+            : new Empty<>(obj1, obj2);
     }
 
-    public static <C> Optional1<C> of(C obj1) {
-        return new Optional1<>(obj1);
+    /**
+     * Like {@link #ofNullable(Object)}, but returns a shared instance for values that recur,
+     * instead of allocating a new one each time. Enum and Boolean values always map to
+     * the same instance; other values are kept in a bounded table, so a recurring value
+     * usually, but not always, gets the same instance.
+     * Opt-in, for hot paths and for results that get cached, where duplicates would waste heap.
+     */
+    static <C> Optional1<C> interned(@Nullable C obj1) {
+        return Optional2Interner.intern(obj1);
     }
 
-    public static <C, D> Optional2<C, D> of(C obj1, D obj2) {
-        return new Optional2<>(obj1, obj2);
+    /**
+     * Like {@link #ofNullable(Object, Object)}, but returns a shared instance for pairs that recur;
+     * see {@link #interned(Object)}. Pairs of enums and Booleans are all built up front.
+     */
+    static <C, D> Optional2<C, D> interned(@Nullable C obj1, @Nullable D obj2) {
+        return Optional2Interner.intern(obj1, obj2);
     }
 
-    public static <C> Optional1<C> ofNullable(@Nullable C obj1) {
-        return new Optional1<>(obj1);
+    /**
+     * Pairs up two existing {@link Optional1}s. Like {@link #ofNullable(Object, Object)},
+     * a present first value is kept even if the second is empty, so it can be filled in via {@code or()}.
+     */
+    static <C, D> Optional2<C, D> zip(Optional1<? extends C> opt1, Optional1<? extends D> opt2) {
+        return ofNullable(opt1.orElseNull(), opt2.orElseNull());
     }
 
-    public static <C, D> Optional2<C, D> ofNullable(@Nullable C obj1, @Nullable D obj2) {
-        return new Optional2<>(obj1, obj2);
+    /**
+     * Pairs up two existing {@link Optional}s; see {@link #zip(Optional1, Optional1)}.
+     */
+    static <C, D> Optional2<C, D> zip(Optional<? extends C> opt1, Optional<? extends D> opt2) {
+        return ofNullable(opt1.orElse(null), opt2.orElse(null));
+    }
+
+    /**
+     * Runs the suppliers in order, stopping at the first one that returns null,
+     * and holds the results in one flat array instead of nested {@code Optional2}s; see {@link OptionalAll}.
+     */
+    static OptionalAll allOf(CheckedFunction0<?>... suppliers) {
+        return OptionalAll.of(suppliers);
     }
 
     /**
      * Returns an empty immutable singleton {@code Optional2} instance.
      */
     @SuppressWarnings("unchecked")
-    public static <C, D> Optional2<C, D> empty() {
-        return (Optional2<C, D>) EMPTY;
+    static <C, D> Optional2<C, D> empty() {
+        return (Optional2<C, D>) Empty.EMPTY;
+    }
+
+    /**
+     * Starts a lazy chain from the given value; see {@link LazyOptional1}.
+     */
+    static <C> LazyOptional1<C> lazy(@Nullable C obj1) {
+        Optional1<C> opt1 = ofNullable(obj1);
+        return new LazyOptional1<>(() -> opt1);
+    }
+
+    /**
+     * Starts a lazy chain; the supplier doesn't run until a terminal operation.
+     *
+     * @see LazyOptional1
+     */
+    static <C> LazyOptional1<C> lazy(CheckedFunction0<? extends C> supplyObj1) {
+        return new LazyOptional1<>(() -> ofNullable(supplyObj1.apply()));
+    }
+
+    /**
+     * Starts an async chain; the supplier runs on the given executor, and so do later {@code Async} steps.
+     *
+     * @see AsyncOptional1
+     */
+    static <C> AsyncOptional1<C> async(CheckedFunction0<? extends C> supplyObj1, Executor executor) {
+        return new AsyncOptional1<>(
+            Optional2Utils.supplyAsync(supplyObj1, executor).thenApply(Optional2::ofNullable),
+            executor);
+    }
+
+    /**
+     * Runs two independent blocking lookups at the same time, and waits for both.
+     * If either comes back null or throws, the other is cancelled (interrupted if running)
+     * without waiting for it, and the result is empty or the exception is rethrown.
+     * Lookups run on a shared executor for blocking work: virtual threads on Java 21+,
+     * a bounded thread pool on Java 17.
+     */
+    static <C, D> Optional2<C, D> allOfBlocking(
+        CheckedFunction0<? extends C> supplyObj1,
+        CheckedFunction0<? extends D> supplyObj2) {
+
+        return Optional2Utils.allOf(supplyObj1, supplyObj2, BlockingExecutor.get());
     }
 
     /**
@@ -67,14 +146,7 @@ public class Optional2<C, D> {
      * @return this, for chaining
      * @throws NoSuchElementException if either value is null
      */
-    public Optional2<C, D> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier) {
-
-        if (isEmpty()) {
-            Optional2Utils.throwUnchecked(exceptionSupplier.unchecked().get());
-        }
-
-        return this;
-    }
+    Optional2<C, D> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier);
 
     /**
      * A chainable version of {@link #orElseThrow()}.
@@ -83,45 +155,39 @@ public class Optional2<C, D> {
      * @return this, for chaining
      * @throws NoSuchElementException if either value is null
      */
-    public Optional2<C, D> throwIfEmpty() {
-        return isPresent()
-            ? this
-            : throwIfEmpty(() -> new NoSuchElementException("One or more Optional2 values are empty: " + this));
-    }
+    Optional2<C, D> throwIfEmpty();
+
+    /**
+     * Like {@link #throwIfEmpty()}, but the exception has no stack trace, so it's much cheaper to throw.
+     *
+     * @return this, for chaining
+     * @throws EmptyValueException if either value is null
+     */
+    Optional2<C, D> throwIfEmptyStackless();
 
     /**
      * Returns a {@link Tuple2} containing both values, if present.
      * If either value is null, throws a {@link NoSuchElementException}.
      */
-    public Tuple2<C, D> get() {
-        return orElseThrow();
-    }
+    Tuple2<C, D> get();
 
     /**
      * Returns an {@link Optional} containing a {@link Tuple2} of the two values,
      * if present. If either value is null, {@link Optional#empty()} is returned.
      */
-    public Optional<Tuple2<C, D>> getOptional() {
-        return isEmpty()
-            ? Optional.empty()
-            : Optional.of(Tuple.of(obj1.get(), obj2.get()));
-    }
+    Optional<Tuple2<C, D>> getOptional();
 
     /**
      * Just like {@link Optional#get()}, returns the first value, if present,
      * or throws a {@link NoSuchElementException} if it's null.
      */
-    public C getFirstValue() {
-        return obj1.get();
-    }
+    C getFirstValue();
 
     /**
      * Just like {@link Optional#get()}, returns the second value, if present,
      * or throws a {@link NoSuchElementException} if it's null.
      */
-    public D getSecondValue() {
-        return obj2.get();
-    }
+    D getSecondValue();
 
     /**
      * If the second value is null, use the supplier to get a non-empty value to use instead.
@@ -131,107 +197,71 @@ public class Optional2<C, D> {
      *
      * @see Optional#or(Supplier)
      */
-    public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+    Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty);
 
-        if (obj1.isEmpty()) {
-            return empty();
-        }
+    /**
+     * Like {@link #or(CheckedFunction0)}, but if the deadline passes first, the supplier is interrupted
+     * and the second value stays empty (or this throws, see {@link Deadline#orThrow()}).
+     *
+     * @see Optional1#andOf(CheckedFunction1, Deadline)
+     */
+    Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Deadline deadline);
 
-        return obj2.isEmpty()
-            ? new Optional2<>(obj1, supplyIfEmpty.unchecked().apply())
-            : this;
-    }
+    /**
+     * Like {@link #or(CheckedFunction0, Deadline)}, with a deadline the given time from now,
+     * or the {@link Deadline#current() current} one, if that's sooner.
+     */
+    Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Duration timeout);
 
     /**
      * If the second value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional2<C, D> or(Optional1<D> useIfEmpty) {
-
-        if (obj1.isEmpty()) {
-            return empty();
-        }
-
-        return isEmpty()
-            ? new Optional2<>(obj1, useIfEmpty.getOptional())
-            : this;
-    }
+    Optional2<C, D> or(Optional1<D> useIfEmpty);
 
     /**
      * If the second value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional2<C, D> or(Optional<D> useIfEmpty) {
-
-        if (obj1.isEmpty()) {
-            return empty();
-        }
-
-        return isEmpty()
-            ? new Optional2<>(obj1, useIfEmpty)
-            : this;
-    }
+    Optional2<C, D> or(Optional<D> useIfEmpty);
 
     /**
      * If the second value is null, use the given replacement value instead.
      *
      * @see Optional#or(Supplier)
      */
-    public Optional2<C, D> or(D useIfEmpty) {
-
-        if (obj1.isEmpty()) {
-            return empty();
-        }
-
-        return isEmpty()
-            ? new Optional2<>(obj1, Optional.of(useIfEmpty))
-            : this;
-    }
+    Optional2<C, D> or(D useIfEmpty);
 
     /**
      * Returns a {@link Tuple2} containing the first and second values, if present.
      * If the first value is null, the first alternate value is used instead.
      * Similarly, if the second value is null, the second alternate value is used.
      */
-    public Tuple2<C, D> orElse(C elseValue1, D elseValue2) {
-        return Tuple.of(obj1.orElse(elseValue1), obj2.orElse(elseValue2));
-    }
+    Tuple2<C, D> orElse(C elseValue1, D elseValue2);
 
     /**
      * Returns the value if present, else null.
      * Equivalent to: {@code orElse(null, null)}, but with proper {@code @Nullable} annotations.
      */
     @Nullable
-    public Tuple2<C, D> orElseNull() {
-        return isEmpty()
-            ? null
-            : get();
-    }
+    Tuple2<C, D> orElseNull();
 
     /**
      * Returns a {@link Tuple2} containing the first and second values.
      * If the first value is null, the first supplier is used instead.
      * Similarly, if the second value is null, the second supplier is used.
      */
-    public Tuple2<C, D> orElseGet(
+    Tuple2<C, D> orElseGet(
         CheckedFunction0<? extends C> elseSupplier1,
-        CheckedFunction0<? extends D> elseSupplier2) {
-
-        return Tuple.of(
-            obj1.orElseGet(elseSupplier1.unchecked()),
-            obj2.orElseGet(elseSupplier2.unchecked()));
-    }
+        CheckedFunction0<? extends D> elseSupplier2);
 
     /**
      * If both values are present, returns a {@link Tuple2} that contains them.
      * Otherwise, throws the provided exception.
      */
-    public Tuple2<C, D> orElseThrow(CheckedFunction0<? extends Throwable> exceptionSupplier) {
-        throwIfEmpty(exceptionSupplier);
-        return get();
-    }
+    Tuple2<C, D> orElseThrow(CheckedFunction0<? extends Throwable> exceptionSupplier);
 
     /**
      * If both values are present, returns a {@link Tuple2} that contains them.
@@ -239,28 +269,61 @@ public class Optional2<C, D> {
      *
      * @throws NoSuchElementException if either value is null
      */
-    public Tuple2<C, D> orElseThrow() {
-        throwIfEmpty();
-        return get();
-    }
+    Tuple2<C, D> orElseThrow();
+
+    /**
+     * Like {@link #orElseThrow()}, but the exception has no stack trace, so it's much cheaper to throw.
+     *
+     * @throws EmptyValueException if either value is null
+     */
+    Tuple2<C, D> orElseThrowStackless();
+
+    /**
+     * If both values are present, passes them to the given function and returns its result.
+     * Otherwise, throws a {@link NoSuchElementException}.
+     * Like {@link #get()}, but without creating a {@link Tuple2}.
+     */
+    <R> R get(CheckedFunction2<? super C, ? super D, ? extends R> mapper);
+
+    /**
+     * Passes the first and second values to the given function and returns its result.
+     * If the first value is null, the first alternate value is used instead.
+     * Similarly, if the second value is null, the second alternate value is used.
+     * Like {@link #orElse(Object, Object)}, but without creating a {@link Tuple2}.
+     */
+    <R> R orElse(C elseValue1, D elseValue2, CheckedFunction2<? super C, ? super D, ? extends R> mapper);
+
+    /**
+     * Passes the first and second values to the given function and returns its result.
+     * If the first value is null, the first supplier is used instead.
+     * Similarly, if the second value is null, the second supplier is used.
+     * Like {@link #orElseGet(CheckedFunction0, CheckedFunction0)}, but without creating a {@link Tuple2}.
+     */
+    <R> R orElseGet(
+        CheckedFunction0<? extends C> elseSupplier1,
+        CheckedFunction0<? extends D> elseSupplier2,
+        CheckedFunction2<? super C, ? super D, ? extends R> mapper);
+
+    /**
+     * If both values are present, combine them with the given function and return the result.
+     * If either value is null, or the function returns null, return {@code other}.
+     * Equivalent to {@code reduce(mapper).orElse(other)}, but without creating an {@link Optional}.
+     */
+    <E> E reduceOrElse(CheckedFunction2<? super C, ? super D, ? extends E> mapper, E other);
 
     /**
      * True if both values are present.
      *
      * @see #isEmpty()
      */
-    public boolean isPresent() {
-        return obj1.isPresent() && obj2.isPresent();
-    }
+    boolean isPresent();
 
     /**
      * True if either value is not present.
      *
      * @see #isPresent()
      */
-    public boolean isEmpty() {
-        return !isPresent();
-    }
+    boolean isEmpty();
 
     /**
      * If both values are present, apply the first consumer to the first value,
@@ -270,16 +333,7 @@ public class Optional2<C, D> {
      * @return this, for chaining
      * @see Optional#ifPresent(Consumer)
      */
-    public Optional2<C, D> ifPresent(CheckedConsumer<? super C> consumer1, CheckedConsumer<? super D> consumer2) {
-
-        if (isEmpty()) {
-            return this;
-        }
-
-        obj1.ifPresent(consumer1.unchecked());
-        obj2.ifPresent(consumer2.unchecked());
-        return this;
-    }
+    Optional2<C, D> ifPresent(CheckedConsumer<? super C> consumer1, CheckedConsumer<? super D> consumer2);
 
     /**
      * If both values are present, apply the consumer to both values.
@@ -288,15 +342,7 @@ public class Optional2<C, D> {
      * @return this, for chaining
      * @see Optional#ifPresent(Consumer)
      */
-    public Optional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
-
-        if (isEmpty()) {
-            return this;
-        }
-
-        consumer.unchecked().accept(obj1.get(), obj2.get());
-        return this;
-    }
+    Optional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer);
 
     /**
      * If both values are present, apply the given {@link CheckedConsumer2} to both values.
@@ -305,17 +351,9 @@ public class Optional2<C, D> {
      *
      * @return this, for chaining
      */
-    public Optional2<C, D> ifPresentOrElse(
+    Optional2<C, D> ifPresentOrElse(
         CheckedConsumer2<? super C, ? super D> presentConsumer,
-        CheckedRunnable emptyAction) {
-
-        if (isPresent()) {
-            return ifPresent(presentConsumer);
-        }
-
-        emptyAction.unchecked().run();
-        return this;
-    }
+        CheckedRunnable emptyAction);
 
     /**
      * Run the given {@link CheckedRunnable} if either value is null.
@@ -323,32 +361,14 @@ public class Optional2<C, D> {
      * @return this, for chaining
      * @see Optional#ifPresent(Consumer)
      */
-    public Optional2<C, D> ifEmpty(CheckedRunnable runIfEmpty) {
-
-        if (isEmpty()) {
-            runIfEmpty.unchecked().run();
-        }
-
-        return this;
-    }
+    Optional2<C, D> ifEmpty(CheckedRunnable runIfEmpty);
 
     /**
      * If both values are present, apply the given filter.
      *
      * @return this, for chaining
      */
-    public Optional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
-
-        if (isEmpty()) {
-            return this;
-        }
-
-        if (predicate.unchecked().test(obj1.get(), obj2.get())) {
-            return this;
-        }
-
-        return empty();
-    }
+    Optional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate);
 
     /**
      * If both values are present, apply the first mapper to the first value,
@@ -358,14 +378,9 @@ public class Optional2<C, D> {
      * @see #map(CheckedFunction2, CheckedFunction2)
      * @see Optional#map(Function)
      */
-    public <A, E> Optional2<A, E> map(
+    <A, E> Optional2<A, E> map(
         CheckedFunction1<? super C, ? extends A> mapper1,
-        CheckedFunction1<? super D, ? extends E> mapper2) {
-
-        return isEmpty()
-            ? empty()
-            : new Optional2<>(obj1.map(mapper1.unchecked()), obj2.map(mapper2.unchecked()));
-    }
+        CheckedFunction1<? super D, ? extends E> mapper2);
 
     /**
      * If both values are present, apply the first mapper to the first value,
@@ -375,16 +390,17 @@ public class Optional2<C, D> {
      * @see #map(CheckedFunction1, CheckedFunction1)
      * @see Optional#map(Function)
      */
-    public <A, E> Optional2<A, E> map(
+    <A, E> Optional2<A, E> map(
         CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
-        CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2);
 
-        return isEmpty()
-            ? empty()
-            : new Optional2<>(
-                obj1.map(ob1 -> mapper1.unchecked().apply(ob1, obj2.orElseThrow())),
-                obj2.map(ob2 -> mapper2.unchecked().apply(obj1.orElseThrow(), ob2)));
-    }
+    /**
+     * Like {@link #map(CheckedFunction1, CheckedFunction1)}, but if either mapper throws,
+     * the exception is kept in the returned {@link Result2} instead of being thrown, and the chain carries on.
+     */
+    <A, E> Result2<A, E> mapTry(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2);
 
     /**
      * If both values are present, combine down to an {@link Optional}.
@@ -394,12 +410,7 @@ public class Optional2<C, D> {
      * because it's unlikely that users will build up an {@code Optional2},
      * reduce it down, then build yet another {@code Optional2} from the result.
      */
-    public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
-
-        return isEmpty()
-            ? Optional.empty()
-            : Optional.ofNullable(mapper.unchecked().apply(obj1.get(), obj2.get()));
-    }
+    <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper);
 
     /**
      * Applies {@link Optional#flatMap(Function)} to both values individually.
@@ -410,14 +421,9 @@ public class Optional2<C, D> {
      *
      * @see Optional#flatMap(Function)
      */
-    public <A, E> Optional2<A, E> flatMap(
+    <A, E> Optional2<A, E> flatMap(
         CheckedFunction1<? super C, Optional<A>> mapper1,
-        CheckedFunction1<? super D, Optional<E>> mapper2) {
-
-        return isEmpty()
-            ? empty()
-            : new Optional2<>(obj1.flatMap(mapper1.unchecked()), obj2.flatMap(mapper2.unchecked()));
-    }
+        CheckedFunction1<? super D, Optional<E>> mapper2);
 
     /**
      * If both values are present, combine down to an {@link Optional}.
@@ -426,17 +432,644 @@ public class Optional2<C, D> {
      * because it's unlikely that users will build up an {@code Optional2},
      * reduce it down, then build yet another {@code Optional2} from the result.
      */
-    public <E> Optional<E> flatMapReduce(CheckedFunction2<? super C, ? super D, Optional<E>> mapper) {
+    <E> Optional<E> flatMapReduce(CheckedFunction2<? super C, ? super D, Optional<E>> mapper);
+
+    /**
+     * A {@link BiStream} of the two values, if present, otherwise an empty stream.
+     * To flatten many {@code Optional2}s at once, see {@link BiStream#flatten(java.util.stream.Stream)}.
+     */
+    BiStream<C, D> stream();
+
+    /**
+     * Adds a third Optional value to track via {@link Optional3}.
+     */
+    <E> Optional3<C, D, E> andOfNullable(@Nullable E obj3);
+
+    /**
+     * Adds a third Optional value to track via {@link Optional3}.
+     */
+    <E> Optional3<C, D, E> andOfNullable(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper);
+
+    /**
+     * Adds a third Optional value to track via {@link Optional3}.
+     */
+    <E> Optional3<C, D, E> andOf(E obj3);
+
+    /**
+     * Adds a third Optional value to track via {@link Optional3}.
+     * A null result from the mapper leaves the third value empty,
+     * so it can be filled in via {@link Optional3#or(Object)}.
+     */
+    <E> Optional3<C, D, E> andOf(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper);
+
+    /**
+     * An {@link Optional2} where both values are present.
+     */
+    record Present<C, D>(C first, D second) implements Optional2<C, D> {
+
+        public Present {
+            Objects.requireNonNull(first);
+            Objects.requireNonNull(second);
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmptyStackless() {
+            return this;
+        }
+
+        @Override
+        public Tuple2<C, D> get() {
+            return new Tuple2<>(first, second);
+        }
+
+        @Override
+        public Optional<Tuple2<C, D>> getOptional() {
+            return Optional.of(new Tuple2<>(first, second));
+        }
+
+        @Override
+        public C getFirstValue() {
+            return first;
+        }
+
+        @Override
+        public D getSecondValue() {
+            return second;
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Deadline deadline) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Duration timeout) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> or(Optional1<D> useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> or(Optional<D> useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> or(D useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Tuple2<C, D> orElse(C elseValue1, D elseValue2) {
+            return get();
+        }
+
+        @Override
+        public Tuple2<C, D> orElseNull() {
+            return get();
+        }
+
+        @Override
+        public Tuple2<C, D> orElseGet(
+            CheckedFunction0<? extends C> elseSupplier1,
+            CheckedFunction0<? extends D> elseSupplier2) {
+
+            return get();
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrow(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+            return get();
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrow() {
+            return get();
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrowStackless() {
+            return get();
+        }
+
+        @Override
+        public <R> R get(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            return Optional2Utils.apply(mapper, first, second);
+        }
+
+        @Override
+        public <R> R orElse(C elseValue1, D elseValue2, CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            return Optional2Utils.apply(mapper, first, second);
+        }
+
+        @Override
+        public <R> R orElseGet(
+            CheckedFunction0<? extends C> elseSupplier1,
+            CheckedFunction0<? extends D> elseSupplier2,
+            CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+
+            return Optional2Utils.apply(mapper, first, second);
+        }
+
+        @Override
+        public <E> E reduceOrElse(CheckedFunction2<? super C, ? super D, ? extends E> mapper, E other) {
+            E result = Optional2Events.apply("Optional2.reduceOrElse", mapper, first, second);
+            return result == null ? other : result;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresent(CheckedConsumer<? super C> consumer1, CheckedConsumer<? super D> consumer2) {
+            Optional2Utils.accept(consumer1, first);
+            Optional2Utils.accept(consumer2, second);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
+            Optional2Utils.accept(consumer, first, second);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresentOrElse(
+            CheckedConsumer2<? super C, ? super D> presentConsumer,
+            CheckedRunnable emptyAction) {
+
+            Optional2Utils.accept(presentConsumer, first, second);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifEmpty(CheckedRunnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+            return Optional2Utils.test(predicate, first, second)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> map(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            return ofNullable(
+                Optional2Events.apply("Optional2.map", mapper1, first),
+                Optional2Events.apply("Optional2.map", mapper2, second));
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> map(
+            CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+            CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+            return ofNullable(
+                Optional2Events.apply("Optional2.map", mapper1, first, second),
+                Optional2Events.apply("Optional2.map", mapper2, first, second));
+        }
+
+        @Override
+        public <A, E> Result2<A, E> mapTry(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
 
-        return isEmpty()
-            ? Optional.empty()
-            : mapper.unchecked().apply(obj1.get(), obj2.get());
+            return new Result2.Success<>(this).map(mapper1, mapper2);
+        }
+
+        @Override
+        public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+            return Optional.ofNullable(Optional2Events.apply("Optional2.reduce", mapper, first, second));
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> flatMap(
+            CheckedFunction1<? super C, Optional<A>> mapper1,
+            CheckedFunction1<? super D, Optional<E>> mapper2) {
+
+            return ofNullable(
+                Optional2Events.apply("Optional2.flatMap", mapper1, first).orElse(null),
+                Optional2Events.apply("Optional2.flatMap", mapper2, second).orElse(null));
+        }
+
+        @Override
+        public <E> Optional<E> flatMapReduce(CheckedFunction2<? super C, ? super D, Optional<E>> mapper) {
+            return Optional2Events.apply("Optional2.flatMapReduce", mapper, first, second);
+        }
+
+        @Override
+        public BiStream<C, D> stream() {
+            return BiStream.of(first, second);
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOfNullable(@Nullable E obj3) {
+            return Optional3.ofNullable(first, second, obj3);
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOfNullable(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper) {
+            return Optional3.ofNullable(first, second, Optional2Events.apply("Optional2.andOfNullable", valueMapper, first, second));
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOf(E obj3) {
+            return new Optional3.Present<>(first, second, obj3);
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOf(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper) {
+            return Optional3.ofNullable(first, second, Optional2Events.apply("Optional2.andOf", valueMapper, first, second));
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof Present<?, ?> other
+                && first.equals(other.first)
+                && second.equals(other.second);
+        }
+
+        /**
+         * Well-distributed, unlike the record default, so that pairs of small numbers
+         * don't collide as map keys.
+         */
+        @Override
+        public int hashCode() {
+            return Optional2Utils.hash(first, second);
+        }
+
+        @Override
+        public String toString() {
+            return "Optional2[%s,%s]".formatted(first, second);
+        }
     }
 
-    @Override
-    public String toString() {
-        return "Optional2[%s,%s]".formatted(
-            obj1.isEmpty() ? "null" : obj1.get(),
-            obj2.isEmpty() ? "null" : obj2.get());
+    /**
+     * An {@link Optional2} where either value is null.
+     * The all-null instance is a singleton, see {@link #empty()}.
+     * A partially-filled instance keeps its non-null value so that
+     * {@code or()} and the {@code orElse()} family can still use it.
+     */
+    final class Empty<C, D> implements Optional2<C, D> {
+
+        // These generics aren't strongly typed, for later casting purposes.
+        private static final Empty EMPTY = new Empty(null, null);
+
+        @Nullable
+        private final C obj1;
+        @Nullable
+        private final D obj2;
+
+        private Empty(@Nullable C obj1, @Nullable D obj2) {
+            this.obj1 = obj1;
+            this.obj2 = obj2;
+        }
+
+        /**
+         * The first value, if it was present.
+         */
+        @Nullable
+        /* package */ C firstOrNull() {
+            return obj1;
+        }
+
+        /**
+         * The second value, if it was present.
+         */
+        @Nullable
+        /* package */ D secondOrNull() {
+            return obj2;
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmpty(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+            recordThrow("Optional2.throwIfEmpty");
+            return Optional2Utils.throwUnchecked(Optional2Utils.apply(exceptionSupplier));
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmpty() {
+            recordThrow("Optional2.throwIfEmpty");
+            throw emptyException(true);
+        }
+
+        @Override
+        public Optional2<C, D> throwIfEmptyStackless() {
+            recordThrow("Optional2.throwIfEmptyStackless");
+            throw emptyException(false);
+        }
+
+        @Override
+        public Tuple2<C, D> get() {
+            return orElseThrow();
+        }
+
+        @Override
+        public Optional<Tuple2<C, D>> getOptional() {
+            return Optional.empty();
+        }
+
+        @Override
+        public C getFirstValue() {
+
+            if (obj1 == null) {
+                throw new NoSuchElementException("No value present");
+            }
+
+            return obj1;
+        }
+
+        @Override
+        public D getSecondValue() {
+
+            if (obj2 == null) {
+                throw new NoSuchElementException("No value present");
+            }
+
+            return obj2;
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+            return obj1 == null
+                ? empty()
+                : ofNullable(obj1, Optional2Events.apply("Optional2.or", supplyIfEmpty).orElse(null));
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Deadline deadline) {
+
+            if (obj1 == null) {
+                return empty();
+            }
+
+            Optional<D> supplied = deadline.supply(() -> Optional2Events.apply("Optional2.or", supplyIfEmpty));
+            return supplied == null ? this : ofNullable(obj1, supplied.orElse(null));
+        }
+
+        @Override
+        public Optional2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty, Duration timeout) {
+            return or(supplyIfEmpty, Deadline.after(timeout));
+        }
+
+        @Override
+        public Optional2<C, D> or(Optional1<D> useIfEmpty) {
+            return obj1 == null
+                ? empty()
+                : ofNullable(obj1, useIfEmpty.orElseNull());
+        }
+
+        @Override
+        public Optional2<C, D> or(Optional<D> useIfEmpty) {
+            return obj1 == null
+                ? empty()
+                : ofNullable(obj1, useIfEmpty.orElse(null));
+        }
+
+        @Override
+        public Optional2<C, D> or(D useIfEmpty) {
+            return obj1 == null
+                ? empty()
+                : new Present<>(obj1, useIfEmpty);
+        }
+
+        @Override
+        public Tuple2<C, D> orElse(C elseValue1, D elseValue2) {
+            return new Tuple2<>(
+                obj1 == null ? elseValue1 : obj1,
+                obj2 == null ? elseValue2 : obj2);
+        }
+
+        @Override
+        @Nullable
+        public Tuple2<C, D> orElseNull() {
+            return null;
+        }
+
+        @Override
+        public Tuple2<C, D> orElseGet(
+            CheckedFunction0<? extends C> elseSupplier1,
+            CheckedFunction0<? extends D> elseSupplier2) {
+
+            return new Tuple2<>(
+                obj1 == null ? Optional2Utils.apply(elseSupplier1) : obj1,
+                obj2 == null ? Optional2Utils.apply(elseSupplier2) : obj2);
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrow(CheckedFunction0<? extends Throwable> exceptionSupplier) {
+            recordThrow("Optional2.orElseThrow");
+            return Optional2Utils.throwUnchecked(Optional2Utils.apply(exceptionSupplier));
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrow() {
+            recordThrow("Optional2.orElseThrow");
+            throw emptyException(true);
+        }
+
+        @Override
+        public Tuple2<C, D> orElseThrowStackless() {
+            recordThrow("Optional2.orElseThrowStackless");
+            throw emptyException(false);
+        }
+
+        @Override
+        public <R> R get(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            throw emptyException(true);
+        }
+
+        @Override
+        public <R> R orElse(C elseValue1, D elseValue2, CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            return Optional2Utils.apply(
+                mapper,
+                obj1 == null ? elseValue1 : obj1,
+                obj2 == null ? elseValue2 : obj2);
+        }
+
+        @Override
+        public <R> R orElseGet(
+            CheckedFunction0<? extends C> elseSupplier1,
+            CheckedFunction0<? extends D> elseSupplier2,
+            CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+
+            return Optional2Utils.apply(
+                mapper,
+                obj1 == null ? Optional2Utils.apply(elseSupplier1) : obj1,
+                obj2 == null ? Optional2Utils.apply(elseSupplier2) : obj2);
+        }
+
+        @Override
+        public <E> E reduceOrElse(CheckedFunction2<? super C, ? super D, ? extends E> mapper, E other) {
+            return other;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresent(CheckedConsumer<? super C> consumer1, CheckedConsumer<? super D> consumer2) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifPresentOrElse(
+            CheckedConsumer2<? super C, ? super D> presentConsumer,
+            CheckedRunnable emptyAction) {
+
+            Optional2Utils.run(emptyAction);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> ifEmpty(CheckedRunnable runIfEmpty) {
+            Optional2Utils.run(runIfEmpty);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+            return this;
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> map(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            return empty();
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> map(
+            CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+            CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+            return empty();
+        }
+
+        @Override
+        public <A, E> Result2<A, E> mapTry(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            return Result2.empty();
+        }
+
+        @Override
+        public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+            return Optional.empty();
+        }
+
+        @Override
+        public <A, E> Optional2<A, E> flatMap(
+            CheckedFunction1<? super C, Optional<A>> mapper1,
+            CheckedFunction1<? super D, Optional<E>> mapper2) {
+
+            return empty();
+        }
+
+        @Override
+        public <E> Optional<E> flatMapReduce(CheckedFunction2<? super C, ? super D, Optional<E>> mapper) {
+            return Optional.empty();
+        }
+
+        @Override
+        public BiStream<C, D> stream() {
+            return BiStream.empty();
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOfNullable(@Nullable E obj3) {
+            return Optional3.empty();
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOfNullable(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper) {
+            return Optional3.empty();
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOf(E obj3) {
+            return Optional3.empty();
+        }
+
+        @Override
+        public <E> Optional3<C, D, E> andOf(CheckedFunction2<? super C, ? super D, ? extends E> valueMapper) {
+            return Optional3.empty();
+        }
+
+        /**
+         * Partially-filled instances are equal if their values are.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            return this == obj || obj instanceof Empty<?, ?> other
+                && Objects.equals(obj1, other.obj1)
+                && Objects.equals(obj2, other.obj2);
+        }
+
+        @Override
+        public int hashCode() {
+            return Optional2Utils.hash(obj1, obj2);
+        }
+
+        @Override
+        public String toString() {
+            return "Optional2[%s,%s]".formatted(obj1, obj2);
+        }
+
+        private EmptyValueException emptyException(boolean stackTrace) {
+            return new EmptyValueException("One or more Optional2 values are empty: ", this, stackTrace);
+        }
+
+        private void recordThrow(String operation) {
+            if (Optional2Metrics.ENABLED) {
+                Optional2Metrics.recordEmptyThrow(obj1 == null);
+            }
+            Optional2Events.emptyThrow(operation, obj1 == null);
+        }
     }
 }
@@ -0,0 +1,372 @@
+package com.terheyden.optional2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Many {@link Optional2}s stored column-wise: the first values in one array,
+ * the second values in another, and which pairs are present in a bitset.
+ * <pre>{@code
+ * List<TestUser> users = Optional2Batch
+ *     .unzip(pairs)
+ *     .filter((name, userId) -> !name.isEmpty())
+ *     .or(() -> Optional.of(guestId))
+ *     .reduce((name, userId) -> TestService.loginUser(userId, name));
+ * }</pre>
+ * For bulk work this replaces millions of small objects with three, and each operation
+ * walks the arrays in order. Each slot behaves like an {@code Optional2}: a pair is present
+ * if both values are non-null, and a partially-present slot can still be filled in via {@code or()}.
+ * <p>
+ * Operations update the batch in place and return it, instead of allocating results per pair.
+ * {@link #map(CheckedFunction1, CheckedFunction1)} returns the same batch, retyped, so keep
+ * using the returned reference. A batch is not thread-safe.
+ */
+public final class Optional2Batch<C, D> {
+
+    private final Object[] firsts;
+    private final Object[] seconds;
+
+    /**
+     * Bit i is set if both values in slot i are present. Walked a word at a time,
+     * so runs of empty slots are skipped 64 at once.
+     */
+    private final long[] present;
+
+    private Optional2Batch(Object[] firsts, Object[] seconds) {
+
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.present = new long[(firsts.length + 63) >>> 6];
+
+        for (int i = 0; i < firsts.length; i++) {
+            if (firsts[i] != null && seconds[i] != null) {
+                present[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    private Optional2Batch(Object[] firsts, Object[] seconds, long[] present) {
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.present = present;
+    }
+
+    /**
+     * Creates a batch from two columns, which are copied.
+     *
+     * @throws IllegalArgumentException if the columns aren't the same length
+     */
+    public static <C, D> Optional2Batch<C, D> of(C[] firsts, D[] seconds) {
+
+        if (firsts.length != seconds.length) {
+            throw new IllegalArgumentException(
+                "Columns must be the same length: %d != %d".formatted(firsts.length, seconds.length));
+        }
+
+        return new Optional2Batch<>(
+            Arrays.copyOf(firsts, firsts.length, Object[].class),
+            Arrays.copyOf(seconds, seconds.length, Object[].class));
+    }
+
+    /**
+     * Splits a collection of {@link Optional2}s into columns.
+     * The partial values of empty {@code Optional2}s are kept.
+     */
+    public static <C, D> Optional2Batch<C, D> unzip(Collection<? extends Optional2<C, D>> optionals) {
+
+        Object[] firsts = new Object[optionals.size()];
+        Object[] seconds = new Object[optionals.size()];
+        int i = 0;
+
+        for (Optional2<C, D> opt : optionals) {
+
+            if (opt instanceof Optional2.Present<C, D> pair) {
+                firsts[i] = pair.first();
+                seconds[i] = pair.second();
+            } else if (opt instanceof Optional2.Empty<C, D> partial) {
+                firsts[i] = partial.firstOrNull();
+                seconds[i] = partial.secondOrNull();
+            }
+
+            i++;
+        }
+
+        return new Optional2Batch<>(firsts, seconds);
+    }
+
+    /**
+     * Joins the columns back into a list of {@link Optional2}s.
+     */
+    public List<Optional2<C, D>> zip() {
+
+        List<Optional2<C, D>> optionals = new ArrayList<>(firsts.length);
+
+        for (int i = 0; i < firsts.length; i++) {
+            optionals.add(Optional2.ofNullable(first(i), second(i)));
+        }
+
+        return optionals;
+    }
+
+    /**
+     * An independent copy of this batch.
+     */
+    public Optional2Batch<C, D> copy() {
+        return new Optional2Batch<>(firsts.clone(), seconds.clone(), present.clone());
+    }
+
+    /**
+     * The number of slots, present or not.
+     */
+    public int size() {
+        return firsts.length;
+    }
+
+    /**
+     * The number of present pairs.
+     */
+    public int presentCount() {
+
+        int count = 0;
+
+        for (long word : present) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * True if both values in the given slot are present.
+     */
+    public boolean isPresent(int index) {
+        Objects.checkIndex(index, firsts.length);
+        return (present[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * The pair in the given slot.
+     */
+    public Optional2<C, D> get(int index) {
+        return Optional2.ofNullable(first(index), second(index));
+    }
+
+    /**
+     * Empty every present pair that doesn't match the predicate.
+     *
+     * @return this, for chaining
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    public Optional2Batch<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+
+                if (!Optional2Utils.test(predicate, first(i), second(i))) {
+                    firsts[i] = null;
+                    seconds[i] = null;
+                    present[w] &= ~(1L << i);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Map the values of every present pair in place. A null result empties the slot,
+     * keeping the other value, like {@link Optional2#map(CheckedFunction1, CheckedFunction1)}.
+     *
+     * @return this batch, retyped
+     */
+    @SuppressWarnings("unchecked")
+    public <A, E> Optional2Batch<A, E> map(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2) {
+
+        clearPartialSlots();
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                firsts[i] = Optional2Utils.apply(mapper1, first(i));
+                seconds[i] = Optional2Utils.apply(mapper2, second(i));
+                updatePresence(i);
+            }
+        }
+
+        return (Optional2Batch<A, E>) this;
+    }
+
+    /**
+     * Map the values of every present pair in place, using both values.
+     *
+     * @return this batch, retyped
+     * @see #map(CheckedFunction1, CheckedFunction1)
+     */
+    @SuppressWarnings("unchecked")
+    public <A, E> Optional2Batch<A, E> map(
+        CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+        clearPartialSlots();
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                C obj1 = first(i);
+                D obj2 = second(i);
+                firsts[i] = Optional2Utils.apply(mapper1, obj1, obj2);
+                seconds[i] = Optional2Utils.apply(mapper2, obj1, obj2);
+                updatePresence(i);
+            }
+        }
+
+        return (Optional2Batch<A, E>) this;
+    }
+
+    /**
+     * In every slot with a first value but no second value, use the given second value.
+     *
+     * @return this, for chaining
+     * @see Optional2#or(Object)
+     */
+    public Optional2Batch<C, D> or(D useIfEmpty) {
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = emptyBits(w); word != 0; word &= word - 1) {
+
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+
+                if (firsts[i] != null) {
+                    seconds[i] = useIfEmpty;
+                    present[w] |= 1L << i;
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * In every slot with a first value but no second value, ask the supplier for one.
+     *
+     * @return this, for chaining
+     * @see Optional2#or(CheckedFunction0)
+     */
+    public Optional2Batch<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = emptyBits(w); word != 0; word &= word - 1) {
+
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+
+                if (firsts[i] != null) {
+                    seconds[i] = Optional2Utils.apply(supplyIfEmpty).orElse(null);
+                    updatePresence(i);
+                }
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Combine every present pair down to one value, in slot order. Null results are dropped.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    public <R> List<R> reduce(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+
+        List<R> results = new ArrayList<>(presentCount());
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                R result = Optional2Utils.apply(mapper, first(i), second(i));
+                if (result != null) {
+                    results.add(result);
+                }
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Pass every present pair to the consumer, in slot order.
+     *
+     * @return this, for chaining
+     * @see Optional2#ifPresent(CheckedConsumer2)
+     */
+    public Optional2Batch<C, D> ifPresent(CheckedConsumer2<? super C, ? super D> consumer) {
+
+        for (int w = 0; w < present.length; w++) {
+            for (long word = present[w]; word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                Optional2Utils.accept(consumer, first(i), second(i));
+            }
+        }
+
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private C first(int index) {
+        return (C) firsts[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private D second(int index) {
+        return (D) seconds[index];
+    }
+
+    private void updatePresence(int index) {
+
+        long bit = 1L << index;
+
+        if (firsts[index] != null && seconds[index] != null) {
+            present[index >>> 6] |= bit;
+        } else {
+            present[index >>> 6] &= ~bit;
+        }
+    }
+
+    /**
+     * The bits of the slots in word {@code w} that aren't present, ignoring bits past the end.
+     */
+    private long emptyBits(int w) {
+
+        long empty = ~present[w];
+        int remaining = firsts.length - (w << 6);
+
+        return remaining < 64
+            ? empty & ((1L << remaining) - 1)
+            : empty;
+    }
+
+    /**
+     * Fully empty every slot that isn't present. Map only applies to present pairs,
+     * and the partial values of the others would no longer match the batch's types.
+     */
+    private void clearPartialSlots() {
+        for (int w = 0; w < present.length; w++) {
+            for (long word = emptyBits(w); word != 0; word &= word - 1) {
+                int i = (w << 6) + Long.numberOfTrailingZeros(word);
+                firsts[i] = null;
+                seconds[i] = null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Optional2Batch[size=%d, present=%d]".formatted(size(), presentCount());
+    }
+}
@@ -0,0 +1,386 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A bounded, thread-safe cache for lookups, used via {@link Optional1#andOfCached(Optional2Cache, CheckedFunction1)}:
+ * <pre>{@code
+ * Optional2Cache<String, UUID> userIds = Optional2Cache.<String, UUID>builder()
+ *     .maximumSize(10_000)
+ *     .expireAfterWrite(Duration.ofMinutes(5))
+ *     .cacheEmpty(Duration.ofSeconds(30))
+ *     .eviction(Optional2Cache.Eviction.TINY_LFU)
+ *     .build();
+ *
+ * Optional2.ofNullable(name)
+ *     .andOfCached(userIds, TestService::findUserId)
+ *     ...
+ * }</pre>
+ * On a hit, the mapper isn't called at all. Null results are only cached if {@code cacheEmpty()} is set.
+ * <p>
+ * Keys are spread across independently locked segments, each with its own eviction order,
+ * so the size bound is approximate. The lookup itself runs outside any lock; if two threads
+ * miss on the same key at once, both call the mapper.
+ */
+public final class Optional2Cache<K, V> {
+
+    /**
+     * How a full cache chooses what to drop.
+     */
+    public enum Eviction {
+
+        /**
+         * Drop the least recently used entry.
+         */
+        LRU,
+
+        /**
+         * New entries start in a small LRU window. When the window is full, its oldest entry only
+         * replaces the main area's least recently used entry if it has been asked for more often
+         * recently. Keeps popular keys cached through bursts of one-off keys.
+         */
+        TINY_LFU
+    }
+
+    /**
+     * A snapshot of the cache statistics.
+     *
+     * @param hits        lookups answered from the cache, including cached empty results
+     * @param misses      lookups that called the mapper
+     * @param evictions   entries dropped, or rejected, to stay within the size bound
+     * @param expirations entries dropped because they were too old
+     */
+    public record Stats(long hits, long misses, long evictions, long expirations) {
+
+        /**
+         * The fraction of lookups answered from the cache, or 1 if there were none.
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 1.0 : (double) hits / total;
+        }
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long expireAfterWriteNanos;
+    private final long expireEmptyNanos;
+    private final boolean cacheEmpty;
+    private final LongSupplier ticker;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    private Optional2Cache(Builder<K, V> builder) {
+
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireEmptyNanos = builder.expireEmptyNanos;
+        this.cacheEmpty = builder.cacheEmpty;
+        this.ticker = builder.ticker;
+
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, builder.maximumSize));
+        int segmentSize = (builder.maximumSize + segmentCount - 1) / segmentCount;
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(this, segmentSize, builder.eviction);
+        }
+    }
+
+    public static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the cached value for the key, or calls the mapper and caches its result.
+     *
+     * @return the value, or null if the mapper returned (or previously returned) null
+     */
+    @Nullable
+    public V get(K key, CheckedFunction1<? super K, ? extends V> mapper) {
+
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry = segment.get(key, ticker.getAsLong());
+
+        if (entry != null) {
+            hits.increment();
+            return entry.value();
+        }
+
+        misses.increment();
+        V value = Optional2Utils.apply(mapper, key);
+
+        if (value != null || cacheEmpty) {
+            segment.put(key, new Entry<>(value, ticker.getAsLong()));
+        }
+
+        return value;
+    }
+
+    /**
+     * The cached value for the key, without calling any mapper.
+     * Empty if the key isn't cached, or if its cached result was empty.
+     */
+    public Optional<V> getIfPresent(K key) {
+        Entry<V> entry = segmentFor(key).get(key, ticker.getAsLong());
+        return entry == null ? Optional.empty() : Optional.ofNullable(entry.value());
+    }
+
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * The number of cached entries, including expired ones that haven't been cleaned up yet.
+     */
+    public long size() {
+
+        long size = 0;
+
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        return segments[spread(key.hashCode()) & (segments.length - 1)];
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean isExpired(Entry<V> entry, long now) {
+        long age = now - entry.writtenNanos();
+        return age >= (entry.value() == null ? expireEmptyNanos : expireAfterWriteNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "Optional2Cache[size=%d, %s]".formatted(size(), stats());
+    }
+
+    /**
+     * A cached value, or a cached empty result if null.
+     */
+    private record Entry<V>(@Nullable V value, long writtenNanos) {
+    }
+
+    /**
+     * One independently locked part of the cache.
+     * Both maps are in access order, so their first entry is the least recently used.
+     */
+    private static final class Segment<K, V> {
+
+        private final Optional2Cache<K, V> cache;
+        private final LinkedHashMap<K, Entry<V>> main = new LinkedHashMap<>(16, 0.75f, true);
+        private final int mainSize;
+
+        // TinyLFU only:
+        @Nullable
+        private final LinkedHashMap<K, Entry<V>> window;
+        @Nullable
+        private final FrequencySketch sketch;
+        private final int windowSize;
+
+        private Segment(Optional2Cache<K, V> cache, int size, Eviction eviction) {
+
+            this.cache = cache;
+
+            if (eviction == Eviction.TINY_LFU) {
+                this.windowSize = Math.max(1, size / 100);
+                this.mainSize = size - windowSize;
+                this.window = new LinkedHashMap<>(16, 0.75f, true);
+                this.sketch = new FrequencySketch(size);
+            } else {
+                this.windowSize = 0;
+                this.mainSize = size;
+                this.window = null;
+                this.sketch = null;
+            }
+        }
+
+        @Nullable
+        private synchronized Entry<V> get(K key, long now) {
+
+            if (sketch != null) {
+                sketch.increment(key.hashCode());
+            }
+
+            Entry<V> entry = main.get(key);
+
+            if (entry == null && window != null) {
+                entry = window.get(key);
+            }
+
+            if (entry != null && cache.isExpired(entry, now)) {
+                removeLocked(key);
+                cache.expirations.increment();
+                return null;
+            }
+
+            return entry;
+        }
+
+        private synchronized void put(K key, Entry<V> entry) {
+
+            if (window == null || sketch == null) {
+                main.put(key, entry);
+                if (main.size() > mainSize) {
+                    evictEldest(main);
+                }
+                return;
+            }
+
+            if (main.containsKey(key)) {
+                main.put(key, entry);
+                return;
+            }
+
+            window.put(key, entry);
+
+            if (window.size() <= windowSize) {
+                return;
+            }
+
+            // The window's oldest entry competes with the main area's least recently used one.
+            Map.Entry<K, Entry<V>> candidate = pollEldest(window);
+
+            if (main.size() < mainSize) {
+                main.put(candidate.getKey(), candidate.getValue());
+                return;
+            }
+
+            cache.evictions.increment();
+
+            if (mainSize == 0) {
+                return;
+            }
+
+            K victim = main.keySet().iterator().next();
+
+            if (sketch.frequency(candidate.getKey().hashCode()) > sketch.frequency(victim.hashCode())) {
+                main.remove(victim);
+                main.put(candidate.getKey(), candidate.getValue());
+            }
+        }
+
+        private synchronized void remove(K key) {
+            removeLocked(key);
+        }
+
+        private void removeLocked(K key) {
+            if (main.remove(key) == null && window != null) {
+                window.remove(key);
+            }
+        }
+
+        private synchronized void clear() {
+            main.clear();
+            if (window != null) {
+                window.clear();
+            }
+        }
+
+        private synchronized int size() {
+            return main.size() + (window == null ? 0 : window.size());
+        }
+
+        private void evictEldest(LinkedHashMap<K, Entry<V>> map) {
+            pollEldest(map);
+            cache.evictions.increment();
+        }
+
+        private static <K, V> Map.Entry<K, V> pollEldest(LinkedHashMap<K, V> map) {
+            Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+            Map.Entry<K, V> eldest = iterator.next();
+            Map.Entry<K, V> polled = Map.entry(eldest.getKey(), eldest.getValue());
+            iterator.remove();
+            return polled;
+        }
+    }
+
+    /**
+     * Configures an {@link Optional2Cache}. By default: 10,000 entries, LRU, no expiry,
+     * and empty results aren't cached.
+     */
+    public static final class Builder<K, V> {
+
+        private int maximumSize = 10_000;
+        private Eviction eviction = Eviction.LRU;
+        private long expireAfterWriteNanos = Long.MAX_VALUE;
+        private long expireEmptyNanos = Long.MAX_VALUE;
+        private boolean cacheEmpty;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder() {
+            // Use Optional2Cache.builder().
+        }
+
+        public Builder<K, V> maximumSize(int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Builder<K, V> eviction(Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction);
+            return this;
+        }
+
+        /**
+         * Drop entries this long after they were cached.
+         */
+        public Builder<K, V> expireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWriteNanos = expireAfterWrite.toNanos();
+            return this;
+        }
+
+        /**
+         * Also cache null (empty) results, for this long, so repeated misses skip the mapper too.
+         */
+        public Builder<K, V> cacheEmpty(Duration expireEmptyAfterWrite) {
+            this.cacheEmpty = true;
+            this.expireEmptyNanos = expireEmptyAfterWrite.toNanos();
+            return this;
+        }
+
+        /**
+         * The time source, in nanoseconds. For testing.
+         */
+        /* package */ Builder<K, V> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public Optional2Cache<K, V> build() {
+            return new Optional2Cache<>(this);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.terheyden.optional2;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JDK Flight Recorder events for {@link Optional1} and {@link Optional2}:
+ * <ul>
+ *     <li>{@code com.terheyden.optional2.Mapper}: a mapper or supplier, passed to
+ *     {@code andOf}, {@code map}, {@code flatMap}, {@code or} or {@code reduce}, that ran longer
+ *     than the threshold (20 ms by default). The stack trace points at the chain.</li>
+ *     <li>{@code com.terheyden.optional2.EmptyThrow}: {@code throwIfEmpty()} or {@code orElseThrow()}
+ *     threw because a value was empty.</li>
+ * </ul>
+ * Both are enabled by default in a recording; to change the threshold, for example:
+ * {@code -XX:StartFlightRecording:com.terheyden.optional2.Mapper#threshold=1ms}.
+ * <p>
+ * The {@code apply} helpers behave like their {@link Optional2Utils} counterparts.
+ * Unless a recording has the mapper event enabled, they only add an {@code isEnabled()} check,
+ * and unless JFR is running, they don't touch the event classes at all.
+ */
+/* package */ final class Optional2Events {
+
+    private Optional2Events() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    /**
+     * Creating the first event registers its class with JFR, which initializes JFR's metadata:
+     * about a hundred classes and a few hundred milliseconds. So don't, unless JFR is running.
+     * JFR can be started later (e.g. via {@code jcmd}), so this is checked on every call.
+     */
+    private static boolean mapperEnabled() {
+        return FlightRecorder.isInitialized() && Probes.MAPPER.isEnabled();
+    }
+
+    private static boolean emptyThrowEnabled() {
+        return FlightRecorder.isInitialized() && Probes.EMPTY_THROW.isEnabled();
+    }
+
+    /**
+     * Only used to check {@link Event#isEnabled()}, which is per event type, not per instance.
+     */
+    private static final class Probes {
+        private static final MapperEvent MAPPER = new MapperEvent();
+        private static final EmptyThrowEvent EMPTY_THROW = new EmptyThrowEvent();
+    }
+
+    /* package */ static <R> R apply(String operation, CheckedFunction0<? extends R> function) {
+
+        if (!mapperEnabled()) {
+            return Optional2Utils.apply(function);
+        }
+
+        MapperEvent event = new MapperEvent();
+        event.begin();
+        try {
+            return event.result(function.apply());
+        } catch (Throwable throwable) {
+            event.failed = true;
+            return Optional2Utils.throwUnchecked(throwable);
+        } finally {
+            event.commit(operation, function);
+        }
+    }
+
+    /* package */ static <T, R> R apply(String operation, CheckedFunction1<? super T, ? extends R> function, T t) {
+
+        if (!mapperEnabled()) {
+            return Optional2Utils.apply(function, t);
+        }
+
+        MapperEvent event = new MapperEvent();
+        event.begin();
+        try {
+            return event.result(function.apply(t));
+        } catch (Throwable throwable) {
+            event.failed = true;
+            return Optional2Utils.throwUnchecked(throwable);
+        } finally {
+            event.commit(operation, function);
+        }
+    }
+
+    /* package */ static <S, T, R> R apply(
+        String operation,
+        CheckedFunction2<? super S, ? super T, ? extends R> function,
+        S s,
+        T t) {
+
+        if (!mapperEnabled()) {
+            return Optional2Utils.apply(function, s, t);
+        }
+
+        MapperEvent event = new MapperEvent();
+        event.begin();
+        try {
+            return event.result(function.apply(s, t));
+        } catch (Throwable throwable) {
+            event.failed = true;
+            return Optional2Utils.throwUnchecked(throwable);
+        } finally {
+            event.commit(operation, function);
+        }
+    }
+
+    /**
+     * Record that {@code throwIfEmpty()} or {@code orElseThrow()} is about to throw.
+     */
+    /* package */ static void emptyThrow(String operation, boolean firstEmpty) {
+
+        if (!emptyThrowEnabled()) {
+            return;
+        }
+
+        EmptyThrowEvent event = new EmptyThrowEvent();
+        event.operation = operation;
+        event.firstEmpty = firstEmpty;
+        event.commit();
+    }
+
+    @Name("com.terheyden.optional2.Mapper")
+    @Label("Optional2 Mapper")
+    @Description("A slow mapper or supplier in an Optional1 / Optional2 chain")
+    @Category("Optional2")
+    @Threshold("20 ms")
+    @StackTrace
+    /* package */ static final class MapperEvent extends Event {
+
+        @Label("Operation")
+        /* package */ String operation;
+
+        @Label("Mapper Class")
+        /* package */ Class<?> mapperClass;
+
+        @Label("Empty")
+        @Description("The mapper returned null, or an empty Optional")
+        /* package */ boolean empty;
+
+        @Label("Failed")
+        @Description("The mapper threw")
+        /* package */ boolean failed;
+
+        private <R> R result(R result) {
+            empty = result == null || result instanceof java.util.Optional<?> opt && opt.isEmpty();
+            return result;
+        }
+
+        private void commit(String operation, Object function) {
+            end();
+            if (shouldCommit()) {
+                this.operation = operation;
+                this.mapperClass = function.getClass();
+                commit();
+            }
+        }
+    }
+
+    @Name("com.terheyden.optional2.EmptyThrow")
+    @Label("Optional2 Empty Throw")
+    @Description("throwIfEmpty() or orElseThrow() threw because a value was empty")
+    @Category("Optional2")
+    @StackTrace
+    /* package */ static final class EmptyThrowEvent extends Event {
+
+        @Label("Operation")
+        /* package */ String operation;
+
+        @Label("First Empty")
+        @Description("The first value was empty; otherwise a later value was")
+        /* package */ boolean firstEmpty;
+    }
+}
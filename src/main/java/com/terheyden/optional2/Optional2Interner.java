@@ -0,0 +1,160 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+
+/**
+ * Backs {@link Optional2#interned(Object)} and {@link Optional2#interned(Object, Object)}.
+ * <p>
+ * Enum and {@link Boolean} values come from small, fixed domains, so every combination
+ * is built up front (per enum class, or per pair of classes) and shared forever.
+ * Grids larger than {@value #MAX_GRID} pairs fall back to the table below.
+ * <p>
+ * Anything else goes through a bounded, direct-mapped table: each value hashes to one slot,
+ * and a new value simply replaces whatever was there. So memory stays bounded, lookups never
+ * lock or allocate, and values that recur often tend to stay in their slot.
+ * Reads and writes race, which is safe because the instances are immutable records.
+ * The table size is {@code -Doptional2.interner.size} (default 16384, rounded up to a power of two).
+ */
+/* package */ final class Optional2Interner {
+
+    private static final int MAX_GRID = 4096;
+    private static final int TABLE_SIZE = Integer.highestOneBit(
+        Math.max(2, Integer.getInteger("optional2.interner.size", 16384) * 2 - 1));
+
+    private static final Optional1.Present<?>[] TABLE1 = new Optional1.Present<?>[TABLE_SIZE];
+    private static final Optional2.Present<?, ?>[] TABLE2 = new Optional2.Present<?, ?>[TABLE_SIZE];
+
+    /**
+     * A canonical {@link Optional1} per enum constant or Boolean value, indexed by {@link #index(Object)}.
+     */
+    private static final ClassValue<Optional1.Present<?>[]> DOMAINS = new ClassValue<>() {
+        @Override
+        protected Optional1.Present<?>[] computeValue(Class<?> type) {
+
+            Object[] values = values(type);
+            Optional1.Present<?>[] domain = new Optional1.Present<?>[values.length];
+
+            for (int i = 0; i < values.length; i++) {
+                domain[i] = new Optional1.Present<>(values[i]);
+            }
+
+            return domain;
+        }
+    };
+
+    /**
+     * A canonical {@link Optional2} per pair, indexed by {@code index(obj1) * size2 + index(obj2)}.
+     * Empty if the grid would be too large.
+     */
+    private static final ClassValue<ClassValue<Optional2.Present<?, ?>[]>> GRIDS = new ClassValue<>() {
+        @Override
+        protected ClassValue<Optional2.Present<?, ?>[]> computeValue(Class<?> type1) {
+            return new ClassValue<>() {
+                @Override
+                protected Optional2.Present<?, ?>[] computeValue(Class<?> type2) {
+
+                    Object[] values1 = values(type1);
+                    Object[] values2 = values(type2);
+
+                    if (values1.length * values2.length > MAX_GRID) {
+                        return new Optional2.Present<?, ?>[0];
+                    }
+
+                    Optional2.Present<?, ?>[] grid = new Optional2.Present<?, ?>[values1.length * values2.length];
+
+                    for (int i = 0; i < values1.length; i++) {
+                        for (int j = 0; j < values2.length; j++) {
+                            grid[i * values2.length + j] = new Optional2.Present<>(values1[i], values2[j]);
+                        }
+                    }
+
+                    return grid;
+                }
+            };
+        }
+    };
+
+    private Optional2Interner() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    @SuppressWarnings("unchecked")
+    /* package */ static <C> Optional1<C> intern(@Nullable C obj1) {
+
+        if (obj1 == null) {
+            return Optional1.empty();
+        }
+
+        Class<?> domain1 = domain(obj1);
+        if (domain1 != null) {
+            return (Optional1<C>) DOMAINS.get(domain1)[index(obj1)];
+        }
+
+        int slot = slot(obj1.hashCode());
+        Optional1.Present<?> present = TABLE1[slot];
+
+        if (present == null || !present.value().equals(obj1)) {
+            present = new Optional1.Present<>(obj1);
+            TABLE1[slot] = present;
+        }
+
+        return (Optional1<C>) present;
+    }
+
+    @SuppressWarnings("unchecked")
+    /* package */ static <C, D> Optional2<C, D> intern(@Nullable C obj1, @Nullable D obj2) {
+
+        if (obj1 == null || obj2 == null) {
+            return Optional2.ofNullable(obj1, obj2);
+        }
+
+        Class<?> domain1 = domain(obj1);
+        Class<?> domain2 = domain(obj2);
+
+        if (domain1 != null && domain2 != null) {
+            Optional2.Present<?, ?>[] grid = GRIDS.get(domain1).get(domain2);
+            if (grid.length > 0) {
+                return (Optional2<C, D>) grid[index(obj1) * DOMAINS.get(domain2).length + index(obj2)];
+            }
+        }
+
+        int slot = slot(Optional2Utils.hash(obj1, obj2));
+        Optional2.Present<?, ?> present = TABLE2[slot];
+
+        if (present == null || !present.first().equals(obj1) || !present.second().equals(obj2)) {
+            present = new Optional2.Present<>(obj1, obj2);
+            TABLE2[slot] = present;
+        }
+
+        return (Optional2<C, D>) present;
+    }
+
+    private static int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & (TABLE_SIZE - 1);
+    }
+
+    /**
+     * The small domain the value belongs to: its enum class, or {@code Boolean}. Null for anything else.
+     */
+    @Nullable
+    private static Class<?> domain(Object obj) {
+
+        if (obj instanceof Enum<?> enumValue) {
+            return enumValue.getDeclaringClass();
+        }
+
+        return obj instanceof Boolean ? Boolean.class : null;
+    }
+
+    private static int index(Object obj) {
+        return obj instanceof Enum<?> enumValue
+            ? enumValue.ordinal()
+            : ((Boolean) obj) ? 1 : 0;
+    }
+
+    private static Object[] values(Class<?> domain) {
+        return domain == Boolean.class
+            ? new Object[] { Boolean.FALSE, Boolean.TRUE }
+            : domain.getEnumConstants();
+    }
+}
@@ -0,0 +1,355 @@
+package com.terheyden.optional2;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in metrics for {@link Optional2} chains. Enable with {@code -Doptional2.metrics=true}.
+ * <pre>{@code
+ * private static final Optional2Metrics.Chain LOGIN = Optional2Metrics.chain("login");
+ * private static final CheckedFunction1<String, UUID> FIND_USER_ID =
+ *     LOGIN.step("findUserId", TestService::findUserId);
+ * private static final CheckedFunction2<String, UUID, TestUser> LOGIN_USER =
+ *     LOGIN.step("loginUser", (nm, userId) -> TestService.loginUser(userId, nm));
+ *
+ * Optional<TestUser> user = LOGIN.run(() -> Optional2
+ *     .ofNullable(name)
+ *     .andOf(FIND_USER_ID)
+ *     .reduce(LOGIN_USER));
+ *
+ * Optional2Metrics.Snapshot snapshot = Optional2Metrics.snapshot();
+ * }</pre>
+ * A {@link Chain#step} records how often the lambda ran, how long it took,
+ * how often it returned null (emptying the chain there), and how often it threw.
+ * Wrap each step once, as above, rather than on every run.
+ * {@link Chain#run} records the whole chain's latency, so the time spent outside the steps
+ * can be compared, and whether the result was present or which value was empty.
+ * {@code throwIfEmpty()} and {@code orElseThrow()} throws are also counted, for all chains.
+ * <p>
+ * Counters are {@link LongAdder}s and histograms are lock-free. When disabled,
+ * {@code step()} and {@code run()} return the lambda or result untouched, and the
+ * {@link #ENABLED} checks are compiled away, so there's no cost at all.
+ */
+public final class Optional2Metrics {
+
+    /**
+     * True if metrics are being recorded; set once, at startup, via {@code -Doptional2.metrics=true}.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("optional2.metrics");
+
+    private static final Map<String, Chain> CHAINS = new ConcurrentHashMap<>();
+    private static final LongAdder FIRST_EMPTY_THROWS = new LongAdder();
+    private static final LongAdder SECOND_EMPTY_THROWS = new LongAdder();
+
+    private Optional2Metrics() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    /**
+     * The metrics for the named chain, created on first use. Keep it in a constant.
+     */
+    public static Chain chain(String name) {
+        return CHAINS.computeIfAbsent(name, Chain::new);
+    }
+
+    /**
+     * Counts a {@code throwIfEmpty()} or {@code orElseThrow()} throw.
+     * Call only if {@link #ENABLED}.
+     */
+    /* package */ static void recordEmptyThrow(boolean firstEmpty) {
+        (firstEmpty ? FIRST_EMPTY_THROWS : SECOND_EMPTY_THROWS).increment();
+    }
+
+    /**
+     * A copy of all the metrics recorded so far, for exporting.
+     */
+    public static Snapshot snapshot() {
+
+        Map<String, ChainSnapshot> chains = new TreeMap<>();
+        CHAINS.forEach((name, chain) -> chains.put(name, chain.snapshot()));
+
+        return new Snapshot(chains, FIRST_EMPTY_THROWS.sum(), SECOND_EMPTY_THROWS.sum());
+    }
+
+    /**
+     * Zero all the metrics. Chains stay registered.
+     */
+    public static void reset() {
+        CHAINS.values().forEach(Chain::reset);
+        FIRST_EMPTY_THROWS.reset();
+        SECOND_EMPTY_THROWS.reset();
+    }
+
+    /**
+     * The metrics for one named chain; see {@link #chain(String)}.
+     */
+    public static final class Chain {
+
+        private final String name;
+        private final Map<String, Step> steps = new ConcurrentHashMap<>();
+        private final LongAdder present = new LongAdder();
+        private final LongAdder firstEmpty = new LongAdder();
+        private final LongAdder secondEmpty = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private Chain(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records the named step's calls, latency, null results and exceptions.
+         */
+        public <T, R> CheckedFunction1<T, R> step(String stepName, CheckedFunction1<T, R> function) {
+
+            if (!ENABLED) {
+                return function;
+            }
+
+            Step step = step(stepName);
+            return obj1 -> {
+                long start = System.nanoTime();
+                try {
+                    return step.result(function.apply(obj1));
+                } catch (Throwable throwable) {
+                    step.failures.increment();
+                    throw throwable;
+                } finally {
+                    step.latency.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        /**
+         * Records the named step's calls, latency, null results and exceptions.
+         */
+        public <S, T, R> CheckedFunction2<S, T, R> step(String stepName, CheckedFunction2<S, T, R> function) {
+
+            if (!ENABLED) {
+                return function;
+            }
+
+            Step step = step(stepName);
+            return (obj1, obj2) -> {
+                long start = System.nanoTime();
+                try {
+                    return step.result(function.apply(obj1, obj2));
+                } catch (Throwable throwable) {
+                    step.failures.increment();
+                    throw throwable;
+                } finally {
+                    step.latency.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        /**
+         * Records the named step's calls, latency, null results and exceptions.
+         * For {@code or()} suppliers, an empty {@link Optional} counts as a null result.
+         */
+        public <R> CheckedFunction0<R> step(String stepName, CheckedFunction0<R> supplier) {
+
+            if (!ENABLED) {
+                return supplier;
+            }
+
+            Step step = step(stepName);
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    R result = step.result(supplier.apply());
+                    if (result instanceof Optional<?> opt && opt.isEmpty()) {
+                        step.empties.increment();
+                    }
+                    return result;
+                } catch (Throwable throwable) {
+                    step.failures.increment();
+                    throw throwable;
+                } finally {
+                    step.latency.record(System.nanoTime() - start);
+                }
+            };
+        }
+
+        /**
+         * Runs the whole chain, recording its latency, and whether the resulting {@link Optional1},
+         * {@link Optional2} or {@link Optional} is present, or which value is empty.
+         */
+        public <T> T run(CheckedFunction0<T> chain) {
+
+            if (!ENABLED) {
+                return Optional2Utils.apply(chain);
+            }
+
+            long start = System.nanoTime();
+            try {
+                return outcome(chain.apply());
+            } catch (Throwable throwable) {
+                // Including checked exceptions, which the chain's steps rethrow unchecked.
+                failures.increment();
+                return Optional2Utils.throwUnchecked(throwable);
+            } finally {
+                latency.record(System.nanoTime() - start);
+            }
+        }
+
+        private <T> T outcome(T result) {
+
+            if (result instanceof Optional2.Empty<?, ?> empty) {
+                (empty.firstOrNull() == null ? firstEmpty : secondEmpty).increment();
+            } else if (result instanceof Optional1.Empty<?>
+                || result instanceof Optional<?> opt && opt.isEmpty()) {
+                firstEmpty.increment();
+            } else {
+                present.increment();
+            }
+
+            return result;
+        }
+
+        private Step step(String stepName) {
+            return steps.computeIfAbsent(stepName, ignored -> new Step());
+        }
+
+        private ChainSnapshot snapshot() {
+
+            Map<String, StepSnapshot> stepSnapshots = new TreeMap<>();
+            steps.forEach((stepName, step) -> stepSnapshots.put(stepName, step.snapshot()));
+
+            return new ChainSnapshot(
+                name,
+                present.sum(),
+                firstEmpty.sum(),
+                secondEmpty.sum(),
+                failures.sum(),
+                latency.snapshot(),
+                stepSnapshots);
+        }
+
+        private void reset() {
+            steps.values().forEach(Step::reset);
+            present.reset();
+            firstEmpty.reset();
+            secondEmpty.reset();
+            failures.reset();
+            latency.reset();
+        }
+
+        @Override
+        public String toString() {
+            return "Optional2Metrics.Chain[%s]".formatted(name);
+        }
+    }
+
+    /**
+     * The live counters for one step.
+     */
+    private static final class Step {
+
+        private final LongAdder empties = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private <R> R result(R result) {
+            if (result == null) {
+                empties.increment();
+            }
+            return result;
+        }
+
+        private StepSnapshot snapshot() {
+            return new StepSnapshot(empties.sum(), failures.sum(), latency.snapshot());
+        }
+
+        private void reset() {
+            empties.reset();
+            failures.reset();
+            latency.reset();
+        }
+    }
+
+    /**
+     * All recorded metrics.
+     *
+     * @param chains            each chain's metrics, by name
+     * @param firstEmptyThrows  {@code throwIfEmpty()} / {@code orElseThrow()} throws where the first value was empty
+     * @param secondEmptyThrows the same, where only a later value was empty
+     */
+    public record Snapshot(Map<String, ChainSnapshot> chains, long firstEmptyThrows, long secondEmptyThrows) {
+    }
+
+    /**
+     * One chain's metrics.
+     *
+     * @param present     runs that ended with every value present
+     * @param firstEmpty  runs that ended with the first value empty
+     * @param secondEmpty runs that ended with the first value present, but a later one empty
+     * @param failures    runs that threw
+     * @param latency     whole-chain latency, including the steps
+     * @param steps       each step's metrics, by name
+     */
+    public record ChainSnapshot(
+        String name,
+        long present,
+        long firstEmpty,
+        long secondEmpty,
+        long failures,
+        Histogram latency,
+        Map<String, StepSnapshot> steps) {
+
+        public long runs() {
+            return present + firstEmpty + secondEmpty + failures;
+        }
+    }
+
+    /**
+     * One step's metrics.
+     *
+     * @param empties  calls that returned null (or an empty {@code Optional})
+     * @param failures calls that threw
+     * @param latency  call latency; its count is the number of calls
+     */
+    public record StepSnapshot(long empties, long failures, Histogram latency) {
+
+        public long invocations() {
+            return latency.count();
+        }
+    }
+
+    /**
+     * A latency histogram; {@code buckets[i]} counts latencies in {@code [2^(i-1), 2^i)} nanoseconds.
+     */
+    public record Histogram(long count, long totalNanos, long maxNanos, long[] buckets) {
+
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * An upper bound for the given percentile (0 to 100), to within a factor of two.
+         */
+        public long percentileNanos(double percentile) {
+
+            long target = (long) Math.ceil(count * percentile / 100.0);
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(1, target)) {
+                    return i == 0 ? 0 : Math.min(maxNanos, (1L << i) - 1);
+                }
+            }
+
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram[count=%d, mean=%.0fns, p50=%dns, p99=%dns, max=%dns]".formatted(
+                count, meanNanos(), percentileNanos(50), percentileNanos(99), maxNanos);
+        }
+    }
+}
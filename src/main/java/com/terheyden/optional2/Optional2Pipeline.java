@@ -0,0 +1,273 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * A reusable {@link Optional2} chain, defined once and applied to many inputs:
+ * <pre>{@code
+ * Optional2Pipeline<String, TestUser> login = Optional2Pipeline.<String>builder()
+ *     .filter(name -> !name.isEmpty())
+ *     .andOf(name -> TestService.findUserId(name))
+ *     .reduce((name, userId) -> TestService.loginUser(userId, name));
+ *
+ * Optional<TestUser> user = login.apply("Cora");
+ * }</pre>
+ * When the pipeline is built, its steps are fused into one function. Values are handed from step to step
+ * as plain arguments (null meaning empty), so {@link #apply(Object)} creates no intermediate
+ * {@link Optional1} or {@link Optional2} objects. The steps behave like their {@code Optional2} counterparts.
+ * Pipelines are immutable and thread-safe, as long as the steps are.
+ *
+ * @param <I> the input type
+ * @param <R> the result type
+ */
+public final class Optional2Pipeline<I, R> {
+
+    /**
+     * The fused steps. Returns null for an empty result.
+     */
+    private final CheckedFunction1<I, R> fused;
+
+    private Optional2Pipeline(CheckedFunction1<I, R> fused) {
+        this.fused = fused;
+    }
+
+    /**
+     * Start defining a pipeline that takes inputs of type {@code I}.
+     */
+    public static <I> Stage1<I, I> builder() {
+        return new Stage1<>(new Wiring1<I, I>() {
+            @Override
+            public <T> CheckedFunction1<I, T> wire(CheckedFunction1<I, T> downstream) {
+                return downstream;
+            }
+        });
+    }
+
+    /**
+     * Run the pipeline on the given input.
+     */
+    public Optional<R> apply(@Nullable I input) {
+        return Optional.ofNullable(applyOrNull(input));
+    }
+
+    /**
+     * Run the pipeline on the given input, returning null for an empty result.
+     */
+    @Nullable
+    public R applyOrNull(@Nullable I input) {
+        return Optional2Utils.apply(fused, input);
+    }
+
+    /**
+     * Run the pipeline on the given input, returning {@code other} for an empty result.
+     */
+    public R applyOrElse(@Nullable I input, R other) {
+        R result = applyOrNull(input);
+        return result == null ? other : result;
+    }
+
+    /**
+     * Connects a single-value stage to whatever comes after it.
+     * The downstream function receives the (nullable) value and returns the (nullable) result.
+     */
+    private interface Wiring1<I, C> {
+        <T> CheckedFunction1<I, T> wire(CheckedFunction1<C, T> downstream);
+    }
+
+    /**
+     * Connects a two-value stage to whatever comes after it.
+     * The downstream function receives the (nullable) values and returns the (nullable) result.
+     */
+    private interface Wiring2<I, C, D> {
+        <T> CheckedFunction1<I, T> wire(CheckedFunction2<C, D, T> downstream);
+    }
+
+    /**
+     * Pipeline steps on a single value; the {@link Optional1} stage.
+     */
+    public static final class Stage1<I, C> {
+
+        private final Wiring1<I, C> wiring;
+
+        private Stage1(Wiring1<I, C> wiring) {
+            this.wiring = wiring;
+        }
+
+        /**
+         * @see Optional1#filter(CheckedPredicate)
+         */
+        public Stage1<I, C> filter(CheckedPredicate<? super C> predicate) {
+            return new Stage1<>(new Wiring1<I, C>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction1<C, T> downstream) {
+                    return wiring.wire(obj1 -> downstream.apply(obj1 != null && predicate.test(obj1) ? obj1 : null));
+                }
+            });
+        }
+
+        /**
+         * @see Optional1#map(CheckedFunction1)
+         */
+        public <B> Stage1<I, B> map(CheckedFunction1<? super C, ? extends B> mapper) {
+            return new Stage1<>(new Wiring1<I, B>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction1<B, T> downstream) {
+                    return wiring.wire(obj1 -> downstream.apply(obj1 == null ? null : mapper.apply(obj1)));
+                }
+            });
+        }
+
+        /**
+         * @see Optional1#or(CheckedFunction0)
+         */
+        public Stage1<I, C> or(CheckedFunction0<Optional<C>> supplyIfEmpty) {
+            return new Stage1<>(new Wiring1<I, C>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction1<C, T> downstream) {
+                    return wiring.wire(obj1 -> downstream.apply(obj1 != null ? obj1 : supplyIfEmpty.apply().orElse(null)));
+                }
+            });
+        }
+
+        /**
+         * @see Optional1#or(Object)
+         */
+        public Stage1<I, C> or(C useIfEmpty) {
+            return new Stage1<>(new Wiring1<I, C>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction1<C, T> downstream) {
+                    return wiring.wire(obj1 -> downstream.apply(obj1 != null ? obj1 : useIfEmpty));
+                }
+            });
+        }
+
+        /**
+         * Adds a second value. A null result leaves the second value empty.
+         *
+         * @see Optional1#andOf(CheckedFunction1)
+         */
+        public <D> Stage2<I, C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            return new Stage2<>(new Wiring2<I, C, D>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<C, D, T> downstream) {
+                    return wiring.wire(obj1 -> obj1 == null
+                        ? downstream.apply(null, null)
+                        : downstream.apply(obj1, valueMapper.apply(obj1)));
+                }
+            });
+        }
+
+        /**
+         * Finish the pipeline; its result is the value.
+         */
+        public Optional2Pipeline<I, C> build() {
+            return new Optional2Pipeline<>(wiring.wire(obj1 -> obj1));
+        }
+    }
+
+    /**
+     * Pipeline steps on two values; the {@link Optional2} stage.
+     */
+    public static final class Stage2<I, C, D> {
+
+        private final Wiring2<I, C, D> wiring;
+
+        private Stage2(Wiring2<I, C, D> wiring) {
+            this.wiring = wiring;
+        }
+
+        /**
+         * @see Optional2#filter(CheckedPredicate2)
+         */
+        public Stage2<I, C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+            return new Stage2<>(new Wiring2<I, C, D>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<C, D, T> downstream) {
+                    // Like Optional2.Empty.filter(), an empty pair passes through as is, keeping a present first value.
+                    return wiring.wire((obj1, obj2) -> obj1 == null || obj2 == null || predicate.test(obj1, obj2)
+                        ? downstream.apply(obj1, obj2)
+                        : downstream.apply(null, null));
+                }
+            });
+        }
+
+        /**
+         * @see Optional2#map(CheckedFunction1, CheckedFunction1)
+         */
+        public <A, E> Stage2<I, A, E> map(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            return new Stage2<>(new Wiring2<I, A, E>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<A, E, T> downstream) {
+                    return wiring.wire((obj1, obj2) -> obj1 != null && obj2 != null
+                        ? downstream.apply(mapper1.apply(obj1), mapper2.apply(obj2))
+                        : downstream.apply(null, null));
+                }
+            });
+        }
+
+        /**
+         * @see Optional2#map(CheckedFunction2, CheckedFunction2)
+         */
+        public <A, E> Stage2<I, A, E> map(
+            CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+            CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+            return new Stage2<>(new Wiring2<I, A, E>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<A, E, T> downstream) {
+                    return wiring.wire((obj1, obj2) -> obj1 != null && obj2 != null
+                        ? downstream.apply(mapper1.apply(obj1, obj2), mapper2.apply(obj1, obj2))
+                        : downstream.apply(null, null));
+                }
+            });
+        }
+
+        /**
+         * @see Optional2#or(CheckedFunction0)
+         */
+        public Stage2<I, C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+            return new Stage2<>(new Wiring2<I, C, D>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<C, D, T> downstream) {
+                    return wiring.wire((obj1, obj2) -> {
+
+                        if (obj1 == null) {
+                            return downstream.apply(null, null);
+                        }
+
+                        return downstream.apply(obj1, obj2 != null ? obj2 : supplyIfEmpty.apply().orElse(null));
+                    });
+                }
+            });
+        }
+
+        /**
+         * @see Optional2#or(Object)
+         */
+        public Stage2<I, C, D> or(D useIfEmpty) {
+            return new Stage2<>(new Wiring2<I, C, D>() {
+                @Override
+                public <T> CheckedFunction1<I, T> wire(CheckedFunction2<C, D, T> downstream) {
+                    return wiring.wire((obj1, obj2) -> obj1 == null
+                        ? downstream.apply(null, null)
+                        : downstream.apply(obj1, obj2 != null ? obj2 : useIfEmpty));
+                }
+            });
+        }
+
+        /**
+         * Finish the pipeline by combining both values.
+         *
+         * @see Optional2#reduce(CheckedFunction2)
+         */
+        public <R> Optional2Pipeline<I, R> reduce(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            return new Optional2Pipeline<>(wiring.wire((obj1, obj2) -> obj1 != null && obj2 != null
+                ? mapper.apply(obj1, obj2)
+                : null));
+        }
+    }
+}
@@ -0,0 +1,500 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link Flow.Processor} that applies an {@link Optional2} chain to each element of a stream:
+ * <pre>{@code
+ * Optional2Processor<String, UUID, TestUser> login = Optional2Processor.<String>builder()
+ *     .andOfAsync(name -> TestService.findUserId(name), executor)
+ *     .filter((name, userId) -> !name.isEmpty())
+ *     .onEmpty(opt2 -> LOG.warn("Unknown user: {}", opt2))
+ *     .maxInFlight(32)
+ *     .reduce((name, userId) -> TestService.loginUser(userId, name));
+ *
+ * namePublisher.subscribe(login);
+ * login.subscribe(userSubscriber);
+ * }</pre>
+ * Each first value gets its second value, from a mapper that runs either inline or on an {@link Executor}.
+ * Present pairs go downstream, in the order their first values arrived. Empty pairs are dropped,
+ * or handed to {@link Builder2#onEmpty(CheckedConsumer)}, and don't use up downstream demand.
+ * <p>
+ * At most {@link Builder2#maxInFlight(int)} elements are requested from upstream and not yet passed on.
+ * If downstream stops requesting, the processor stops requesting too, so backpressure reaches the publisher.
+ * Upstream is asked for more in batches of half that number.
+ * <p>
+ * A mapper, predicate or {@code onEmpty} exception cancels upstream and fails downstream with that exception.
+ * An upstream error is passed on right away, and any elements still in flight are dropped.
+ * A processor supports one subscriber, and is used once.
+ *
+ * @param <C> the first value type, published upstream
+ * @param <D> the second value type
+ * @param <R> the type published downstream
+ */
+public final class Optional2Processor<C, D, R> implements Flow.Processor<C, R> {
+
+    private final CheckedFunction1<C, CompletableFuture<Optional2<C, D>>> enrich;
+    private final CheckedFunction1<Optional2<C, D>, R> finisher;
+    private final CheckedConsumer<Optional2<C, D>> onEmpty;
+    private final int maxInFlight;
+    private final int replenish;
+
+    /**
+     * Each element's pair, in arrival order. Only the drain loop removes from it.
+     */
+    private final Queue<CompletableFuture<Optional2<C, D>>> inFlight = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Downstream demand not yet met. {@link Long#MAX_VALUE} means unbounded.
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * Makes sure only one thread at a time runs the drain loop, and that it runs again if signalled meanwhile.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    @Nullable
+    private volatile Flow.Subscription upstream;
+
+    @Nullable
+    private volatile Flow.Subscriber<? super R> downstream;
+
+    @Nullable
+    private volatile Throwable error;
+
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    // Only touched by the drain loop.
+    private boolean started;
+    private boolean terminated;
+    private int consumed;
+
+    private Optional2Processor(
+        CheckedFunction1<C, CompletableFuture<Optional2<C, D>>> enrich,
+        CheckedFunction1<Optional2<C, D>, R> finisher,
+        CheckedConsumer<Optional2<C, D>> onEmpty,
+        int maxInFlight) {
+
+        this.enrich = enrich;
+        this.finisher = finisher;
+        this.onEmpty = onEmpty;
+        this.maxInFlight = maxInFlight;
+        this.replenish = Math.max(1, maxInFlight / 2);
+    }
+
+    /**
+     * Start defining a processor that takes first values of type {@code C}.
+     */
+    public static <C> Builder<C> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+
+        Objects.requireNonNull(subscription);
+
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+
+        upstream = subscription;
+        drain();
+    }
+
+    @Override
+    public void onNext(C item) {
+
+        Objects.requireNonNull(item);
+
+        // After a failure, upstream is cancelled but may still send a few; don't run the mapper on them.
+        if (done || cancelled || error != null) {
+            return;
+        }
+
+        CompletableFuture<Optional2<C, D>> pair;
+
+        try {
+            pair = enrich.apply(item);
+        } catch (Throwable throwable) {
+            pair = CompletableFuture.failedFuture(throwable);
+        }
+
+        inFlight.offer(pair);
+
+        if (pair.isDone()) {
+            drain();
+        } else {
+            pair.whenComplete((opt2, throwable) -> drain());
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+
+        Objects.requireNonNull(subscriber);
+
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("Optional2Processor allows only one subscriber"));
+            return;
+        }
+
+        subscriber.onSubscribe(new Downstream());
+
+        // Published after onSubscribe returns, so nothing is delivered before it.
+        downstream = subscriber;
+        drain();
+    }
+
+    /**
+     * Serializes all signals to the subscriber. Whichever thread gets here first runs the loop;
+     * anyone arriving meanwhile just bumps {@link #wip} so the loop goes around again.
+     */
+    private void drain() {
+
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            drainLoop();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void drainLoop() {
+
+        Flow.Subscription subscription = upstream;
+        Flow.Subscriber<? super R> subscriber = downstream;
+
+        if (terminated || subscription == null || subscriber == null) {
+            return;
+        }
+
+        if (!started) {
+            started = true;
+            subscription.request(maxInFlight);
+        }
+
+        while (true) {
+
+            if (cancelled) {
+                terminated = true;
+                cancelInFlight();
+                return;
+            }
+
+            Throwable throwable = error;
+
+            if (throwable != null) {
+                terminate(subscription);
+                subscriber.onError(throwable);
+                return;
+            }
+
+            CompletableFuture<Optional2<C, D>> head = inFlight.peek();
+
+            if (head == null) {
+
+                // The queue is checked again after reading done, in case an element arrived in between.
+                if (done && inFlight.isEmpty()) {
+                    terminated = true;
+                    subscriber.onComplete();
+                }
+
+                return;
+            }
+
+            if (!head.isDone()) {
+                return;
+            }
+
+            try {
+                Optional2<C, D> opt2 = join(head);
+
+                if (opt2.isPresent()) {
+
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    R result = finisher.apply(opt2);
+                    inFlight.poll();
+
+                    if (result != null) {
+                        produced();
+                        subscriber.onNext(result);
+                    }
+
+                } else {
+                    inFlight.poll();
+                    onEmpty.accept(opt2);
+                }
+
+            } catch (Throwable ex) {
+                error = ex;
+                continue;
+            }
+
+            if (++consumed >= replenish && !done) {
+                subscription.request(consumed);
+                consumed = 0;
+            }
+        }
+    }
+
+    private void produced() {
+        requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+    }
+
+    private void terminate(Flow.Subscription subscription) {
+        terminated = true;
+        subscription.cancel();
+        cancelInFlight();
+    }
+
+    private void cancelInFlight() {
+
+        CompletableFuture<Optional2<C, D>> pair;
+
+        while ((pair = inFlight.poll()) != null) {
+            pair.cancel(true);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) throws Throwable {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() == null ? e : e.getCause();
+        }
+    }
+
+    /**
+     * The subscription handed downstream.
+     */
+    private final class Downstream implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {
+
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested " + n + " elements; must be positive");
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+
+            Flow.Subscription subscription = upstream;
+
+            if (subscription != null) {
+                subscription.cancel();
+            }
+
+            drain();
+        }
+    }
+
+    /**
+     * Defines the second value; the {@link Optional1} stage.
+     */
+    public static final class Builder<C> {
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a second value, computed inline on the thread that publishes the first value.
+         * A null result makes the pair empty.
+         *
+         * @see Optional1#andOf(CheckedFunction1)
+         */
+        public <D> Builder2<C, D> andOf(CheckedFunction1<? super C, ? extends D> valueMapper) {
+            return new Builder2<>(valueMapper, null, null, opt2 -> { }, Flow.defaultBufferSize());
+        }
+
+        /**
+         * Adds a second value, computed on the given executor. Up to {@link Builder2#maxInFlight(int)}
+         * mappers run at once. Cancelling the subscription interrupts the ones still running.
+         * A null result makes the pair empty.
+         *
+         * @see AsyncOptional1#andOfAsync(CheckedFunction1)
+         */
+        public <D> Builder2<C, D> andOfAsync(CheckedFunction1<? super C, ? extends D> valueMapper, Executor executor) {
+            return new Builder2<>(valueMapper, Objects.requireNonNull(executor), null, opt2 -> { }, Flow.defaultBufferSize());
+        }
+    }
+
+    /**
+     * Filters and finishes the pairs; the {@link Optional2} stage.
+     */
+    public static final class Builder2<C, D> {
+
+        private final CheckedFunction1<? super C, ? extends D> valueMapper;
+
+        /**
+         * Runs the value mapper, or null to run it inline.
+         */
+        @Nullable
+        private final Executor executor;
+
+        @Nullable
+        private final CheckedPredicate2<? super C, ? super D> predicate;
+
+        private final CheckedConsumer<Optional2<C, D>> onEmpty;
+        private final int maxInFlight;
+
+        private Builder2(
+            CheckedFunction1<? super C, ? extends D> valueMapper,
+            @Nullable Executor executor,
+            @Nullable CheckedPredicate2<? super C, ? super D> predicate,
+            CheckedConsumer<Optional2<C, D>> onEmpty,
+            int maxInFlight) {
+
+            this.valueMapper = valueMapper;
+            this.executor = executor;
+            this.predicate = predicate;
+            this.onEmpty = onEmpty;
+            this.maxInFlight = maxInFlight;
+        }
+
+        /**
+         * Pairs that don't match become empty. With {@code andOfAsync()}, the predicate
+         * runs on the executor, right after the mapper.
+         *
+         * @see Optional2#filter(CheckedPredicate2)
+         */
+        public Builder2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+
+            CheckedPredicate2<? super C, ? super D> previous = this.predicate;
+            CheckedPredicate2<C, D> combined = previous == null
+                ? predicate::test
+                : (obj1, obj2) -> previous.test(obj1, obj2) && predicate.test(obj1, obj2);
+
+            return new Builder2<>(valueMapper, executor, combined, onEmpty, maxInFlight);
+        }
+
+        /**
+         * Hands each empty pair to the consumer, on the thread delivering to the subscriber,
+         * instead of silently dropping it. Use it to route empties elsewhere, like a dead letter queue.
+         */
+        public Builder2<C, D> onEmpty(CheckedConsumer<? super Optional2<C, D>> onEmpty) {
+            return new Builder2<>(valueMapper, executor, predicate, onEmpty::accept, maxInFlight);
+        }
+
+        /**
+         * How many elements may be requested from upstream and not yet passed on.
+         * This bounds the buffer, and how many async mappers run at once.
+         * Defaults to {@link Flow#defaultBufferSize()}.
+         */
+        public Builder2<C, D> maxInFlight(int maxInFlight) {
+
+            if (maxInFlight <= 0) {
+                throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+            }
+
+            return new Builder2<>(valueMapper, executor, predicate, onEmpty, maxInFlight);
+        }
+
+        /**
+         * Finish the processor; it publishes the present pairs.
+         */
+        public Optional2Processor<C, D, Optional2<C, D>> build() {
+            return new Optional2Processor<>(enrich(), opt2 -> opt2, onEmpty, maxInFlight);
+        }
+
+        /**
+         * Finish the processor by combining both values. Runs on the thread delivering to the subscriber.
+         * A null result is dropped, since a {@link Flow} can't carry nulls.
+         *
+         * @see Optional2#reduce(CheckedFunction2)
+         */
+        public <R> Optional2Processor<C, D, R> reduce(CheckedFunction2<? super C, ? super D, ? extends R> mapper) {
+            return new Optional2Processor<>(
+                enrich(),
+                opt2 -> mapper.apply(opt2.getFirstValue(), opt2.getSecondValue()),
+                onEmpty,
+                maxInFlight);
+        }
+
+        private CheckedFunction1<C, CompletableFuture<Optional2<C, D>>> enrich() {
+
+            Executor mapperExecutor = executor;
+
+            if (mapperExecutor == null) {
+                return obj1 -> CompletableFuture.completedFuture(pair(obj1, valueMapper.apply(obj1)));
+            }
+
+            return obj1 -> {
+
+                CompletableFuture<D> second = Optional2Utils.supplyAsync(() -> valueMapper.apply(obj1), mapperExecutor);
+                CompletableFuture<Optional2<C, D>> pair = second.thenApply(obj2 -> pair(obj1, obj2));
+
+                // Cancelling the pair doesn't reach the future it was derived from, so pass it on.
+                pair.whenComplete((opt2, throwable) -> {
+                    if (pair.isCancelled()) {
+                        second.cancel(true);
+                    }
+                });
+
+                return pair;
+            };
+        }
+
+        private Optional2<C, D> pair(C obj1, @Nullable D obj2) {
+            Optional2<C, D> opt2 = Optional2.ofNullable(obj1, obj2);
+            return predicate == null ? opt2 : opt2.filter(predicate);
+        }
+    }
+}
@@ -1,7 +1,19 @@
 package com.terheyden.optional2;
 
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
 /**
  * Optional2Utils interface.
+ * <p>
+ * The {@code apply} / {@code accept} / {@code test} / {@code run} helpers invoke a checked lambda directly
+ * and rethrow any exception unchecked. Unlike {@code fn.unchecked().apply(...)}, they don't allocate
+ * a wrapper lambda per call.
  */
 /* package */ final class Optional2Utils {
 
@@ -16,4 +28,149 @@ package com.terheyden.optional2;
     public static <E extends Throwable, R> R throwUnchecked(Throwable throwable) throws E {
         throw (E) throwable;
     }
+
+    /**
+     * A hash for a pair of values. Multiplying the first hash by a large odd constant (the golden ratio,
+     * as in Fibonacci hashing) spreads it across all 32 bits, so pairs like {@code (0, 31)} and {@code (1, 0)},
+     * which collide under {@code 31 * h1 + h2}, don't.
+     */
+    /* package */ static int hash(@Nullable Object obj1, @Nullable Object obj2) {
+        return 0x9E3779B9 * Objects.hashCode(obj1) + Objects.hashCode(obj2);
+    }
+
+    /* package */ static <R> R apply(CheckedFunction0<? extends R> function) {
+        try {
+            return function.apply();
+        } catch (Throwable throwable) {
+            return throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <T, R> R apply(CheckedFunction1<? super T, ? extends R> function, T t) {
+        try {
+            return function.apply(t);
+        } catch (Throwable throwable) {
+            return throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <S, T, R> R apply(CheckedFunction2<? super S, ? super T, ? extends R> function, S s, T t) {
+        try {
+            return function.apply(s, t);
+        } catch (Throwable throwable) {
+            return throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <T> void accept(CheckedConsumer<? super T> consumer, T t) {
+        try {
+            consumer.accept(t);
+        } catch (Throwable throwable) {
+            throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <S, T> void accept(CheckedConsumer2<? super S, ? super T> consumer, S s, T t) {
+        try {
+            consumer.accept(s, t);
+        } catch (Throwable throwable) {
+            throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <T> boolean test(CheckedPredicate<? super T> predicate, T t) {
+        try {
+            return predicate.test(t);
+        } catch (Throwable throwable) {
+            return throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static <S, T> boolean test(CheckedPredicate2<? super S, ? super T> predicate, S s, T t) {
+        try {
+            return predicate.test(s, t);
+        } catch (Throwable throwable) {
+            return throwUnchecked(throwable);
+        }
+    }
+
+    /* package */ static void run(CheckedRunnable runnable) {
+        try {
+            runnable.run();
+        } catch (Throwable throwable) {
+            throwUnchecked(throwable);
+        }
+    }
+
+    /**
+     * Run the supplier on the executor. Unlike {@link CompletableFuture#supplyAsync},
+     * cancelling the returned future interrupts the supplier if it's already running.
+     */
+    /* package */ static <T> CompletableFuture<T> supplyAsync(CheckedFunction0<? extends T> supplier, Executor executor) {
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                future.complete(supplier.apply());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        }, null);
+
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+
+        executor.execute(task);
+        return future;
+    }
+
+    /**
+     * Wait for the future, rethrowing any failure as it was thrown, not wrapped in a {@link CompletionException}.
+     */
+    /* package */ static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            return throwUnchecked(e.getCause() == null ? e : e.getCause());
+        }
+    }
+
+    /**
+     * Run both suppliers on the executor at once, cancelling one as soon as the other
+     * comes back null or fails. Waits for both, or for the first to come back empty.
+     */
+    /* package */ static <C, D> Optional2<C, D> allOf(
+        CheckedFunction0<? extends C> supplyObj1,
+        CheckedFunction0<? extends D> supplyObj2,
+        Executor executor) {
+
+        CompletableFuture<C> first = supplyAsync(supplyObj1, executor);
+        CompletableFuture<D> second = supplyAsync(supplyObj2, executor);
+
+        first.whenComplete((obj1, throwable) -> {
+            if (throwable != null || obj1 == null) {
+                second.cancel(true);
+            }
+        });
+
+        second.whenComplete((obj2, throwable) -> {
+            if (throwable != null || obj2 == null) {
+                first.cancel(true);
+            }
+        });
+
+        try {
+            CompletableFuture.allOf(first, second).join();
+        } catch (CompletionException | CancellationException e) {
+            // Handled below, per future, so the original exception is rethrown.
+        }
+
+        C obj1 = first.isCancelled() ? null : join(first);
+        D obj2 = second.isCancelled() ? null : join(second);
+        return Optional2.ofNullable(obj1, obj2);
+    }
 }
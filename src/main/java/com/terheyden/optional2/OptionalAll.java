@@ -0,0 +1,224 @@
+package com.terheyden.optional2;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Many optional values at once, for when nesting {@link Optional2}s would cost an object per level:
+ * <pre>{@code
+ * OptionalAll fields = Optional2.allOf(
+ *     request::getName,
+ *     () -> request.getEmail().orElse(null),
+ *     () -> TestService.findUserId(request.getName()));
+ *
+ * if (fields.isEmpty()) {
+ *     return badRequest(FIELD_NAMES[fields.emptyIndex()]);
+ * }
+ *
+ * TestUser user = TestService.loginUser(fields.get(2), fields.get(0));
+ * }</pre>
+ * The values live in one flat array. Creating one stops at the first empty value, without
+ * computing or unwrapping the rest, and remembers that value's position: {@link #emptyIndex()}
+ * is a plain int, so reporting which input was missing doesn't format anything.
+ * <p>
+ * The values can be of different types, so {@link #get(int)} is unchecked, like a heterogeneous container.
+ */
+public final class OptionalAll {
+
+    private final Object[] values;
+
+    /**
+     * The position of the first empty value, or -1 if all are present.
+     */
+    private final int emptyIndex;
+
+    private OptionalAll(Object[] values, int emptyIndex) {
+        this.values = values;
+        this.emptyIndex = emptyIndex;
+    }
+
+    /**
+     * Runs the suppliers in order, stopping at the first one that returns null.
+     * The ones after it never run.
+     *
+     * @see Optional2#allOf(CheckedFunction0[])
+     */
+    public static OptionalAll of(CheckedFunction0<?>... suppliers) {
+
+        Object[] values = new Object[suppliers.length];
+
+        for (int i = 0; i < suppliers.length; i++) {
+
+            Object value = Optional2Utils.apply(suppliers[i]);
+
+            if (value == null) {
+                return new OptionalAll(values, i);
+            }
+
+            values[i] = value;
+        }
+
+        return new OptionalAll(values, -1);
+    }
+
+    /**
+     * Checks the values in order, stopping at the first null. The array is copied.
+     */
+    public static OptionalAll ofNullable(Object... values) {
+
+        Object[] copy = values.clone();
+
+        for (int i = 0; i < copy.length; i++) {
+            if (copy[i] == null) {
+                return new OptionalAll(copy, i);
+            }
+        }
+
+        return new OptionalAll(copy, -1);
+    }
+
+    /**
+     * Unwraps the optionals in order, stopping at the first empty one.
+     */
+    public static OptionalAll ofOptionals(Optional<?>... optionals) {
+
+        Object[] values = new Object[optionals.length];
+
+        for (int i = 0; i < optionals.length; i++) {
+
+            Object value = optionals[i].orElse(null);
+
+            if (value == null) {
+                return new OptionalAll(values, i);
+            }
+
+            values[i] = value;
+        }
+
+        return new OptionalAll(values, -1);
+    }
+
+    /**
+     * Returns true if every value is present.
+     */
+    public boolean isPresent() {
+        return emptyIndex < 0;
+    }
+
+    /**
+     * Returns true if any value is empty.
+     */
+    public boolean isEmpty() {
+        return emptyIndex >= 0;
+    }
+
+    /**
+     * Returns the position of the first empty value, or -1 if all are present.
+     * Values after it weren't looked at.
+     */
+    public int emptyIndex() {
+        return emptyIndex;
+    }
+
+    /**
+     * Returns the number of values, present or not.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the value at the given position. Values before {@link #emptyIndex()} are available
+     * even if a later one is empty.
+     *
+     * @throws EmptyValueException if the value is empty, or after the first empty value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+
+        if (emptyIndex >= 0 && index >= emptyIndex) {
+            Objects.checkIndex(index, values.length);
+            recordThrow("OptionalAll.get");
+            throw emptyException(true);
+        }
+
+        return (T) values[index];
+    }
+
+    /**
+     * Throws if any value is empty. The message names the position of the first empty value.
+     *
+     * @return this, for chaining
+     * @throws EmptyValueException if any value is empty
+     */
+    public OptionalAll throwIfEmpty() {
+
+        if (emptyIndex >= 0) {
+            recordThrow("OptionalAll.throwIfEmpty");
+            throw emptyException(true);
+        }
+
+        return this;
+    }
+
+    /**
+     * Like {@link #throwIfEmpty()}, but the exception has no stack trace, so it's much cheaper to throw.
+     *
+     * @return this, for chaining
+     * @throws EmptyValueException if any value is empty
+     */
+    public OptionalAll throwIfEmptyStackless() {
+
+        if (emptyIndex >= 0) {
+            recordThrow("OptionalAll.throwIfEmptyStackless");
+            throw emptyException(false);
+        }
+
+        return this;
+    }
+
+    /**
+     * Combines the values, if all are present.
+     */
+    public <R> Optional<R> reduce(CheckedFunction1<? super OptionalAll, ? extends R> mapper) {
+        return emptyIndex < 0
+            ? Optional.ofNullable(Optional2Utils.apply(mapper, this))
+            : Optional.empty();
+    }
+
+    /**
+     * Consumes the values, if all are present.
+     *
+     * @return this, for chaining
+     */
+    public OptionalAll ifPresent(CheckedConsumer<? super OptionalAll> consumer) {
+
+        if (emptyIndex < 0) {
+            Optional2Utils.accept(consumer, this);
+        }
+
+        return this;
+    }
+
+    private EmptyValueException emptyException(boolean stackTrace) {
+        return new EmptyValueException("OptionalAll value is empty at index ", emptyIndex, stackTrace);
+    }
+
+    private void recordThrow(String operation) {
+        if (Optional2Metrics.ENABLED) {
+            Optional2Metrics.recordEmptyThrow(emptyIndex == 0);
+        }
+        Optional2Events.emptyThrow(operation, emptyIndex == 0);
+    }
+
+    @Override
+    public String toString() {
+
+        if (emptyIndex < 0) {
+            return "OptionalAll" + Arrays.toString(values);
+        }
+
+        return "OptionalAll" + Arrays.toString(Arrays.copyOf(values, emptyIndex + 1)) + ", empty at " + emptyIndex;
+    }
+}
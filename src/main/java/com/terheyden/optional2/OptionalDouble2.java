@@ -0,0 +1,332 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A primitive {@code double} specialization of {@link Optional2}.
+ * Holds either two {@code double} values, or nothing; the values are never boxed.
+ */
+public sealed interface OptionalDouble2 permits OptionalDouble2.Present, OptionalDouble2.Empty {
+
+    static OptionalDouble2 of(double obj1, double obj2) {
+        return new Present(obj1, obj2);
+    }
+
+    /**
+     * Returns an empty immutable singleton {@code OptionalDouble2} instance.
+     */
+    static OptionalDouble2 empty() {
+        return Empty.EMPTY;
+    }
+
+    /**
+     * Returns the first value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    double getFirstValue();
+
+    /**
+     * Returns the second value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    double getSecondValue();
+
+    /**
+     * True if both values are present.
+     */
+    boolean isPresent();
+
+    /**
+     * True if the values are not present.
+     */
+    boolean isEmpty();
+
+    /**
+     * Throws a {@link NoSuchElementException} if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalDouble2 throwIfEmpty();
+
+    /**
+     * If the values are not present, use the given replacement values instead.
+     *
+     * @see Optional2#or(Object)
+     */
+    OptionalDouble2 or(double useIfEmpty1, double useIfEmpty2);
+
+    /**
+     * If the values are not present, use the supplier to get replacement values instead.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    OptionalDouble2 or(Supplier<OptionalDouble2> supplyIfEmpty);
+
+    /**
+     * Returns the first value if present, otherwise the given value.
+     */
+    double orElseFirst(double other);
+
+    /**
+     * Returns the second value if present, otherwise the given value.
+     */
+    double orElseSecond(double other);
+
+    /**
+     * If the values are present, apply the given filter.
+     *
+     * @return this, for chaining
+     */
+    OptionalDouble2 filter(DoublePredicate2 predicate);
+
+    /**
+     * If the values are present, apply the first mapper to the first value,
+     * and the second mapper to the second value.
+     */
+    OptionalDouble2 map(DoubleUnaryOperator mapper1, DoubleUnaryOperator mapper2);
+
+    /**
+     * If the values are present, apply both mappers to both values,
+     * producing a new first and second value.
+     */
+    OptionalDouble2 map(DoubleBinaryOperator mapper1, DoubleBinaryOperator mapper2);
+
+    /**
+     * If the values are present, combine them down to an {@link OptionalDouble}.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    OptionalDouble reduce(DoubleBinaryOperator mapper);
+
+    /**
+     * If the values are present, combine them and return the result, otherwise return {@code other}.
+     */
+    double reduceOrElse(DoubleBinaryOperator mapper, double other);
+
+    /**
+     * If the values are present, pass them to the consumer.
+     *
+     * @return this, for chaining
+     */
+    OptionalDouble2 ifPresent(DoubleConsumer2 consumer);
+
+    /**
+     * If the values are present, pass them to the consumer, otherwise run the given action.
+     *
+     * @return this, for chaining
+     */
+    OptionalDouble2 ifPresentOrElse(DoubleConsumer2 consumer, Runnable emptyAction);
+
+    /**
+     * Run the given action if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalDouble2 ifEmpty(Runnable runIfEmpty);
+
+    /**
+     * An {@link OptionalDouble2} holding two values.
+     */
+    record Present(double first, double second) implements OptionalDouble2 {
+
+        @Override
+        public double getFirstValue() {
+            return first;
+        }
+
+        @Override
+        public double getSecondValue() {
+            return second;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public OptionalDouble2 throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 or(double useIfEmpty1, double useIfEmpty2) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 or(Supplier<OptionalDouble2> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public double orElseFirst(double other) {
+            return first;
+        }
+
+        @Override
+        public double orElseSecond(double other) {
+            return second;
+        }
+
+        @Override
+        public OptionalDouble2 filter(DoublePredicate2 predicate) {
+            return predicate.test(first, second)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public OptionalDouble2 map(DoubleUnaryOperator mapper1, DoubleUnaryOperator mapper2) {
+            return new Present(mapper1.applyAsDouble(first), mapper2.applyAsDouble(second));
+        }
+
+        @Override
+        public OptionalDouble2 map(DoubleBinaryOperator mapper1, DoubleBinaryOperator mapper2) {
+            return new Present(mapper1.applyAsDouble(first, second), mapper2.applyAsDouble(first, second));
+        }
+
+        @Override
+        public OptionalDouble reduce(DoubleBinaryOperator mapper) {
+            return OptionalDouble.of(mapper.applyAsDouble(first, second));
+        }
+
+        @Override
+        public double reduceOrElse(DoubleBinaryOperator mapper, double other) {
+            return mapper.applyAsDouble(first, second);
+        }
+
+        @Override
+        public OptionalDouble2 ifPresent(DoubleConsumer2 consumer) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 ifPresentOrElse(DoubleConsumer2 consumer, Runnable emptyAction) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 ifEmpty(Runnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalDouble2[%s,%s]".formatted(first, second);
+        }
+    }
+
+    /**
+     * The empty {@link OptionalDouble2} singleton, see {@link #empty()}.
+     */
+    final class Empty implements OptionalDouble2 {
+
+        private static final Empty EMPTY = new Empty();
+
+        private Empty() {
+            // Use the singleton.
+        }
+
+        @Override
+        public double getFirstValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public double getSecondValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public OptionalDouble2 throwIfEmpty() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public OptionalDouble2 or(double useIfEmpty1, double useIfEmpty2) {
+            return new Present(useIfEmpty1, useIfEmpty2);
+        }
+
+        @Override
+        public OptionalDouble2 or(Supplier<OptionalDouble2> supplyIfEmpty) {
+            return supplyIfEmpty.get();
+        }
+
+        @Override
+        public double orElseFirst(double other) {
+            return other;
+        }
+
+        @Override
+        public double orElseSecond(double other) {
+            return other;
+        }
+
+        @Override
+        public OptionalDouble2 filter(DoublePredicate2 predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 map(DoubleUnaryOperator mapper1, DoubleUnaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 map(DoubleBinaryOperator mapper1, DoubleBinaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble reduce(DoubleBinaryOperator mapper) {
+            return OptionalDouble.empty();
+        }
+
+        @Override
+        public double reduceOrElse(DoubleBinaryOperator mapper, double other) {
+            return other;
+        }
+
+        @Override
+        public OptionalDouble2 ifPresent(DoubleConsumer2 consumer) {
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 ifPresentOrElse(DoubleConsumer2 consumer, Runnable emptyAction) {
+            emptyAction.run();
+            return this;
+        }
+
+        @Override
+        public OptionalDouble2 ifEmpty(Runnable runIfEmpty) {
+            runIfEmpty.run();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalDouble2[null,null]";
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A primitive {@code int} specialization of {@link Optional2}.
+ * Holds either two {@code int} values, or nothing; the values are never boxed.
+ */
+public sealed interface OptionalInt2 permits OptionalInt2.Present, OptionalInt2.Empty {
+
+    static OptionalInt2 of(int obj1, int obj2) {
+        return new Present(obj1, obj2);
+    }
+
+    /**
+     * Returns an empty immutable singleton {@code OptionalInt2} instance.
+     */
+    static OptionalInt2 empty() {
+        return Empty.EMPTY;
+    }
+
+    /**
+     * Returns the first value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    int getFirstValue();
+
+    /**
+     * Returns the second value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    int getSecondValue();
+
+    /**
+     * True if both values are present.
+     */
+    boolean isPresent();
+
+    /**
+     * True if the values are not present.
+     */
+    boolean isEmpty();
+
+    /**
+     * Throws a {@link NoSuchElementException} if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalInt2 throwIfEmpty();
+
+    /**
+     * If the values are not present, use the given replacement values instead.
+     *
+     * @see Optional2#or(Object)
+     */
+    OptionalInt2 or(int useIfEmpty1, int useIfEmpty2);
+
+    /**
+     * If the values are not present, use the supplier to get replacement values instead.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    OptionalInt2 or(Supplier<OptionalInt2> supplyIfEmpty);
+
+    /**
+     * Returns the first value if present, otherwise the given value.
+     */
+    int orElseFirst(int other);
+
+    /**
+     * Returns the second value if present, otherwise the given value.
+     */
+    int orElseSecond(int other);
+
+    /**
+     * If the values are present, apply the given filter.
+     *
+     * @return this, for chaining
+     */
+    OptionalInt2 filter(IntPredicate2 predicate);
+
+    /**
+     * If the values are present, apply the first mapper to the first value,
+     * and the second mapper to the second value.
+     */
+    OptionalInt2 map(IntUnaryOperator mapper1, IntUnaryOperator mapper2);
+
+    /**
+     * If the values are present, apply both mappers to both values,
+     * producing a new first and second value.
+     */
+    OptionalInt2 map(IntBinaryOperator mapper1, IntBinaryOperator mapper2);
+
+    /**
+     * If the values are present, combine them down to an {@link OptionalInt}.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    OptionalInt reduce(IntBinaryOperator mapper);
+
+    /**
+     * If the values are present, combine them and return the result, otherwise return {@code other}.
+     */
+    int reduceOrElse(IntBinaryOperator mapper, int other);
+
+    /**
+     * If the values are present, pass them to the consumer.
+     *
+     * @return this, for chaining
+     */
+    OptionalInt2 ifPresent(IntConsumer2 consumer);
+
+    /**
+     * If the values are present, pass them to the consumer, otherwise run the given action.
+     *
+     * @return this, for chaining
+     */
+    OptionalInt2 ifPresentOrElse(IntConsumer2 consumer, Runnable emptyAction);
+
+    /**
+     * Run the given action if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalInt2 ifEmpty(Runnable runIfEmpty);
+
+    /**
+     * An {@link OptionalInt2} holding two values.
+     */
+    record Present(int first, int second) implements OptionalInt2 {
+
+        @Override
+        public int getFirstValue() {
+            return first;
+        }
+
+        @Override
+        public int getSecondValue() {
+            return second;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public OptionalInt2 throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 or(int useIfEmpty1, int useIfEmpty2) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 or(Supplier<OptionalInt2> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public int orElseFirst(int other) {
+            return first;
+        }
+
+        @Override
+        public int orElseSecond(int other) {
+            return second;
+        }
+
+        @Override
+        public OptionalInt2 filter(IntPredicate2 predicate) {
+            return predicate.test(first, second)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public OptionalInt2 map(IntUnaryOperator mapper1, IntUnaryOperator mapper2) {
+            return new Present(mapper1.applyAsInt(first), mapper2.applyAsInt(second));
+        }
+
+        @Override
+        public OptionalInt2 map(IntBinaryOperator mapper1, IntBinaryOperator mapper2) {
+            return new Present(mapper1.applyAsInt(first, second), mapper2.applyAsInt(first, second));
+        }
+
+        @Override
+        public OptionalInt reduce(IntBinaryOperator mapper) {
+            return OptionalInt.of(mapper.applyAsInt(first, second));
+        }
+
+        @Override
+        public int reduceOrElse(IntBinaryOperator mapper, int other) {
+            return mapper.applyAsInt(first, second);
+        }
+
+        @Override
+        public OptionalInt2 ifPresent(IntConsumer2 consumer) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 ifPresentOrElse(IntConsumer2 consumer, Runnable emptyAction) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 ifEmpty(Runnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalInt2[%s,%s]".formatted(first, second);
+        }
+    }
+
+    /**
+     * The empty {@link OptionalInt2} singleton, see {@link #empty()}.
+     */
+    final class Empty implements OptionalInt2 {
+
+        private static final Empty EMPTY = new Empty();
+
+        private Empty() {
+            // Use the singleton.
+        }
+
+        @Override
+        public int getFirstValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public int getSecondValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public OptionalInt2 throwIfEmpty() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public OptionalInt2 or(int useIfEmpty1, int useIfEmpty2) {
+            return new Present(useIfEmpty1, useIfEmpty2);
+        }
+
+        @Override
+        public OptionalInt2 or(Supplier<OptionalInt2> supplyIfEmpty) {
+            return supplyIfEmpty.get();
+        }
+
+        @Override
+        public int orElseFirst(int other) {
+            return other;
+        }
+
+        @Override
+        public int orElseSecond(int other) {
+            return other;
+        }
+
+        @Override
+        public OptionalInt2 filter(IntPredicate2 predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 map(IntUnaryOperator mapper1, IntUnaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 map(IntBinaryOperator mapper1, IntBinaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt reduce(IntBinaryOperator mapper) {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public int reduceOrElse(IntBinaryOperator mapper, int other) {
+            return other;
+        }
+
+        @Override
+        public OptionalInt2 ifPresent(IntConsumer2 consumer) {
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 ifPresentOrElse(IntConsumer2 consumer, Runnable emptyAction) {
+            emptyAction.run();
+            return this;
+        }
+
+        @Override
+        public OptionalInt2 ifEmpty(Runnable runIfEmpty) {
+            runIfEmpty.run();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalInt2[null,null]";
+        }
+    }
+}
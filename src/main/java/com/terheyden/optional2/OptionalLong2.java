@@ -0,0 +1,334 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A primitive {@code long} specialization of {@link Optional2}.
+ * Holds either two {@code long} values, or nothing; the values are never boxed.
+ *
+ * @see OptionalObjLong2
+ */
+public sealed interface OptionalLong2 permits OptionalLong2.Present, OptionalLong2.Empty {
+
+    static OptionalLong2 of(long obj1, long obj2) {
+        return new Present(obj1, obj2);
+    }
+
+    /**
+     * Returns an empty immutable singleton {@code OptionalLong2} instance.
+     */
+    static OptionalLong2 empty() {
+        return Empty.EMPTY;
+    }
+
+    /**
+     * Returns the first value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    long getFirstValue();
+
+    /**
+     * Returns the second value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    long getSecondValue();
+
+    /**
+     * True if both values are present.
+     */
+    boolean isPresent();
+
+    /**
+     * True if the values are not present.
+     */
+    boolean isEmpty();
+
+    /**
+     * Throws a {@link NoSuchElementException} if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalLong2 throwIfEmpty();
+
+    /**
+     * If the values are not present, use the given replacement values instead.
+     *
+     * @see Optional2#or(Object)
+     */
+    OptionalLong2 or(long useIfEmpty1, long useIfEmpty2);
+
+    /**
+     * If the values are not present, use the supplier to get replacement values instead.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    OptionalLong2 or(Supplier<OptionalLong2> supplyIfEmpty);
+
+    /**
+     * Returns the first value if present, otherwise the given value.
+     */
+    long orElseFirst(long other);
+
+    /**
+     * Returns the second value if present, otherwise the given value.
+     */
+    long orElseSecond(long other);
+
+    /**
+     * If the values are present, apply the given filter.
+     *
+     * @return this, for chaining
+     */
+    OptionalLong2 filter(LongPredicate2 predicate);
+
+    /**
+     * If the values are present, apply the first mapper to the first value,
+     * and the second mapper to the second value.
+     */
+    OptionalLong2 map(LongUnaryOperator mapper1, LongUnaryOperator mapper2);
+
+    /**
+     * If the values are present, apply both mappers to both values,
+     * producing a new first and second value.
+     */
+    OptionalLong2 map(LongBinaryOperator mapper1, LongBinaryOperator mapper2);
+
+    /**
+     * If the values are present, combine them down to an {@link OptionalLong}.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    OptionalLong reduce(LongBinaryOperator mapper);
+
+    /**
+     * If the values are present, combine them and return the result, otherwise return {@code other}.
+     */
+    long reduceOrElse(LongBinaryOperator mapper, long other);
+
+    /**
+     * If the values are present, pass them to the consumer.
+     *
+     * @return this, for chaining
+     */
+    OptionalLong2 ifPresent(LongConsumer2 consumer);
+
+    /**
+     * If the values are present, pass them to the consumer, otherwise run the given action.
+     *
+     * @return this, for chaining
+     */
+    OptionalLong2 ifPresentOrElse(LongConsumer2 consumer, Runnable emptyAction);
+
+    /**
+     * Run the given action if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalLong2 ifEmpty(Runnable runIfEmpty);
+
+    /**
+     * An {@link OptionalLong2} holding two values.
+     */
+    record Present(long first, long second) implements OptionalLong2 {
+
+        @Override
+        public long getFirstValue() {
+            return first;
+        }
+
+        @Override
+        public long getSecondValue() {
+            return second;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public OptionalLong2 throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 or(long useIfEmpty1, long useIfEmpty2) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 or(Supplier<OptionalLong2> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public long orElseFirst(long other) {
+            return first;
+        }
+
+        @Override
+        public long orElseSecond(long other) {
+            return second;
+        }
+
+        @Override
+        public OptionalLong2 filter(LongPredicate2 predicate) {
+            return predicate.test(first, second)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public OptionalLong2 map(LongUnaryOperator mapper1, LongUnaryOperator mapper2) {
+            return new Present(mapper1.applyAsLong(first), mapper2.applyAsLong(second));
+        }
+
+        @Override
+        public OptionalLong2 map(LongBinaryOperator mapper1, LongBinaryOperator mapper2) {
+            return new Present(mapper1.applyAsLong(first, second), mapper2.applyAsLong(first, second));
+        }
+
+        @Override
+        public OptionalLong reduce(LongBinaryOperator mapper) {
+            return OptionalLong.of(mapper.applyAsLong(first, second));
+        }
+
+        @Override
+        public long reduceOrElse(LongBinaryOperator mapper, long other) {
+            return mapper.applyAsLong(first, second);
+        }
+
+        @Override
+        public OptionalLong2 ifPresent(LongConsumer2 consumer) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 ifPresentOrElse(LongConsumer2 consumer, Runnable emptyAction) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 ifEmpty(Runnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalLong2[%s,%s]".formatted(first, second);
+        }
+    }
+
+    /**
+     * The empty {@link OptionalLong2} singleton, see {@link #empty()}.
+     */
+    final class Empty implements OptionalLong2 {
+
+        private static final Empty EMPTY = new Empty();
+
+        private Empty() {
+            // Use the singleton.
+        }
+
+        @Override
+        public long getFirstValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public long getSecondValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public OptionalLong2 throwIfEmpty() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public OptionalLong2 or(long useIfEmpty1, long useIfEmpty2) {
+            return new Present(useIfEmpty1, useIfEmpty2);
+        }
+
+        @Override
+        public OptionalLong2 or(Supplier<OptionalLong2> supplyIfEmpty) {
+            return supplyIfEmpty.get();
+        }
+
+        @Override
+        public long orElseFirst(long other) {
+            return other;
+        }
+
+        @Override
+        public long orElseSecond(long other) {
+            return other;
+        }
+
+        @Override
+        public OptionalLong2 filter(LongPredicate2 predicate) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 map(LongUnaryOperator mapper1, LongUnaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 map(LongBinaryOperator mapper1, LongBinaryOperator mapper2) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong reduce(LongBinaryOperator mapper) {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public long reduceOrElse(LongBinaryOperator mapper, long other) {
+            return other;
+        }
+
+        @Override
+        public OptionalLong2 ifPresent(LongConsumer2 consumer) {
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 ifPresentOrElse(LongConsumer2 consumer, Runnable emptyAction) {
+            emptyAction.run();
+            return this;
+        }
+
+        @Override
+        public OptionalLong2 ifEmpty(Runnable runIfEmpty) {
+            runIfEmpty.run();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalLong2[null,null]";
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * An {@link Optional2} whose second value is a primitive {@code long},
+ * for pairs like (userId, timestamp) or (key, count). The {@code long} is never boxed.
+ *
+ * @see OptionalLong2
+ */
+public sealed interface OptionalObjLong2<C> permits OptionalObjLong2.Present, OptionalObjLong2.Empty {
+
+    static <C> OptionalObjLong2<C> of(C obj1, long obj2) {
+        return new Present<>(obj1, obj2);
+    }
+
+    static <C> OptionalObjLong2<C> ofNullable(@Nullable C obj1, long obj2) {
+        return obj1 == null
+            ? empty()
+            : new Present<>(obj1, obj2);
+    }
+
+    /**
+     * Returns an empty immutable singleton {@code OptionalObjLong2} instance.
+     */
+    @SuppressWarnings("unchecked")
+    static <C> OptionalObjLong2<C> empty() {
+        return (OptionalObjLong2<C>) Empty.EMPTY;
+    }
+
+    /**
+     * Returns the first value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    C getFirstValue();
+
+    /**
+     * Returns the second value, if present, otherwise throws a {@link NoSuchElementException}.
+     */
+    long getSecondValue();
+
+    /**
+     * True if both values are present.
+     */
+    boolean isPresent();
+
+    /**
+     * True if the values are not present.
+     */
+    boolean isEmpty();
+
+    /**
+     * Throws a {@link NoSuchElementException} if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalObjLong2<C> throwIfEmpty();
+
+    /**
+     * If the values are not present, use the given replacement values instead.
+     *
+     * @see Optional2#or(Object)
+     */
+    OptionalObjLong2<C> or(C useIfEmpty1, long useIfEmpty2);
+
+    /**
+     * If the values are present, apply the given filter.
+     *
+     * @return this, for chaining
+     */
+    OptionalObjLong2<C> filter(ObjLongPredicate<? super C> predicate);
+
+    /**
+     * If the values are present, apply the first mapper to the first value,
+     * and the second mapper to the second value.
+     * If the first mapper returns null, the result is empty.
+     */
+    <A> OptionalObjLong2<A> map(Function<? super C, ? extends A> mapper1, LongUnaryOperator mapper2);
+
+    /**
+     * If the values are present, combine them down to an {@link Optional}.
+     *
+     * @see Optional2#reduce(CheckedFunction2)
+     */
+    <E> Optional<E> reduce(ObjLongFunction<? super C, ? extends E> mapper);
+
+    /**
+     * If the values are present, pass them to the consumer.
+     *
+     * @return this, for chaining
+     */
+    OptionalObjLong2<C> ifPresent(ObjLongConsumer<? super C> consumer);
+
+    /**
+     * If the values are present, pass them to the consumer, otherwise run the given action.
+     *
+     * @return this, for chaining
+     */
+    OptionalObjLong2<C> ifPresentOrElse(ObjLongConsumer<? super C> consumer, Runnable emptyAction);
+
+    /**
+     * Run the given action if the values are not present.
+     *
+     * @return this, for chaining
+     */
+    OptionalObjLong2<C> ifEmpty(Runnable runIfEmpty);
+
+    /**
+     * An {@link OptionalObjLong2} holding both values.
+     */
+    record Present<C>(C first, long second) implements OptionalObjLong2<C> {
+
+        public Present {
+            Objects.requireNonNull(first);
+        }
+
+        @Override
+        public C getFirstValue() {
+            return first;
+        }
+
+        @Override
+        public long getSecondValue() {
+            return second;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return true;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public OptionalObjLong2<C> throwIfEmpty() {
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> or(C useIfEmpty1, long useIfEmpty2) {
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> filter(ObjLongPredicate<? super C> predicate) {
+            return predicate.test(first, second)
+                ? this
+                : empty();
+        }
+
+        @Override
+        public <A> OptionalObjLong2<A> map(Function<? super C, ? extends A> mapper1, LongUnaryOperator mapper2) {
+            return ofNullable(mapper1.apply(first), mapper2.applyAsLong(second));
+        }
+
+        @Override
+        public <E> Optional<E> reduce(ObjLongFunction<? super C, ? extends E> mapper) {
+            return Optional.ofNullable(mapper.apply(first, second));
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifPresent(ObjLongConsumer<? super C> consumer) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifPresentOrElse(ObjLongConsumer<? super C> consumer, Runnable emptyAction) {
+            consumer.accept(first, second);
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifEmpty(Runnable runIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalObjLong2[%s,%s]".formatted(first, second);
+        }
+    }
+
+    /**
+     * The empty {@link OptionalObjLong2} singleton, see {@link #empty()}.
+     */
+    final class Empty<C> implements OptionalObjLong2<C> {
+
+        // There's no generic type, for casting.
+        private static final Empty EMPTY = new Empty<>();
+
+        private Empty() {
+            // Use the singleton.
+        }
+
+        @Override
+        public C getFirstValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public long getSecondValue() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public OptionalObjLong2<C> throwIfEmpty() {
+            throw new NoSuchElementException("No value present");
+        }
+
+        @Override
+        public OptionalObjLong2<C> or(C useIfEmpty1, long useIfEmpty2) {
+            return new Present<>(useIfEmpty1, useIfEmpty2);
+        }
+
+        @Override
+        public OptionalObjLong2<C> filter(ObjLongPredicate<? super C> predicate) {
+            return this;
+        }
+
+        @Override
+        public <A> OptionalObjLong2<A> map(Function<? super C, ? extends A> mapper1, LongUnaryOperator mapper2) {
+            return empty();
+        }
+
+        @Override
+        public <E> Optional<E> reduce(ObjLongFunction<? super C, ? extends E> mapper) {
+            return Optional.empty();
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifPresent(ObjLongConsumer<? super C> consumer) {
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifPresentOrElse(ObjLongConsumer<? super C> consumer, Runnable emptyAction) {
+            emptyAction.run();
+            return this;
+        }
+
+        @Override
+        public OptionalObjLong2<C> ifEmpty(Runnable runIfEmpty) {
+            runIfEmpty.run();
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "OptionalObjLong2[null,null]";
+        }
+    }
+}
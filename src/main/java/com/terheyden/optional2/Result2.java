@@ -0,0 +1,363 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An {@link Optional2} that might have failed instead. When a step's lambda throws, the exception
+ * is kept as a value and the rest of the chain skips over it, rather than the exception unwinding
+ * through every caller. Start one via {@link Optional1#andOfTry(CheckedFunction1)} or
+ * {@link Optional2#mapTry(CheckedFunction1, CheckedFunction1)}:
+ * <pre>{@code
+ * Optional<TestUser> user = Optional2
+ *     .ofNullable(name)
+ *     .andOfTry(TestService::findUserId)
+ *     .recover(ex -> BACKUP_USER_ID)
+ *     .reduce((nm, userId) -> TestService.loginUser(userId, nm));
+ * }</pre>
+ * A {@code Result2} is either a {@link Success} (holding an {@code Optional2}, present or empty)
+ * or a {@link Failure}. A failure is only thrown again at the boundary, by {@link #toOptional2()}
+ * or {@link #reduce(CheckedFunction2)}. Fatal errors, like {@link OutOfMemoryError}, are never captured.
+ * <p>
+ * A failed lookup still costs the exception it threw; lookups that fail often can throw
+ * a preallocated {@link EmptyValueException} or another stackless exception to keep that cheap.
+ */
+public sealed interface Result2<C, D> permits Result2.Success, Result2.Failure {
+
+    static <C, D> Result2<C, D> of(Optional2<C, D> value) {
+        return value == Optional2.empty()
+            ? empty()
+            : new Success<>(value);
+    }
+
+    static <C, D> Result2<C, D> ofNullable(@Nullable C obj1, @Nullable D obj2) {
+        return of(Optional2.ofNullable(obj1, obj2));
+    }
+
+    /**
+     * A successful, empty result.
+     */
+    @SuppressWarnings("unchecked")
+    static <C, D> Result2<C, D> empty() {
+        return (Result2<C, D>) Success.EMPTY;
+    }
+
+    /**
+     * A failed result.
+     *
+     * @param obj1  the first value, if it's known, so that {@link #recover(CheckedFunction1)} can use it
+     * @param cause what went wrong; rethrown right away if it's fatal, like an {@link OutOfMemoryError}
+     */
+    static <C, D> Result2<C, D> failure(@Nullable C obj1, Throwable cause) {
+
+        if (cause instanceof VirtualMachineError
+            || cause instanceof LinkageError
+            || cause instanceof InterruptedException) {
+
+            return Optional2Utils.throwUnchecked(cause);
+        }
+
+        return new Failure<>(obj1, cause);
+    }
+
+    /**
+     * @see Optional2#filter(CheckedPredicate2)
+     */
+    Result2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate);
+
+    /**
+     * @see Optional2#map(CheckedFunction1, CheckedFunction1)
+     */
+    <A, E> Result2<A, E> map(
+        CheckedFunction1<? super C, ? extends A> mapper1,
+        CheckedFunction1<? super D, ? extends E> mapper2);
+
+    /**
+     * @see Optional2#map(CheckedFunction2, CheckedFunction2)
+     */
+    <A, E> Result2<A, E> map(
+        CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+        CheckedFunction2<? super C, ? super D, ? extends E> mapper2);
+
+    /**
+     * If the first value is present but the second is empty, use this second value instead.
+     * Failures are left alone; see {@link #recover(CheckedFunction1)}.
+     *
+     * @see Optional2#or(Object)
+     */
+    Result2<C, D> or(D useIfEmpty);
+
+    /**
+     * If the first value is present but the second is empty, use the supplier's value instead.
+     * Failures are left alone; see {@link #recover(CheckedFunction1)}.
+     *
+     * @see Optional2#or(CheckedFunction0)
+     */
+    Result2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty);
+
+    /**
+     * If this failed, and the first value is known, computes a second value from the exception instead.
+     * A null result leaves the second value empty.
+     */
+    Result2<C, D> recover(CheckedFunction1<? super Throwable, ? extends D> recovery);
+
+    /**
+     * Consume the exception, if this failed, for instance to log it.
+     *
+     * @return this, for chaining
+     */
+    Result2<C, D> ifFailure(CheckedConsumer<? super Throwable> consumer);
+
+    /**
+     * The values, or, if this failed, throws the exception (unchecked, as-is).
+     */
+    Optional2<C, D> toOptional2();
+
+    /**
+     * Like {@link Optional2#reduce(CheckedFunction2)}, but if this failed, throws the exception (unchecked, as-is).
+     */
+    <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper);
+
+    /**
+     * The exception, if this failed.
+     */
+    Optional<Throwable> getCause();
+
+    boolean isSuccess();
+
+    boolean isFailure();
+
+    /**
+     * True if this succeeded and both values are present.
+     */
+    boolean isPresent();
+
+    /**
+     * A {@code Result2} that didn't fail. The values may still be empty.
+     */
+    record Success<C, D>(Optional2<C, D> value) implements Result2<C, D> {
+
+        // These generics aren't strongly typed, for later casting purposes.
+        @SuppressWarnings("rawtypes")
+        private static final Success EMPTY = new Success<>(Optional2.empty());
+
+        public Success {
+            Objects.requireNonNull(value);
+        }
+
+        @Override
+        public Result2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+            try {
+                return of(value.filter(predicate));
+            } catch (Throwable throwable) {
+                return failure(firstOrNull(), throwable);
+            }
+        }
+
+        @Override
+        public <A, E> Result2<A, E> map(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            if (!(value instanceof Optional2.Present<C, D> present)) {
+                return empty();
+            }
+
+            A mapped1 = null;
+            try {
+                mapped1 = mapper1.apply(present.first());
+                return ofNullable(mapped1, mapper2.apply(present.second()));
+            } catch (Throwable throwable) {
+                return failure(mapped1, throwable);
+            }
+        }
+
+        @Override
+        public <A, E> Result2<A, E> map(
+            CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+            CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+            if (!(value instanceof Optional2.Present<C, D> present)) {
+                return empty();
+            }
+
+            A mapped1 = null;
+            try {
+                mapped1 = mapper1.apply(present.first(), present.second());
+                return ofNullable(mapped1, mapper2.apply(present.first(), present.second()));
+            } catch (Throwable throwable) {
+                return failure(mapped1, throwable);
+            }
+        }
+
+        @Override
+        public Result2<C, D> or(D useIfEmpty) {
+            return value.isPresent() ? this : of(value.or(useIfEmpty));
+        }
+
+        @Override
+        public Result2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+
+            if (value.isPresent()) {
+                return this;
+            }
+
+            try {
+                return of(value.or(supplyIfEmpty));
+            } catch (Throwable throwable) {
+                return failure(firstOrNull(), throwable);
+            }
+        }
+
+        @Override
+        public Result2<C, D> recover(CheckedFunction1<? super Throwable, ? extends D> recovery) {
+            return this;
+        }
+
+        @Override
+        public Result2<C, D> ifFailure(CheckedConsumer<? super Throwable> consumer) {
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> toOptional2() {
+            return value;
+        }
+
+        @Override
+        public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+            return value.reduce(mapper);
+        }
+
+        @Override
+        public Optional<Throwable> getCause() {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return false;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return value.isPresent();
+        }
+
+        @Nullable
+        private C firstOrNull() {
+            return value instanceof Optional2.Present<C, D> present
+                ? present.first()
+                : ((Optional2.Empty<C, D>) value).firstOrNull();
+        }
+
+        @Override
+        public String toString() {
+            return "Result2[%s]".formatted(value);
+        }
+    }
+
+    /**
+     * A {@code Result2} whose chain threw. Steps after the failure are skipped.
+     *
+     * @param first the first value, if it was known when the chain failed
+     */
+    record Failure<C, D>(@Nullable C first, Throwable cause) implements Result2<C, D> {
+
+        public Failure {
+            Objects.requireNonNull(cause);
+        }
+
+        @Override
+        public Result2<C, D> filter(CheckedPredicate2<? super C, ? super D> predicate) {
+            return this;
+        }
+
+        @Override
+        public <A, E> Result2<A, E> map(
+            CheckedFunction1<? super C, ? extends A> mapper1,
+            CheckedFunction1<? super D, ? extends E> mapper2) {
+
+            return new Failure<>(null, cause);
+        }
+
+        @Override
+        public <A, E> Result2<A, E> map(
+            CheckedFunction2<? super C, ? super D, ? extends A> mapper1,
+            CheckedFunction2<? super C, ? super D, ? extends E> mapper2) {
+
+            return new Failure<>(null, cause);
+        }
+
+        @Override
+        public Result2<C, D> or(D useIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Result2<C, D> or(CheckedFunction0<Optional<D>> supplyIfEmpty) {
+            return this;
+        }
+
+        @Override
+        public Result2<C, D> recover(CheckedFunction1<? super Throwable, ? extends D> recovery) {
+
+            if (first == null) {
+                return this;
+            }
+
+            try {
+                return ofNullable(first, recovery.apply(cause));
+            } catch (Throwable throwable) {
+                return failure(first, throwable);
+            }
+        }
+
+        @Override
+        public Result2<C, D> ifFailure(CheckedConsumer<? super Throwable> consumer) {
+            Optional2Utils.accept(consumer, cause);
+            return this;
+        }
+
+        @Override
+        public Optional2<C, D> toOptional2() {
+            return Optional2Utils.throwUnchecked(cause);
+        }
+
+        @Override
+        public <E> Optional<E> reduce(CheckedFunction2<? super C, ? super D, ? extends E> mapper) {
+            return Optional2Utils.throwUnchecked(cause);
+        }
+
+        @Override
+        public Optional<Throwable> getCause() {
+            return Optional.of(cause);
+        }
+
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public boolean isFailure() {
+            return true;
+        }
+
+        @Override
+        public boolean isPresent() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return "Result2.Failure[%s,%s]".formatted(first, cause);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.terheyden.optional2;
+
+/**
+ * Runs one {@link Optional2} chain in a fresh JVM and prints how long it took, in nanoseconds.
+ * <p>
+ * Nothing else has run yet, so the time is the library's cold-start cost: loading its classes
+ * and bootstrapping the chain's lambdas. {@code StartupBenchmark} runs this in fresh JVMs and counts
+ * the classes loaded before {@link Done}; the {@code cds} Maven profile runs it to record
+ * a class data sharing archive:
+ * <pre>
+ * java -XX:SharedArchiveFile=target/optional2.jsa -cp target/optional2-0.0.1-SNAPSHOT.jar \
+ *     com.terheyden.optional2.StartupProbe
+ * </pre>
+ * It's package-private so it stays out of the API; the {@code java} launcher runs it all the same.
+ */
+/* package */ final class StartupProbe {
+
+    private StartupProbe() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    public static void main(String... args) {
+
+        String name = args.length > 0 ? args[0] : "Cora";
+
+        long start = System.nanoTime();
+        int result = firstChain(name);
+        long nanos = System.nanoTime() - start;
+
+        Done.mark();
+        System.out.println(nanos);
+        System.out.println(result);
+    }
+
+    /**
+     * A typical chain: validate an input, look up a second value, and combine them.
+     */
+    private static int firstChain(String name) {
+        return Optional2.ofNullable(name)
+            .filter(nm -> !nm.isEmpty())
+            .andOf(String::length)
+            .or(0)
+            .filter((nm, len) -> len < 100)
+            .map(String::toUpperCase, len -> len * 2)
+            .reduceOrElse((nm, len) -> nm.hashCode() + len, -1);
+    }
+
+    /**
+     * Loaded right after the first chain finishes, so its line in the class loading log marks
+     * the end of the classes the chain needed.
+     */
+    /* package */ static final class Done {
+
+        private Done() {
+        }
+
+        /* package */ static void mark() {
+            // Calling this loads the class; that's all it's for.
+        }
+    }
+}
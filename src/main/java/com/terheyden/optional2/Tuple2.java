@@ -0,0 +1,100 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * An immutable pair of values, as returned by {@link Optional2#get()}.
+ * <p>
+ * Source compatible with vavr's {@code Tuple2}: the values are the public fields {@code _1} and {@code _2},
+ * with matching {@code _1()} and {@code _2()} accessors, the {@code apply}, {@code map}, {@code map1}, {@code map2}
+ * and {@code swap} methods, and it prints as {@code (first, second)}.
+ * Use {@link VavrInterop} to convert to and from vavr's type.
+ */
+public final class Tuple2<T1, T2> {
+
+    public final T1 _1;
+    public final T2 _2;
+
+    public Tuple2(T1 t1, T2 t2) {
+        this._1 = t1;
+        this._2 = t2;
+    }
+
+    public T1 _1() {
+        return _1;
+    }
+
+    public T2 _2() {
+        return _2;
+    }
+
+    /**
+     * Combines both values with the function.
+     */
+    public <U> U apply(BiFunction<? super T1, ? super T2, ? extends U> function) {
+        return function.apply(_1, _2);
+    }
+
+    /**
+     * Maps both values to a new tuple with the function.
+     */
+    public <U1, U2> Tuple2<U1, U2> map(BiFunction<? super T1, ? super T2, Tuple2<U1, U2>> mapper) {
+        return mapper.apply(_1, _2);
+    }
+
+    /**
+     * Maps each value with its own function.
+     */
+    public <U1, U2> Tuple2<U1, U2> map(
+        Function<? super T1, ? extends U1> mapper1,
+        Function<? super T2, ? extends U2> mapper2) {
+
+        return new Tuple2<>(mapper1.apply(_1), mapper2.apply(_2));
+    }
+
+    /**
+     * Maps the first value, keeping the second.
+     */
+    public <U> Tuple2<U, T2> map1(Function<? super T1, ? extends U> mapper) {
+        return new Tuple2<>(mapper.apply(_1), _2);
+    }
+
+    /**
+     * Maps the second value, keeping the first.
+     */
+    public <U> Tuple2<T1, U> map2(Function<? super T2, ? extends U> mapper) {
+        return new Tuple2<>(_1, mapper.apply(_2));
+    }
+
+    /**
+     * Returns a tuple with the values in the other order.
+     */
+    public Tuple2<T2, T1> swap() {
+        return new Tuple2<>(_2, _1);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+
+        if (this == obj) {
+            return true;
+        }
+
+        return obj instanceof Tuple2<?, ?> other
+            && Objects.equals(_1, other._1)
+            && Objects.equals(_2, other._2);
+    }
+
+    @Override
+    public int hashCode() {
+        return Optional2Utils.hash(_1, _2);
+    }
+
+    @Override
+    public String toString() {
+        return "(" + _1 + ", " + _2 + ")";
+    }
+}
@@ -0,0 +1,65 @@
+package com.terheyden.optional2;
+
+import io.vavr.control.Option;
+
+/**
+ * Conversions between this library's types and vavr's.
+ * <p>
+ * The core doesn't depend on vavr; its checked lambdas and tuples are its own, with the same
+ * names and method shapes as vavr's. vavr is an optional dependency: add it yourself to use this class.
+ * Nothing else in the library touches vavr, so it's never loaded unless this class is used.
+ */
+public final class VavrInterop {
+
+    private VavrInterop() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    public static <T1, T2> io.vavr.Tuple2<T1, T2> toVavr(Tuple2<T1, T2> tuple) {
+        return new io.vavr.Tuple2<>(tuple._1(), tuple._2());
+    }
+
+    public static <T1, T2> Tuple2<T1, T2> fromVavr(io.vavr.Tuple2<T1, T2> tuple) {
+        return new Tuple2<>(tuple._1, tuple._2);
+    }
+
+    /**
+     * Returns both values as a vavr {@link Option}, which is empty unless both values are present.
+     */
+    public static <C, D> Option<io.vavr.Tuple2<C, D>> toOption(Optional2<C, D> optional2) {
+        return optional2.isPresent()
+            ? Option.some(new io.vavr.Tuple2<>(optional2.getFirstValue(), optional2.getSecondValue()))
+            : Option.none();
+    }
+
+    /**
+     * Converts a vavr {@link Option} to an {@link Optional1}.
+     */
+    public static <C> Optional1<C> fromOption(Option<C> option) {
+        return Optional2.ofNullable(option.getOrNull());
+    }
+
+    public static <R> CheckedFunction0<R> fromVavrFunction(io.vavr.CheckedFunction0<R> function) {
+        return function::apply;
+    }
+
+    public static <T1, R> CheckedFunction1<T1, R> fromVavrFunction(io.vavr.CheckedFunction1<T1, R> function) {
+        return function::apply;
+    }
+
+    public static <T1, T2, R> CheckedFunction2<T1, T2, R> fromVavrFunction(io.vavr.CheckedFunction2<T1, T2, R> function) {
+        return function::apply;
+    }
+
+    public static <T> CheckedConsumer<T> fromVavrConsumer(io.vavr.CheckedConsumer<T> consumer) {
+        return consumer::accept;
+    }
+
+    public static <T> CheckedPredicate<T> fromVavrPredicate(io.vavr.CheckedPredicate<T> predicate) {
+        return predicate::test;
+    }
+
+    public static CheckedRunnable fromVavrRunnable(io.vavr.CheckedRunnable runnable) {
+        return runnable::run;
+    }
+}
@@ -0,0 +1,32 @@
+package com.terheyden.optional2;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs the blocking lookups passed to {@link Optional1#andOfBlocking(CheckedFunction1)}
+ * and {@link Optional2#allOfBlocking(CheckedFunction0, CheckedFunction0)}.
+ * <p>
+ * This is the Java 21 version, from the multi-release jar: one virtual thread per lookup,
+ * so thousands of concurrent lookups don't need a sized pool.
+ */
+/* package */ final class BlockingExecutor {
+
+    private static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("optional2-blocking-", 1).factory());
+
+    private BlockingExecutor() {
+        // Private constructor since this shouldn't be instantiated.
+    }
+
+    /* package */ static Executor get() {
+        return EXECUTOR;
+    }
+
+    /**
+     * True if lookups run on virtual threads.
+     */
+    /* package */ static boolean isVirtual() {
+        return true;
+    }
+}
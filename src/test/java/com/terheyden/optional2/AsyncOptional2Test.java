@@ -0,0 +1,144 @@
+package com.terheyden.optional2;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AsyncOptional1 and AsyncOptional2 unit tests.
+ */
+public class AsyncOptional2Test {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testChainRunsOnExecutor() {
+
+        Thread caller = Thread.currentThread();
+
+        TestUser user = Optional2
+            .async(() -> "Cora", executor)
+            .mapAsync(name -> {
+                assertNotEquals(caller, Thread.currentThread());
+                return name.trim();
+            })
+            .andOfAsync(TestService::findUserId)
+            .reduceAsync((name, userId) -> TestService.loginUser(userId, name))
+            .toCompletableFuture()
+            .join()
+            .orElseThrow();
+
+        assertEquals("Cora", user.userName());
+    }
+
+    @Test
+    public void testIndependentValuesRunInParallel() throws InterruptedException {
+
+        // Each side waits for the other to start, so this only completes if they run at the same time.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Optional2<String, UUID> result = Optional2
+            .async(() -> {
+                bothStarted.countDown();
+                bothStarted.await();
+                return "Cora";
+            }, executor)
+            .andOfAsync(() -> {
+                bothStarted.countDown();
+                bothStarted.await();
+                return UUID.randomUUID();
+            })
+            .join();
+
+        assertTrue(result.isPresent());
+    }
+
+    @Test
+    public void testEmptyFirstValueCancelsSecond() throws InterruptedException {
+
+        CountDownLatch secondStarted = new CountDownLatch(1);
+        CountDownLatch secondInterrupted = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+
+        Optional2<String, UUID> result = Optional2
+            .async(() -> {
+                secondStarted.await();
+                return TestService.NULL;
+            }, executor)
+            .andOfAsync(() -> {
+                secondStarted.countDown();
+                try {
+                    never.await();
+                } catch (InterruptedException e) {
+                    secondInterrupted.countDown();
+                }
+                return UUID.randomUUID();
+            })
+            .join();
+
+        assertTrue(result.isEmpty());
+        assertTrue(secondInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testOrAsync() {
+
+        assertEquals("Cora", AsyncOptional1
+            .of(CompletableFuture.completedFuture(TestService.NULL), executor)
+            .orAsync(() -> Optional.of("Cora"))
+            .join()
+            .get());
+
+        assertEquals(7, Optional2
+            .async(() -> "Cora", executor)
+            .andOfAsync(name -> (Integer) null)
+            .orAsync(() -> Optional.of(7))
+            .filter((name, num) -> num > 0)
+            .join()
+            .getSecondValue());
+    }
+
+    @Test
+    public void testMapAsync() {
+
+        Optional2<Integer, String> result = Optional2
+            .async(() -> "Cora", executor)
+            .andOfAsync(() -> 4)
+            .mapAsync(String::length, num -> "#" + num)
+            .join();
+
+        assertEquals("Optional2[4,#4]", result.toString());
+
+        assertTrue(Optional2
+            .async(() -> "Cora", executor)
+            .andOfAsync(() -> 4)
+            .mapAsync(name -> null, num -> "#" + num)
+            .join()
+            .isEmpty());
+    }
+
+    @Test
+    public void testCheckedExceptionsPassThrough() {
+        assertThrows(IllegalStateException.class, () -> Optional2
+            .async(() -> "Cora", executor)
+            .andOfAsync(TestService::throwUserId)
+            .join());
+    }
+}
@@ -0,0 +1,116 @@
+package com.terheyden.optional2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * BiStream unit tests.
+ */
+public class BiStreamTest {
+
+    @Test
+    public void testZip() {
+
+        List<String> names = Arrays.asList("Cora", null, "Mika", "Bob");
+        List<UUID> userIds = Stream.generate(UUID::randomUUID).limit(3).toList();
+
+        List<String> loggedIn = BiStream
+            .zip(names.stream(), userIds.stream())
+            .reduce((name, userId) -> TestService.loginUser(userId, name))
+            .map(TestUser::userName)
+            .toList();
+
+        assertEquals(List.of("Cora", "Mika"), loggedIn);
+    }
+
+    @Test
+    public void testFilterAndMap() {
+
+        Map<String, Integer> ages = new LinkedHashMap<>();
+        ages.put("Cora", 30);
+        ages.put("Mika", 12);
+        ages.put("Bob", null);
+        ages.put("Nell", 45);
+
+        Map<String, String> adults = BiStream
+            .fromMap(ages)
+            .filter((name, age) -> age >= 18)
+            .mapFirst((name, age) -> name.toUpperCase())
+            .mapSecond((name, age) -> name + " is " + age)
+            .toMap();
+
+        assertEquals(Map.of("CORA", "CORA is 30", "NELL", "NELL is 45"), adults);
+
+        assertEquals(List.of("Cora"), BiStream
+            .fromMap(ages)
+            .mapSecond((name, age) -> age > 40 ? null : age)
+            .flatMap((name, age) -> age > 20 ? Optional.of(name) : Optional.empty())
+            .toList());
+    }
+
+    @Test
+    public void testOptionalBridges() {
+
+        assertEquals(1, Optional2.of("Cora", 4).stream().count());
+        assertEquals(0, Optional2.ofNullable("Cora", null).stream().count());
+        assertEquals(List.of("Cora"), Optional2.ofNullable("Cora").stream().toList());
+
+        List<Optional2<String, Integer>> opts = List.of(
+            Optional2.of("Cora", 4),
+            Optional2.empty(),
+            Optional2.of("Mika", 4));
+
+        List<String> pairs = new ArrayList<>();
+        BiStream.flatten(opts.stream()).forEach((name, len) -> pairs.add(name + len));
+        assertEquals(List.of("Cora4", "Mika4"), pairs);
+
+        assertEquals(List.of("Cora", "Mika"), Optional1
+            .flatten(Stream.of(Optional2.ofNullable("Cora"), Optional1.<String>empty(), Optional2.ofNullable("Mika")))
+            .toList());
+    }
+
+    @Test
+    public void testParallel() {
+
+        int size = 100_000;
+        Stream<Integer> firsts = IntStream.range(0, size).boxed();
+        Stream<Integer> seconds = IntStream.range(0, size).boxed();
+
+        BiStream<Integer, Integer> evens = BiStream
+            .zip(firsts, seconds)
+            .parallel()
+            .filter((num1, num2) -> num1 % 2 == 0);
+
+        assertTrue(evens.isParallel());
+        assertEquals(size / 2L * (size - 2) / 2 * 2, evens.reduce(Integer::sum).mapToLong(Integer::longValue).sum());
+
+        LongAdder count = new LongAdder();
+        BiStream.zip(IntStream.range(0, size).boxed(), IntStream.range(0, size).boxed())
+            .parallel()
+            .forEach((num1, num2) -> count.increment());
+
+        assertEquals(size, count.sum());
+    }
+
+    @Test
+    public void testCheckedExceptionsPassThrough() {
+        assertThrows(IllegalStateException.class, () -> BiStream
+            .of("Cora", 4)
+            .mapSecond((name, len) -> TestService.throwUserId(name))
+            .count());
+    }
+}
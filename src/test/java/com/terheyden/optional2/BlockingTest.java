@@ -0,0 +1,93 @@
+package com.terheyden.optional2;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * andOfBlocking and allOfBlocking unit tests.
+ */
+public class BlockingTest {
+
+    @Test
+    public void testAndOfBlocking() {
+
+        TestUser user = Optional2
+            .ofNullable("Cora")
+            .andOfBlocking(TestService::findUserId)
+            .reduceAsync((name, userId) -> TestService.loginUser(userId, name))
+            .toCompletableFuture()
+            .join()
+            .orElseThrow();
+
+        assertEquals("Cora", user.userName());
+
+        assertTrue(Optional2
+            .ofNullable(TestService.NULL)
+            .andOfBlocking(TestService::findUserId)
+            .join()
+            .isEmpty());
+    }
+
+    @Test
+    public void testAllOfBlockingRunsInParallel() {
+
+        // Each side waits for the other to start, so this only completes if they run at the same time.
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        Optional2<String, UUID> result = Optional2.allOfBlocking(
+            () -> {
+                bothStarted.countDown();
+                bothStarted.await();
+                return "Cora";
+            },
+            () -> {
+                bothStarted.countDown();
+                bothStarted.await();
+                return UUID.randomUUID();
+            });
+
+        assertTrue(result.isPresent());
+    }
+
+    @Test
+    public void testAllOfBlockingCancelsOnEmpty() throws InterruptedException {
+
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch firstInterrupted = new CountDownLatch(1);
+        CountDownLatch never = new CountDownLatch(1);
+
+        Optional2<String, UUID> result = Optional2.allOfBlocking(
+            () -> {
+                firstStarted.countDown();
+                try {
+                    never.await();
+                } catch (InterruptedException e) {
+                    firstInterrupted.countDown();
+                }
+                return "Cora";
+            },
+            () -> {
+                // Otherwise the first supplier may be cancelled before it ever runs.
+                firstStarted.await();
+                return null;
+            });
+
+        assertFalse(result.isPresent());
+        assertTrue(firstInterrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testAllOfBlockingRethrows() {
+        assertThrows(IllegalStateException.class, () -> Optional2.allOfBlocking(
+            () -> "Cora",
+            () -> TestService.throwUserId("Cora")));
+    }
+}
@@ -0,0 +1,234 @@
+package com.terheyden.optional2;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Deadline and the andOf / or variants that take one, unit tests.
+ */
+public class DeadlineTest {
+
+    private static final UUID GUEST_USER_ID = new UUID(0L, 0L);
+
+    private static UUID slowUserId(String userName) throws InterruptedException {
+        Thread.sleep(10_000);
+        return UUID.randomUUID();
+    }
+
+    @Test
+    public void testAndOfInTime() {
+
+        TestUser user = Optional2
+            .ofNullable("Cora")
+            .andOf(TestService::findUserId, Duration.ofSeconds(10))
+            .reduce((name, userId) -> TestService.loginUser(userId, name))
+            .orElseThrow();
+
+        assertEquals("Cora", user.userName());
+        assertTrue(Optional2
+            .ofNullable(TestService.NULL)
+            .andOf(TestService::findUserId, Duration.ofSeconds(10))
+            .isEmpty());
+    }
+
+    @Test
+    public void testAndOfTimesOutEmpty() {
+
+        long start = System.nanoTime();
+
+        Optional2<String, UUID> result = Optional2
+            .ofNullable("Cora")
+            .andOf(DeadlineTest::slowUserId, Duration.ofMillis(50));
+
+        assertTrue(result.isEmpty());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+        // The first value survives, so a fallback can fill in the second.
+        assertEquals(GUEST_USER_ID, result.or(GUEST_USER_ID).getSecondValue());
+        assertEquals(GUEST_USER_ID, result.or(() -> Optional.of(GUEST_USER_ID)).getSecondValue());
+    }
+
+    @Test
+    public void testAndOfTimesOutThrowing() {
+
+        Deadline deadline = Deadline.after(50, TimeUnit.MILLISECONDS).orThrow();
+
+        assertThrows(TimeoutException.class, () -> Optional2
+            .ofNullable("Cora")
+            .andOf(DeadlineTest::slowUserId, deadline));
+    }
+
+    @Test
+    public void testTimeoutInterruptsMapper() throws InterruptedException {
+
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        Optional2.ofNullable("Cora").andOf(name -> {
+            try {
+                return slowUserId(name);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }, Duration.ofMillis(50));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExpiredDeadlineSkipsMapper() {
+
+        Deadline expired = Deadline.after(Duration.ZERO);
+        assertTrue(expired.isExpired());
+
+        Optional2<String, UUID> result = Optional2
+            .ofNullable("Cora")
+            .andOf(name -> {
+                throw new IllegalStateException("shouldn't run");
+            }, expired);
+
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void testMapperExceptionsAreRethrown() {
+        assertThrows(IllegalStateException.class, () -> Optional2
+            .ofNullable("Cora")
+            .andOf(TestService::throwUserId, Duration.ofSeconds(10)));
+    }
+
+    @Test
+    public void testNestedLookupsShareTheBudget() {
+
+        AtomicLong nestedRemaining = new AtomicLong();
+
+        Optional2.ofNullable("Cora").andOf(name -> {
+
+            // The nested lookup asks for a minute, but only has what's left of the outer 5 seconds.
+            return Optional2.ofNullable(name).andOf(nestedName -> {
+                nestedRemaining.set(Deadline.current().remainingNanos());
+                return nestedName.length();
+            }, Duration.ofMinutes(1)).getSecondValue();
+
+        }, Duration.ofSeconds(5));
+
+        assertTrue(nestedRemaining.get() > 0);
+        assertTrue(nestedRemaining.get() <= TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testNestedLookupTimesOutWithOuterDeadline() {
+
+        long start = System.nanoTime();
+
+        Optional2<String, UUID> result = Deadline.after(Duration.ofMillis(50)).call(() -> Optional2
+            .ofNullable("Cora")
+            .andOf(DeadlineTest::slowUserId, Duration.ofMinutes(1)));
+
+        assertTrue(result.isEmpty());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testNestedShorterDeadlineStillTimesOut() {
+
+        long start = System.nanoTime();
+
+        Optional2<String, UUID> result = Optional2.ofNullable("Cora").andOf(name -> Optional2
+            .ofNullable(name)
+            .andOf(DeadlineTest::slowUserId, Duration.ofMillis(50))
+            .or(GUEST_USER_ID)
+            .getSecondValue(), Duration.ofSeconds(10));
+
+        assertEquals(GUEST_USER_ID, result.getSecondValue());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void testNestedLookupsUnderSaturation() throws Exception {
+
+        // More concurrent lookups than the Java 17 blocking pool has threads (256), each with a nested lookup.
+        // Lookups run on their callers' threads, so none of them should wait on a pool, or time out.
+        int callers = 300;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+
+        try {
+            List<Future<Optional2<String, Integer>>> results = new ArrayList<>();
+
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> Optional2.ofNullable("Cora").andOf(name -> {
+
+                    // Give every caller time to take a worker first.
+                    Thread.sleep(200);
+
+                    return Optional2
+                        .ofNullable(name)
+                        .andOf(String::length, Duration.ofMinutes(1))
+                        .getSecondValue();
+
+                }, Duration.ofSeconds(3))));
+            }
+
+            for (Future<Optional2<String, Integer>> result : results) {
+                assertEquals(4, result.get().getSecondValue());
+            }
+
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCurrent() {
+
+        assertSame(Deadline.none(), Deadline.current());
+        assertFalse(Deadline.none().isExpired());
+
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        assertSame(deadline, deadline.call(Deadline::current));
+        assertSame(Deadline.none(), Deadline.current());
+    }
+
+    @Test
+    public void testOr() {
+
+        assertEquals("Cora", Optional2
+            .ofNullable(TestService.NULL)
+            .or(() -> Optional.of("Cora"), Duration.ofSeconds(10))
+            .get());
+
+        assertTrue(Optional2
+            .ofNullable(TestService.NULL)
+            .or(() -> Optional.of(slowUserId("Cora").toString()), Duration.ofMillis(50))
+            .isEmpty());
+
+        assertEquals(GUEST_USER_ID, Optional2
+            .ofNullable("Cora")
+            .andOf(DeadlineTest::slowUserId, Duration.ofMillis(50))
+            .or(() -> Optional.of(GUEST_USER_ID), Duration.ofSeconds(10))
+            .getSecondValue());
+
+        assertThrows(TimeoutException.class, () -> Optional2
+            .ofNullable("Cora")
+            .andOfNullable((UUID) null)
+            .or(() -> Optional.of(slowUserId("Cora")), Deadline.after(Duration.ofMillis(50)).orThrow()));
+    }
+}
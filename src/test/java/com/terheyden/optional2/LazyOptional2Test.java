@@ -0,0 +1,99 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LazyOptional1 and LazyOptional2 unit tests.
+ */
+public class LazyOptional2Test {
+
+    @Nullable
+    private static final String NULL_STR = null;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private UUID countedFindUserId(String name) {
+        lookups.incrementAndGet();
+        return TestService.findUserId(name);
+    }
+
+    @Test
+    public void testNothingRunsUntilTerminal() {
+
+        LazyOptional2<String, UUID> lazy = Optional2
+            .lazy(() -> "Cora")
+            .andOf(this::countedFindUserId)
+            .filter((name, userId) -> true);
+
+        assertEquals(0, lookups.get());
+
+        TestUser user = lazy
+            .reduce((name, userId) -> TestService.loginUser(userId, name))
+            .orElseThrow();
+
+        assertEquals("Cora", user.userName());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testFilterFirstShortCircuits() {
+
+        Optional2<String, UUID> result = Optional2
+            .lazy("Cora")
+            .andOf(this::countedFindUserId)
+            .or(() -> Optional.of(UUID.randomUUID()))
+            .filterFirst(name -> name.startsWith("X"))
+            .evaluate();
+
+        assertTrue(result.isEmpty());
+        assertEquals(0, lookups.get());
+
+        assertTrue(Optional2
+            .lazy("Cora")
+            .andOf(this::countedFindUserId)
+            .filterFirst(name -> name.startsWith("C"))
+            .isPresent());
+
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testEmptyFirstValue() {
+
+        assertFalse(Optional2
+            .lazy(NULL_STR)
+            .andOf(this::countedFindUserId)
+            .isPresent());
+
+        assertEquals("Cora", Optional2
+            .lazy(NULL_STR)
+            .or("Cora")
+            .map(String::trim)
+            .get());
+
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    public void testMapThenFilterFirst() {
+
+        int len = Optional2
+            .lazy("Cora")
+            .andOf(this::countedFindUserId)
+            .map(String::length, UUID::toString)
+            .filterFirst(nameLen -> nameLen == 4)
+            .reduceOrElse((nameLen, userId) -> nameLen + userId.length(), -1);
+
+        assertEquals(40, len);
+        assertEquals(1, lookups.get());
+    }
+}
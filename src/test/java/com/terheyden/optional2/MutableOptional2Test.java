@@ -0,0 +1,89 @@
+package com.terheyden.optional2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MutableOptional1 and MutableOptional2 unit tests.
+ */
+public class MutableOptional2Test {
+
+    @Test
+    public void testCursorIsReused() {
+
+        MutableOptional1<String> cursor = MutableOptional1.create();
+        List<Optional2<String, Integer>> kept = new ArrayList<>();
+
+        for (String name : new String[] { "Cora", "", null, "Mika" }) {
+            MutableOptional2<String, Integer> pair = cursor.reset(name)
+                .filter(nm -> !nm.isEmpty())
+                .andOf(String::length);
+
+            assertSame(pair, cursor.andOf(String::length));
+            pair.ifPresent((nm, len) -> kept.add(Optional2.of(nm, len)));
+        }
+
+        assertEquals(List.of(Optional2.of("Cora", 4), Optional2.of("Mika", 4)), kept);
+    }
+
+    @Test
+    public void testMutableOptional1() {
+
+        MutableOptional1<String> cursor = MutableOptional1.create();
+
+        assertEquals(4, cursor.reset("Cora").map(String::length).get());
+        assertEquals("Mika", cursor.reset(TestService.NULL).or("Mika").get());
+        assertEquals("Mika", cursor.reset(TestService.NULL).or(() -> Optional.of("Mika")).orElseNull());
+        assertEquals("Cora", cursor.reset("Cora").flatMap(Optional::of).snapshot().get());
+        assertTrue(cursor.reset("Cora").filter(String::isEmpty).isEmpty());
+        assertEquals("Zed", cursor.reset(TestService.NULL).orElse("Zed"));
+        assertThrows(NoSuchElementException.class, () -> cursor.reset(TestService.NULL).get());
+        assertSame(Optional1.empty(), cursor.reset(TestService.NULL).map(String::length).snapshot());
+    }
+
+    @Test
+    public void testMutableOptional2() {
+
+        MutableOptional2<String, UUID> cursor = MutableOptional2.create();
+        UUID userId = UUID.randomUUID();
+
+        TestUser user = cursor.reset("Cora", userId)
+            .filter((name, id) -> !name.isEmpty())
+            .reduceOrNull((name, id) -> TestService.loginUser(id, name));
+        assertEquals(new TestUser(userId, "Cora"), user);
+
+        // Partially empty keeps its first value for or().
+        assertEquals(userId, cursor.reset("Cora", null).or(userId).getSecondValue());
+        assertEquals(userId, cursor.reset("Cora", null).or(() -> Optional.of(userId)).getSecondValue());
+        assertTrue(cursor.reset(null, null).or(userId).isEmpty());
+
+        assertEquals(Optional2.of(4, userId.toString()), cursor.reset("Cora", userId).map(String::length, UUID::toString).snapshot());
+        assertEquals(Optional2.of("Cora!", 4), cursor.reset("Cora", userId).map((nm, id) -> nm + "!", (nm, id) -> nm.length()).snapshot());
+        assertNull(cursor.reset("Cora", null).reduceOrNull((name, id) -> name));
+        assertEquals("Zed", cursor.reset("Cora", null).reduceOrElse((name, id) -> name, "Zed"));
+        assertFalse(cursor.reset("Cora", userId).filter((name, id) -> false).isPresent());
+        assertThrows(NoSuchElementException.class, () -> cursor.reset(null, userId).getFirstValue());
+    }
+
+    @Test
+    public void testSnapshotIsIndependent() {
+
+        MutableOptional2<String, Integer> cursor = MutableOptional2.create();
+        Optional2<String, Integer> snapshot = cursor.reset("Cora", 4).snapshot();
+
+        cursor.reset("Mika", 5);
+        assertEquals(Optional2.of("Cora", 4), snapshot);
+    }
+}
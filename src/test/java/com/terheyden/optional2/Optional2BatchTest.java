@@ -0,0 +1,92 @@
+package com.terheyden.optional2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Batch unit tests.
+ */
+public class Optional2BatchTest {
+
+    private static List<Optional2<String, Integer>> pairs() {
+        return List.of(
+            Optional2.of("Cora", 30),
+            Optional2.ofNullable("Mika", null),
+            Optional2.empty(),
+            Optional2.of("Bob", 12),
+            Optional2.of("Nell", 45));
+    }
+
+    @Test
+    public void testUnzipZip() {
+
+        Optional2Batch<String, Integer> batch = Optional2Batch.unzip(pairs());
+
+        assertEquals(5, batch.size());
+        assertEquals(3, batch.presentCount());
+        assertTrue(batch.isPresent(0));
+        assertFalse(batch.isPresent(1));
+        assertEquals("Optional2[Mika,null]", batch.get(1).toString());
+        assertEquals(pairs().toString(), batch.zip().toString());
+    }
+
+    @Test
+    public void testMatchesOptional2() {
+
+        Optional2Batch<Integer, String> batch = Optional2Batch
+            .unzip(pairs())
+            .or(18)
+            .filter((name, age) -> age >= 18)
+            .map(String::length, age -> age > 40 ? null : "age " + age);
+
+        List<String> expected = new ArrayList<>();
+
+        for (Optional2<String, Integer> opt : pairs()) {
+            expected.add(opt
+                .or(18)
+                .filter((name, age) -> age >= 18)
+                .map(String::length, age -> age > 40 ? null : "age " + age)
+                .toString());
+        }
+
+        assertEquals(expected, batch.zip().stream().map(Object::toString).toList());
+        assertEquals(List.of("4: age 30", "4: age 18"), batch.reduce((len, age) -> len + ": " + age));
+    }
+
+    @Test
+    public void testOrSupplierAndIfPresent() {
+
+        Optional2Batch<String, Integer> batch = Optional2Batch
+            .of(new String[] { "Cora", null, "Mika" }, new Integer[] { null, 1, null })
+            .or(() -> Optional.of(7));
+
+        List<String> seen = new ArrayList<>();
+        batch.ifPresent((name, num) -> seen.add(name + num));
+
+        assertEquals(List.of("Cora7", "Mika7"), seen);
+        assertFalse(batch.isPresent(1));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+
+        Optional2Batch<String, Integer> batch = Optional2Batch.unzip(pairs());
+        Optional2Batch<String, Integer> copy = batch.copy().filter((name, age) -> false);
+
+        assertEquals(0, copy.presentCount());
+        assertEquals(3, batch.presentCount());
+    }
+
+    @Test
+    public void testColumnsMustMatch() {
+        assertThrows(IllegalArgumentException.class, () -> Optional2Batch.of(new String[1], new Integer[2]));
+    }
+}
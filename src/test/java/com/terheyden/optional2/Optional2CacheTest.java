@@ -0,0 +1,158 @@
+package com.terheyden.optional2;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Cache unit tests.
+ */
+public class Optional2CacheTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    private UUID countedFindUserId(String name) {
+        lookups.incrementAndGet();
+        return TestService.findUserId(name);
+    }
+
+    @Test
+    public void testAndOfCachedSkipsMapper() {
+
+        Optional2Cache<String, UUID> cache = Optional2Cache.<String, UUID>builder().build();
+
+        UUID first = Optional2.ofNullable("Cora").andOfCached(cache, this::countedFindUserId).getSecondValue();
+        UUID second = Optional2.ofNullable("Cora").andOfCached(cache, this::countedFindUserId).getSecondValue();
+
+        assertEquals(first, second);
+        assertEquals(1, lookups.get());
+        assertTrue(Optional2.ofNullable(TestService.NULL).andOfCached(cache, this::countedFindUserId).isEmpty());
+        assertEquals(new Optional2Cache.Stats(1, 1, 0, 0), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    public void testLruEviction() {
+
+        Optional2Cache<String, UUID> cache = Optional2Cache.<String, UUID>builder()
+            .maximumSize(1)
+            .build();
+
+        cache.get("Cora", this::countedFindUserId);
+        cache.get("Mika", this::countedFindUserId);
+
+        assertFalse(cache.getIfPresent("Cora").isPresent());
+        assertTrue(cache.getIfPresent("Mika").isPresent());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void testTinyLfuKeepsPopularKeys() {
+
+        Optional2Cache<String, UUID> lru = Optional2Cache.<String, UUID>builder()
+            .maximumSize(1600)
+            .build();
+
+        Optional2Cache<String, UUID> tinyLfu = Optional2Cache.<String, UUID>builder()
+            .maximumSize(1600)
+            .eviction(Optional2Cache.Eviction.TINY_LFU)
+            .build();
+
+        for (Optional2Cache<String, UUID> cache : List.of(lru, tinyLfu)) {
+
+            for (int i = 0; i < 100; i++) {
+                cache.get("Cora", this::countedFindUserId);
+            }
+
+            // A scan of one-off keys.
+            for (int i = 0; i < 5000; i++) {
+                cache.get("Guest" + i, this::countedFindUserId);
+            }
+        }
+
+        assertFalse(lru.getIfPresent("Cora").isPresent());
+        assertTrue(tinyLfu.getIfPresent("Cora").isPresent());
+        assertTrue(tinyLfu.size() <= 1600);
+    }
+
+    @Test
+    public void testExpiry() {
+
+        AtomicLong now = new AtomicLong();
+
+        Optional2Cache<String, UUID> cache = Optional2Cache.<String, UUID>builder()
+            .expireAfterWrite(Duration.ofNanos(10))
+            .ticker(now::get)
+            .build();
+
+        cache.get("Cora", this::countedFindUserId);
+        now.set(9);
+        cache.get("Cora", this::countedFindUserId);
+        assertEquals(1, lookups.get());
+
+        now.set(10);
+        cache.get("Cora", this::countedFindUserId);
+        assertEquals(2, lookups.get());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    public void testNegativeCaching() {
+
+        AtomicLong now = new AtomicLong();
+
+        Optional2Cache<String, UUID> plain = Optional2Cache.<String, UUID>builder().build();
+        Optional2Cache<String, UUID> negative = Optional2Cache.<String, UUID>builder()
+            .cacheEmpty(Duration.ofNanos(5))
+            .ticker(now::get)
+            .build();
+
+        for (int i = 0; i < 2; i++) {
+            assertNull(plain.get("Cora", name -> {
+                lookups.incrementAndGet();
+                return null;
+            }));
+        }
+
+        assertEquals(2, lookups.get());
+
+        for (int i = 0; i < 2; i++) {
+            assertNull(negative.get("Cora", name -> {
+                lookups.incrementAndGet();
+                return null;
+            }));
+        }
+
+        assertEquals(3, lookups.get());
+        assertFalse(negative.getIfPresent("Cora").isPresent());
+
+        now.set(5);
+        negative.get("Cora", this::countedFindUserId);
+        assertEquals(4, lookups.get());
+        assertTrue(negative.getIfPresent("Cora").isPresent());
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        Optional2Cache<String, UUID> cache = Optional2Cache.<String, UUID>builder().build();
+
+        cache.get("Cora", this::countedFindUserId);
+        cache.get("Mika", this::countedFindUserId);
+        cache.invalidate("Cora");
+        assertEquals(1, cache.size());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+}
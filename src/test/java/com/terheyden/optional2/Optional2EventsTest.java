@@ -0,0 +1,104 @@
+package com.terheyden.optional2;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Events unit tests. Other test classes run in parallel and may emit events too,
+ * so events are only recorded and checked for this test's thread.
+ */
+public class Optional2EventsTest {
+
+    private static List<RecordedEvent> record(Duration threshold, Runnable chains) throws IOException {
+
+        Path file = Files.createTempFile("optional2-events", ".jfr");
+        try (Recording recording = new Recording()) {
+
+            recording.enable("com.terheyden.optional2.Mapper").withThreshold(threshold);
+            recording.enable("com.terheyden.optional2.EmptyThrow");
+            recording.start();
+            chains.run();
+            recording.stop();
+            recording.dump(file);
+
+            String thread = Thread.currentThread().getName();
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getThread() != null && thread.equals(event.getThread().getJavaName()))
+                .toList();
+
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String type) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(type))
+            .toList();
+    }
+
+    @Test
+    public void testMapperEvents() throws IOException {
+
+        List<RecordedEvent> events = ofType(record(Duration.ZERO, () -> Optional2
+            .ofNullable("Cora")
+            .andOf(TestService::findUserId)
+            .map(String::length, UUID::toString)
+            .or(Optional::empty)
+            .reduce((len, id) -> null)), "com.terheyden.optional2.Mapper");
+
+        List<String> operations = events.stream().map(event -> event.getString("operation")).toList();
+        assertEquals(List.of("Optional1.andOf", "Optional2.map", "Optional2.map", "Optional2.reduce"), operations);
+        assertFalse(events.get(0).getBoolean("empty"));
+        assertTrue(events.get(3).getBoolean("empty"));
+        assertTrue(events.get(0).getStackTrace().getFrames().size() > 0);
+    }
+
+    @Test
+    public void testThresholdSkipsFastMappers() throws IOException {
+
+        List<RecordedEvent> events = ofType(record(Duration.ofMillis(50), () -> Optional2
+            .ofNullable("Cora")
+            .map(String::length)
+            .map(len -> {
+                Thread.sleep(60);
+                return len;
+            })), "com.terheyden.optional2.Mapper");
+
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getDuration().toMillis() >= 50);
+    }
+
+    @Test
+    public void testEmptyThrowEvents() throws IOException {
+
+        List<RecordedEvent> events = ofType(record(Duration.ZERO, () -> {
+            assertThrows(NoSuchElementException.class, () -> Optional2.ofNullable(TestService.NULL).orElseThrow());
+            assertThrows(NoSuchElementException.class, () -> Optional2.of("Cora").andOf(name -> null).throwIfEmpty());
+            assertThrows(NoSuchElementException.class, () -> Optional2.ofNullable(TestService.NULL).orElseThrowStackless());
+        }), "com.terheyden.optional2.EmptyThrow");
+
+        assertEquals(3, events.size());
+        assertEquals("Optional1.orElseThrow", events.get(0).getString("operation"));
+        assertTrue(events.get(0).getBoolean("firstEmpty"));
+        assertEquals("Optional2.throwIfEmpty", events.get(1).getString("operation"));
+        assertFalse(events.get(1).getBoolean("firstEmpty"));
+        assertEquals("Optional1.orElseThrowStackless", events.get(2).getString("operation"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.terheyden.optional2;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2.interned() unit tests.
+ */
+public class Optional2InternerTest {
+
+    private enum Region {
+        US {
+            @Override
+            public String toString() {
+                return "us";
+            }
+        },
+        EU
+    }
+
+    @Test
+    public void testEnumAndBooleanDomains() {
+
+        assertSame(Optional2.interned(DayOfWeek.MONDAY), Optional2.interned(DayOfWeek.MONDAY));
+        assertSame(Optional2.interned(Boolean.TRUE), Optional2.interned(true));
+        assertSame(Optional2.interned(Region.US, false), Optional2.interned(Region.US, false));
+        assertSame(Optional2.interned(Region.US, Month.MAY), Optional2.interned(Region.US, Month.MAY));
+        assertEquals(Optional2.of(Region.EU, Month.MAY), Optional2.interned(Region.EU, Month.MAY));
+        assertEquals(Optional2.of(Region.US, true), Optional2.interned(Region.US, true));
+
+        // Different enum classes with the same ordinals don't mix.
+        assertEquals(Optional2.of(DayOfWeek.TUESDAY, Month.FEBRUARY), Optional2.interned(DayOfWeek.TUESDAY, Month.FEBRUARY));
+        assertEquals(Optional2.of(Month.FEBRUARY, DayOfWeek.TUESDAY), Optional2.interned(Month.FEBRUARY, DayOfWeek.TUESDAY));
+    }
+
+    @Test
+    public void testLargeGridFallsBackToTable() {
+
+        // Over 150 x 150 scripts, too many pairs to build up front.
+        Character.UnicodeScript latin = Character.UnicodeScript.LATIN;
+        Character.UnicodeScript greek = Character.UnicodeScript.GREEK;
+
+        assertSame(Optional2.interned(latin, greek), Optional2.interned(latin, greek));
+        assertEquals(Optional2.of(latin, greek), Optional2.interned(latin, greek));
+        assertSame(Optional2.interned("tenant-1", TimeUnit.SECONDS), Optional2.interned("tenant-1", TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testTable() {
+
+        String tenant = new String("tenant-1");
+        Optional2<String, String> first = Optional2.interned(tenant, "us-east");
+
+        assertSame(first, Optional2.interned("tenant-1", "us-east"));
+        assertSame(Optional2.interned("Cora"), Optional2.interned("Cora"));
+        assertSame(Optional2.interned(42), Optional2.interned(42));
+    }
+
+    @Test
+    public void testEmpty() {
+
+        assertSame(Optional1.empty(), Optional2.interned(TestService.NULL));
+        assertSame(Optional2.empty(), Optional2.interned(TestService.NULL, TestService.NULL));
+        assertTrue(Optional2.interned("Cora", TestService.NULL).isEmpty());
+        assertEquals("Cora", Optional2.interned("Cora", TestService.NULL).getFirstValue());
+    }
+}
@@ -0,0 +1,124 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Metrics unit tests. Surefire runs this class on its own, with {@code -Doptional2.metrics=true};
+ * the other test classes run with metrics off, covering the disabled path.
+ * Other test classes run in parallel, so each test uses its own chain names,
+ * and the global throw counters are only checked for growth.
+ */
+public class Optional2MetricsTest {
+
+    /**
+     * Only Cora has an account.
+     */
+    @Nullable
+    private static UUID findUserId(String name) {
+        return name.equals("Cora") ? TestService.findUserId(name) : null;
+    }
+
+    private static Optional<TestUser> login(Optional2Metrics.Chain chain, String name) {
+        return chain.run(() -> Optional2
+            .ofNullable(name)
+            .andOf(chain.step("findUserId", Optional2MetricsTest::findUserId))
+            .reduce(chain.step("loginUser", (String user, UUID userId) -> TestService.loginUser(userId, user))));
+    }
+
+    @Test
+    public void testStepsAndOutcomes() {
+
+        assertTrue(Optional2Metrics.ENABLED);
+        Optional2Metrics.Chain chain = Optional2Metrics.chain("testStepsAndOutcomes");
+
+        assertTrue(login(chain, "Cora").isPresent());
+        assertTrue(login(chain, TestService.NULL).isEmpty());
+        assertTrue(login(chain, "Mika").isEmpty());
+
+        Optional2Metrics.ChainSnapshot snapshot = Optional2Metrics.snapshot().chains().get("testStepsAndOutcomes");
+        Optional2Metrics.StepSnapshot findUserId = snapshot.steps().get("findUserId");
+
+        assertEquals(3, snapshot.runs());
+        assertEquals(3, snapshot.latency().count());
+        assertEquals(1, snapshot.present());
+        assertEquals(2, snapshot.firstEmpty());
+        assertEquals(2, findUserId.invocations());
+        assertEquals(1, findUserId.empties());
+        assertEquals(1, snapshot.steps().get("loginUser").invocations());
+    }
+
+    @Test
+    public void testSecondEmptyAndFailures() {
+
+        Optional2Metrics.Chain chain = Optional2Metrics.chain("testSecondEmptyAndFailures");
+
+        chain.run(() -> Optional2.of("Cora").andOf(chain.step("nothing", name -> null)));
+        assertThrows(IllegalStateException.class, () -> chain.run(() -> Optional2
+            .of("Cora")
+            .map(chain.step("fails", name -> {
+                throw new IllegalStateException(name);
+            }))));
+
+        Optional2Metrics.ChainSnapshot snapshot = Optional2Metrics.snapshot().chains().get("testSecondEmptyAndFailures");
+        assertEquals(1, snapshot.secondEmpty());
+        assertEquals(1, snapshot.failures());
+        assertEquals(1, snapshot.steps().get("nothing").empties());
+        assertEquals(1, snapshot.steps().get("fails").failures());
+    }
+
+    @Test
+    public void testCheckedFailures() {
+
+        Optional2Metrics.Chain chain = Optional2Metrics.chain("testCheckedFailures");
+
+        assertThrows(IOException.class, () -> chain.run(() -> Optional2
+            .of("Cora")
+            .map(chain.step("reads", name -> {
+                throw new IOException(name);
+            }))));
+
+        Optional2Metrics.ChainSnapshot snapshot = Optional2Metrics.snapshot().chains().get("testCheckedFailures");
+        assertEquals(1, snapshot.runs());
+        assertEquals(1, snapshot.failures());
+        assertEquals(1, snapshot.steps().get("reads").failures());
+    }
+
+    @Test
+    public void testEmptyThrows() {
+
+        Optional2Metrics.Snapshot before = Optional2Metrics.snapshot();
+
+        assertThrows(NoSuchElementException.class, () -> Optional2.of("Cora").andOf(name -> null).orElseThrow());
+        assertThrows(NoSuchElementException.class, () -> Optional2.ofNullable(TestService.NULL).throwIfEmpty());
+
+        Optional2Metrics.Snapshot after = Optional2Metrics.snapshot();
+        assertTrue(after.firstEmptyThrows() > before.firstEmptyThrows());
+        assertTrue(after.secondEmptyThrows() > before.secondEmptyThrows());
+    }
+
+    @Test
+    public void testHistogram() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        Optional2Metrics.Histogram snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(1000, snapshot.maxNanos());
+        assertEquals(500.5, snapshot.meanNanos());
+        assertEquals(511, snapshot.percentileNanos(50));
+        assertEquals(1000, snapshot.percentileNanos(99));
+    }
+}
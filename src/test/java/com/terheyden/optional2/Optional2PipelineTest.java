@@ -0,0 +1,125 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Pipeline unit tests.
+ */
+public class Optional2PipelineTest {
+
+    @Nullable
+    private static final String NULL_STR = null;
+
+    @Test
+    public void testReusedAcrossInputs() {
+
+        AtomicInteger lookups = new AtomicInteger();
+
+        Optional2Pipeline<String, TestUser> login = Optional2Pipeline.<String>builder()
+            .filter(name -> !name.isEmpty())
+            .andOf(name -> {
+                lookups.incrementAndGet();
+                return TestService.findUserId(name);
+            })
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        assertEquals("Cora", login.apply("Cora").orElseThrow().userName());
+        assertEquals("Mika", login.apply("Mika").orElseThrow().userName());
+        assertTrue(login.apply("").isEmpty());
+        assertTrue(login.apply(NULL_STR).isEmpty());
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testMatchesFluentChain() {
+
+        Optional2Pipeline<String, Integer> pipeline = Optional2Pipeline.<String>builder()
+            .or("Cora")
+            .map(String::trim)
+            .andOf(name -> name.startsWith("X") ? null : name.length())
+            .or(() -> Optional.of(-1))
+            .filter((name, len) -> len != 3)
+            .map(String::length, len -> len * 10)
+            .reduce(Integer::sum);
+
+        for (String input : new String[] { NULL_STR, " Cora ", "Xena", "Bob" }) {
+
+            Optional<Integer> fluent = Optional2
+                .ofNullable(input)
+                .or("Cora")
+                .map(String::trim)
+                .andOf(name -> name.startsWith("X") ? null : name.length())
+                .or(() -> Optional.of(-1))
+                .filter((name, len) -> len != 3)
+                .map(String::length, len -> len * 10)
+                .reduce(Integer::sum);
+
+            assertEquals(fluent, pipeline.apply(input), "input: " + input);
+        }
+    }
+
+    @Test
+    public void testEmptySecondValue() {
+
+        Optional2Pipeline<String, UUID> pipeline = Optional2Pipeline.<String>builder()
+            .andOf(name -> (UUID) null)
+            .reduce((name, userId) -> userId);
+
+        assertNull(pipeline.applyOrNull("Cora"));
+
+        UUID fallback = UUID.randomUUID();
+        assertEquals(fallback, pipeline.applyOrElse("Cora", fallback));
+    }
+
+    @Test
+    public void testFilterKeepsFirstValueWhenSecondIsEmpty() {
+
+        Optional2Pipeline<String, String> pipeline = Optional2Pipeline.<String>builder()
+            .andOf(str -> (String) null)
+            .filter((str1, str2) -> true)
+            .or("y")
+            .reduce((str1, str2) -> str1 + str2);
+
+        Optional<String> fluent = Optional2
+            .ofNullable("x")
+            .andOf(str -> (String) null)
+            .filter((str1, str2) -> true)
+            .or("y")
+            .reduce((str1, str2) -> str1 + str2);
+
+        assertEquals(Optional.of("xy"), fluent);
+        assertEquals(fluent, pipeline.apply("x"));
+    }
+
+    @Test
+    public void testBuild() {
+
+        Optional2Pipeline<String, Integer> length = Optional2Pipeline.<String>builder()
+            .map(String::length)
+            .filter(len -> len > 3)
+            .build();
+
+        assertEquals(4, length.applyOrElse("Cora", 0));
+        assertEquals(0, length.applyOrElse("Bob", 0));
+    }
+
+    @Test
+    public void testCheckedExceptionsPassThrough() {
+
+        Optional2Pipeline<String, UUID> pipeline = Optional2Pipeline.<String>builder()
+            .andOf(TestService::throwUserId)
+            .reduce((name, userId) -> userId);
+
+        assertThrows(IllegalStateException.class, () -> pipeline.apply("Cora"));
+    }
+}
@@ -0,0 +1,524 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Optional2Processor unit tests. Besides the happy paths, these check the
+ * Reactive Streams rules a {@link Flow.Processor} has to follow, numbered as in the spec.
+ */
+public class Optional2ProcessorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReduce() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<TestUser> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOf(TestService::findUserId)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora", "Ada");
+        publisher.complete();
+
+        assertEquals(List.of("Cora", "Ada"), subscriber.values.stream().map(TestUser::userName).toList());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testEmptiesAreDroppedOrRouted() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<Optional2<String, Integer>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        List<Optional2<String, Integer>> empties = new ArrayList<>();
+
+        Optional2Processor<String, Integer, Optional2<String, Integer>> processor = Optional2Processor.<String>builder()
+            .andOf(name -> name.isEmpty() ? null : name.length())
+            .filter((name, len) -> len < 5)
+            .onEmpty(empties::add)
+            .build();
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora", "", "Ada", "Hermione");
+        publisher.complete();
+
+        assertEquals(List.of(Optional2.of("Cora", 4), Optional2.of("Ada", 3)), subscriber.values);
+        assertEquals(List.of(Optional2.ofNullable("", null), Optional2.empty()), empties);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public void testAsyncKeepsOrder() throws InterruptedException {
+
+        List<Integer> input = IntStream.range(0, 500).boxed().toList();
+        SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(executor, 16);
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Optional2Processor<Integer, Integer, Integer> processor = Optional2Processor.<Integer>builder()
+            .andOfAsync(num -> {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+                return num * 2;
+            }, executor)
+            .maxInFlight(8)
+            .reduce(Integer::sum);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        input.forEach(publisher::submit);
+        publisher.close();
+
+        assertTrue(subscriber.awaitTermination());
+        assertEquals(input.stream().map(num -> num * 3).toList(), subscriber.values);
+    }
+
+    /**
+     * Rule 1.1: never more elements than requested. Empties don't count against demand.
+     */
+    @Test
+    public void testHonorsDownstreamDemand() {
+
+        TestPublisher<Integer> publisher = new TestPublisher<>();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(2);
+
+        Optional2Processor<Integer, Integer, Integer> processor = Optional2Processor.<Integer>builder()
+            .andOf(num -> num % 2 == 0 ? num : null)
+            .maxInFlight(4)
+            .reduce((num, same) -> num);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit(0, 1, 2, 3);
+
+        assertEquals(List.of(0, 2), subscriber.values);
+
+        publisher.emit(4, 5, 6);
+        assertEquals(List.of(0, 2), subscriber.values);
+
+        subscriber.request(1);
+        assertEquals(List.of(0, 2, 4), subscriber.values);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(List.of(0, 2, 4, 6), subscriber.values);
+    }
+
+    /**
+     * Backpressure: when downstream stops requesting, so does the processor,
+     * once {@code maxInFlight} elements are waiting.
+     */
+    @Test
+    public void testBoundsUpstreamDemand() {
+
+        TestPublisher<Integer> publisher = new TestPublisher<>();
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(0);
+
+        Optional2Processor<Integer, Integer, Integer> processor = Optional2Processor.<Integer>builder()
+            .andOf(num -> num)
+            .maxInFlight(4)
+            .reduce((num, same) -> num);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(4, publisher.requested.get());
+        publisher.emitWhileRequested(100);
+        assertEquals(4, publisher.emitted.get());
+
+        subscriber.request(3);
+        assertEquals(List.of(0, 1, 2), subscriber.values);
+
+        // Asked for more in a batch of 2, once half of maxInFlight was passed on.
+        assertEquals(6, publisher.requested.get());
+        publisher.emitWhileRequested(100);
+        assertEquals(6, publisher.emitted.get());
+
+        subscriber.request(Long.MAX_VALUE);
+        publisher.emitWhileRequested(100);
+        assertEquals(100, subscriber.values.size());
+    }
+
+    /**
+     * Rule 3.9: a non-positive request fails the subscriber with an IllegalArgumentException.
+     */
+    @Test
+    public void testNonPositiveRequest() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<TestUser> subscriber = new TestSubscriber<>(0);
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOf(TestService::findUserId)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.request(0);
+
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(publisher.cancelled);
+    }
+
+    /**
+     * Rules 3.5 and 3.7: cancelling stops signals, cancels upstream, and is idempotent.
+     */
+    @Test
+    public void testCancel() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<TestUser> subscriber = new TestSubscriber<>(1);
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOf(TestService::findUserId)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora");
+        subscriber.subscription().cancel();
+        subscriber.subscription().cancel();
+        subscriber.request(10);
+        publisher.emit("Ada");
+        publisher.complete();
+
+        assertEquals(1, subscriber.values.size());
+        assertTrue(publisher.cancelled);
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testCancelInterruptsAsyncMappers() throws InterruptedException {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<UUID> subscriber = new TestSubscriber<>(1);
+
+        Optional2Processor<String, UUID, UUID> processor = Optional2Processor.<String>builder()
+            .andOfAsync(name -> {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return UUID.randomUUID();
+            }, executor)
+            .reduce((name, userId) -> userId);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora");
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        subscriber.subscription().cancel();
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testMapperFailure() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<Optional2<String, UUID>> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+        AtomicInteger lookups = new AtomicInteger();
+
+        Optional2Processor<String, UUID, Optional2<String, UUID>> processor = Optional2Processor.<String>builder()
+            .andOf(name -> {
+                lookups.incrementAndGet();
+                return TestService.throwUserId(name);
+            })
+            .build();
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora", "Ada");
+
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertTrue(subscriber.values.isEmpty());
+        assertTrue(publisher.cancelled);
+
+        // Rule 2.8: elements that arrive after cancelling are ignored, so Ada isn't looked up.
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testAsyncMapperFailure() throws InterruptedException {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<TestUser> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOfAsync(TestService::throwUserId, executor)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora");
+
+        assertTrue(subscriber.awaitTermination());
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertTrue(publisher.cancelled);
+    }
+
+    /**
+     * Rule 2.13 / 1.4: an upstream error reaches the subscriber.
+     */
+    @Test
+    public void testUpstreamError() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<TestUser> subscriber = new TestSubscriber<>(Long.MAX_VALUE);
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOf(TestService::findUserId)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora");
+        publisher.subscriber().onError(new IllegalStateException("upstream"));
+
+        assertEquals(1, subscriber.values.size());
+        assertEquals("upstream", subscriber.error.getMessage());
+        assertFalse(subscriber.completed);
+    }
+
+    /**
+     * Completion waits for the elements still in flight.
+     */
+    @Test
+    public void testCompleteAfterPendingElements() {
+
+        TestPublisher<String> publisher = new TestPublisher<>();
+        TestSubscriber<String> subscriber = new TestSubscriber<>(0);
+
+        Optional2Processor<String, Integer, String> processor = Optional2Processor.<String>builder()
+            .andOf(String::length)
+            .reduce((name, len) -> name + len);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        publisher.emit("Cora", "Ada");
+        publisher.complete();
+
+        assertFalse(subscriber.completed);
+
+        subscriber.request(2);
+        assertEquals(List.of("Cora4", "Ada3"), subscriber.values);
+        assertTrue(subscriber.completed);
+    }
+
+    /**
+     * Rule 1.9 / 2.5: one subscriber, and a second upstream subscription is cancelled.
+     */
+    @Test
+    public void testSingleSubscriberAndSubscription() {
+
+        Optional2Processor<String, UUID, TestUser> processor = Optional2Processor.<String>builder()
+            .andOf(TestService::findUserId)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        TestSubscriber<TestUser> first = new TestSubscriber<>(1);
+        TestSubscriber<TestUser> second = new TestSubscriber<>(1);
+        processor.subscribe(first);
+        processor.subscribe(second);
+
+        assertNull(first.error);
+        assertInstanceOf(IllegalStateException.class, second.error);
+
+        TestPublisher<String> publisher1 = new TestPublisher<>();
+        TestPublisher<String> publisher2 = new TestPublisher<>();
+        publisher1.subscribe(processor);
+        publisher2.subscribe(processor);
+
+        assertFalse(publisher1.cancelled);
+        assertTrue(publisher2.cancelled);
+    }
+
+    /**
+     * Rule 1.3: signals to the subscriber are serialized, even when async mappers finish on many threads at once.
+     */
+    @Test
+    public void testSignalsAreSerialized() throws InterruptedException {
+
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(executor, 64);
+
+        TestSubscriber<Integer> subscriber = new TestSubscriber<>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Integer item) {
+                if (concurrent.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                super.onNext(item);
+                concurrent.decrementAndGet();
+            }
+        };
+
+        Optional2Processor<Integer, Integer, Integer> processor = Optional2Processor.<Integer>builder()
+            .andOfAsync(num -> num, executor)
+            .maxInFlight(64)
+            .reduce(Integer::sum);
+
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        IntStream.range(0, 5_000).forEach(publisher::submit);
+        publisher.close();
+
+        assertTrue(subscriber.awaitTermination());
+        assertEquals(5_000, subscriber.values.size());
+        assertEquals(0, overlaps.get());
+    }
+
+    /**
+     * A publisher the test drives by hand. Records demand and cancellation.
+     */
+    private static final class TestPublisher<T> implements Flow.Publisher<T> {
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicLong emitted = new AtomicLong();
+        private volatile boolean cancelled;
+
+        @Nullable
+        private Flow.Subscriber<? super T> subscriber;
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super T> subscriber) {
+
+            this.subscriber = subscriber;
+
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+
+        private Flow.Subscriber<? super T> subscriber() {
+            return subscriber;
+        }
+
+        @SafeVarargs
+        private void emit(T... items) {
+            for (T item : items) {
+                emitted.incrementAndGet();
+                subscriber.onNext(item);
+            }
+        }
+
+        /**
+         * Emits 0, 1, 2... for as long as there's demand, up to {@code count} items in total.
+         */
+        @SuppressWarnings("unchecked")
+        private void emitWhileRequested(int count) {
+            while (emitted.get() < requested.get() && emitted.get() < count) {
+                emit((T) Integer.valueOf((int) emitted.get()));
+            }
+        }
+
+        private void complete() {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Records what it receives, and requests the given amount up front.
+     */
+    private static class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+        private final List<T> values = new CopyOnWriteArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        @Nullable
+        private Flow.Subscription subscription;
+
+        @Nullable
+        private volatile Throwable error;
+
+        private volatile boolean completed;
+
+        private TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+
+            this.subscription = subscription;
+
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            values.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private Flow.Subscription subscription() {
+            return subscription;
+        }
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        private boolean awaitTermination() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -112,6 +113,45 @@ public class Optional2Test {
         assertThrows(NoSuchElementException.class, () -> badOpt1.orElseThrow());
     }
 
+    @Test
+    public void testEqualsHashCode() {
+
+        UUID userId = goodOpt2.getSecondValue();
+        assertEquals(goodOpt2, Optional2.of("Cora", userId));
+        assertEquals(goodOpt2.hashCode(), Optional2.of("Cora", userId).hashCode());
+        assertEquals(Optional2.ofNullable("Cora", null), Optional2.ofNullable("Cora", null));
+        assertEquals(Optional2.ofNullable("Cora", null).hashCode(), Optional2.ofNullable("Cora", null).hashCode());
+        assertFalse(Optional2.ofNullable("Cora", null).equals(Optional2.ofNullable(null, "Cora")));
+        assertFalse(Optional2.ofNullable("Cora", null).equals(badOpt2));
+        assertEquals(goodOpt1, Optional2.of("Cora"));
+
+        // Unlike 31 * h1 + h2, these don't collide.
+        assertFalse(Optional2.of(0, 31).hashCode() == Optional2.of(1, 0).hashCode());
+    }
+
+    @Test
+    public void testThrowStackless() {
+
+        EmptyValueException ex = assertThrows(EmptyValueException.class, () -> badOpt2.orElseThrowStackless());
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("One or more Optional2 values are empty: Optional2[null,null]", ex.getMessage());
+
+        ex = assertThrows(EmptyValueException.class, () -> badOpt1.throwIfEmptyStackless());
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("No value present", ex.getMessage());
+
+        // The default exceptions keep their stack trace.
+        ex = assertThrows(EmptyValueException.class, () -> badOpt2.orElseThrow());
+        assertTrue(ex.getStackTrace().length > 0);
+        assertSame(goodOpt2, goodOpt2.throwIfEmptyStackless());
+        assertEquals("Cora", goodOpt1.orElseThrowStackless());
+
+        EmptyValueException preallocated = EmptyValueException.preallocated("No user");
+        assertSame(preallocated, assertThrows(EmptyValueException.class, () -> badOpt1.orElseThrow(() -> preallocated)));
+        assertSame(preallocated, assertThrows(EmptyValueException.class, () -> badOpt2.throwIfEmpty(() -> preallocated)));
+        assertEquals("No user", preallocated.getMessage());
+    }
+
     @Test
     public void testRunIfEmpty() {
 
@@ -190,4 +230,75 @@ public class Optional2Test {
         // name.length() would cause an NPE here, but it doesn't, so we know it's not being evaluated.
         assertFalse(badOpt2.flatMap(name -> Optional.of(name.length())).isPresent());
     }
+
+    @Test
+    public void testTerminalOps() {
+
+        Optional2<String, Integer> good = Optional2.of("Cora", 2);
+        Optional2<String, Integer> bad = Optional2.ofNullable("Cora", null);
+
+        assertEquals("Cora2", good.get((name, num) -> name + num));
+        assertThrows(NoSuchElementException.class, () -> bad.get((name, num) -> name + num));
+
+        assertEquals("Cora2", good.orElse("Other", 3, (name, num) -> name + num));
+        assertEquals("Cora3", bad.orElse("Other", 3, (name, num) -> name + num));
+        assertEquals("Cora3", bad.orElseGet(() -> "Other", () -> 3, (name, num) -> name + num));
+
+        assertEquals("Cora2", good.reduceOrElse((name, num) -> name + num, "Empty"));
+        assertEquals("Empty", good.reduceOrElse((name, num) -> null, "Empty"));
+        assertEquals("Empty", bad.reduceOrElse((name, num) -> name + num, "Empty"));
+    }
+
+    @Test
+    public void testCheckedExceptionsPassThrough() {
+
+        Optional2<String, Integer> good = Optional2.of("Cora", 2);
+        Exception ex = new Exception("checked");
+
+        assertThrows(Exception.class, () -> good.map(name -> { throw ex; }, num -> num));
+        assertThrows(Exception.class, () -> good.filter((name, num) -> { throw ex; }));
+        assertThrows(Exception.class, () -> good.reduce((name, num) -> { throw ex; }));
+        assertThrows(Exception.class, () -> good.ifPresent((name, num) -> { throw ex; }));
+    }
+
+    @Test
+    public void testSealedTypes() {
+
+        if (goodOpt2 instanceof Optional2.Present<String, UUID> present) {
+            assertEquals("Cora", present.first());
+            assertEquals(goodOpt2.getSecondValue(), present.second());
+        } else {
+            throw new AssertionError("Expected Optional2.Present: " + goodOpt2);
+        }
+
+        assertTrue(badOpt2 instanceof Optional2.Empty);
+        assertTrue(goodOpt1 instanceof Optional1.Present<String>);
+        assertTrue(badOpt1 instanceof Optional1.Empty);
+
+        // Empty values are singletons, and empty transforms return the singleton.
+        assertSame(Optional2.empty(), badOpt2);
+        assertSame(Optional1.empty(), badOpt1);
+        assertSame(badOpt2, badOpt2.filter((name, userId) -> true));
+        assertSame(Optional2.empty(), badOpt2.map(String::length, UUID::toString));
+        assertSame(Optional2.empty(), badOpt1.andOf(String::length));
+
+        // Partially-empty values still keep their first value for or().
+        Optional2<String, Integer> partial = Optional2.ofNullable("Cora", null);
+        assertTrue(partial instanceof Optional2.Empty);
+        assertEquals("Cora", partial.getFirstValue());
+        assertTrue(partial.or(4) instanceof Optional2.Present);
+    }
+
+    @Test
+    public void testZip() {
+
+        assertEquals(Optional2.of("Cora", 4), Optional2.zip(Optional2.of("Cora"), Optional2.of(4)));
+        assertEquals(Optional2.of("Cora", 4), Optional2.zip(Optional.of("Cora"), Optional.of(4)));
+        assertSame(Optional2.empty(), Optional2.zip(Optional1.empty(), Optional1.empty()));
+
+        Optional2<String, Integer> partial = Optional2.zip(Optional.of("Cora"), Optional.empty());
+        assertFalse(partial.isPresent());
+        assertEquals("Cora", partial.getFirstValue());
+        assertEquals(Optional2.of("Cora", 4), partial.or(4));
+    }
 }
@@ -0,0 +1,85 @@
+package com.terheyden.optional2;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OptionalAll unit tests.
+ */
+public class OptionalAllTest {
+
+    @Test
+    public void testAllPresent() {
+
+        OptionalAll all = Optional2.allOf(() -> "Cora", () -> TestService.findUserId("Cora"), () -> 42);
+
+        assertTrue(all.isPresent());
+        assertFalse(all.isEmpty());
+        assertEquals(-1, all.emptyIndex());
+        assertEquals(3, all.size());
+        assertEquals("Cora", all.<String>get(0));
+
+        TestUser user = all
+            .throwIfEmpty()
+            .reduce(fields -> TestService.loginUser(fields.get(1), fields.get(0)))
+            .orElseThrow();
+
+        assertEquals("Cora", user.userName());
+    }
+
+    @Test
+    public void testStopsAtFirstEmpty() {
+
+        AtomicInteger calls = new AtomicInteger();
+
+        OptionalAll all = Optional2.allOf(
+            () -> calls.incrementAndGet(),
+            () -> null,
+            () -> calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        assertTrue(all.isEmpty());
+        assertEquals(1, all.emptyIndex());
+        assertEquals(1, all.<Integer>get(0));
+
+        EmptyValueException ex = assertThrows(EmptyValueException.class, () -> all.get(2));
+        assertEquals("OptionalAll value is empty at index 1", ex.getMessage());
+        assertThrows(EmptyValueException.class, all::throwIfEmpty);
+        assertEquals(0, assertThrows(EmptyValueException.class, all::throwIfEmptyStackless).getStackTrace().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> all.get(3));
+        assertTrue(all.reduce(fields -> "present").isEmpty());
+        assertTrue(all.ifPresent(fields -> { throw new AssertionError(); }).isEmpty());
+    }
+
+    @Test
+    public void testOfNullableAndOptionals() {
+
+        Object[] values = { "Cora", null, 42 };
+        OptionalAll all = OptionalAll.ofNullable(values);
+        values[0] = "Ada";
+
+        assertEquals(1, all.emptyIndex());
+        assertEquals("Cora", all.<String>get(0));
+        assertTrue(OptionalAll.ofNullable("Cora", 42).isPresent());
+        assertTrue(OptionalAll.ofNullable().isPresent());
+
+        OptionalAll optionals = OptionalAll.ofOptionals(Optional.of("Cora"), Optional.of(UUID.randomUUID()), Optional.empty());
+        assertEquals(2, optionals.emptyIndex());
+        assertEquals("OptionalAll[Cora, 42]", OptionalAll.ofOptionals(Optional.of("Cora"), Optional.of(42)).toString());
+    }
+
+    @Test
+    public void testSupplierExceptionPassesThrough() {
+        assertThrows(IllegalStateException.class, () -> Optional2.allOf(() -> "Cora", () -> TestService.throwUserId("Cora")));
+        assertNull(OptionalAll.ofNullable((Object) null).reduce(fields -> "present").orElse(null));
+    }
+}
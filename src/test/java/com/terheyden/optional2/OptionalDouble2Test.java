@@ -0,0 +1,118 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.DoubleAdder;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OptionalDouble2Test unit tests.
+ */
+public class OptionalDouble2Test {
+
+    private static final double DELTA = 1e-9;
+
+    private final OptionalDouble2 goodOpt = OptionalDouble2.of(1.5, 2.5);
+    private final OptionalDouble2 badOpt = OptionalDouble2.empty();
+
+    @Test
+    public void testBasics() {
+
+        assertTrue(goodOpt.isPresent());
+        assertFalse(goodOpt.isEmpty());
+        assertEquals(1.5, goodOpt.getFirstValue());
+        assertEquals(2.5, goodOpt.getSecondValue());
+        assertSame(goodOpt, goodOpt.throwIfEmpty());
+
+        assertTrue(badOpt.isEmpty());
+        assertFalse(badOpt.isPresent());
+        assertThrows(NoSuchElementException.class, badOpt::getFirstValue);
+        assertThrows(NoSuchElementException.class, badOpt::getSecondValue);
+        assertThrows(NoSuchElementException.class, badOpt::throwIfEmpty);
+    }
+
+    @Test
+    public void testOps() {
+
+        assertEquals(4.0, goodOpt.reduce(Double::sum).getAsDouble());
+        assertEquals(7.5, goodOpt.map(num -> num * 2, num -> num * 3).reduceOrElse(Double::max, -1));
+        assertEquals(-1, badOpt.reduceOrElse(Double::sum, -1));
+        assertFalse(badOpt.reduce(Double::sum).isPresent());
+
+        assertSame(goodOpt, goodOpt.filter((price, qty) -> qty > price));
+        assertSame(OptionalDouble2.empty(), goodOpt.filter((price, qty) -> qty < price));
+        assertEquals(OptionalDouble2.of(4.0, 1.0), goodOpt.map(Double::sum, (price, qty) -> qty - price));
+        assertSame(badOpt, badOpt.map(num -> num * 2, num -> num * 3));
+
+        assertSame(goodOpt, goodOpt.or(1, 2));
+        assertEquals(OptionalDouble2.of(1, 2), badOpt.or(1, 2));
+        assertEquals(OptionalDouble2.of(1, 2), badOpt.or(() -> OptionalDouble2.of(1, 2)));
+        assertEquals(5.0, badOpt.orElseFirst(5));
+        assertEquals(2.5, goodOpt.orElseSecond(5));
+    }
+
+    @Test
+    public void testEmptiedPartway() {
+
+        DoubleAdder mapped = new DoubleAdder();
+
+        // Filtered out in the middle, so the later map is skipped and the fallback is used.
+        double result = goodOpt
+            .filter((price, qty) -> price > qty)
+            .map(num -> {
+                mapped.add(num);
+                return num;
+            }, num -> num)
+            .or(0.1, 0.2)
+            .reduceOrElse(Double::sum, -1);
+
+        // 0.1 + 0.2 isn't exactly 0.3, so compare with a tolerance.
+        assertNotEquals(0.3, result);
+        assertEquals(0.3, result, DELTA);
+        assertEquals(0.0, mapped.sum());
+    }
+
+    @Test
+    public void testNaNAndSignedZero() {
+
+        OptionalDouble2 nanOpt = OptionalDouble2.of(Double.NaN, 1.0);
+
+        // Values compare like Double.equals(): NaN equals NaN, but 0.0 doesn't equal -0.0.
+        assertEquals(OptionalDouble2.of(Double.NaN, 1.0), nanOpt);
+        assertEquals(OptionalDouble2.of(Double.NaN, 1.0).hashCode(), nanOpt.hashCode());
+        assertNotEquals(OptionalDouble2.of(0.0, 1.0), OptionalDouble2.of(-0.0, 1.0));
+
+        // NaN is a present value; only the predicate decides whether it's kept.
+        assertTrue(nanOpt.isPresent());
+        assertTrue(Double.isNaN(nanOpt.getFirstValue()));
+        assertTrue(nanOpt.filter((price, qty) -> price > qty).isEmpty());
+        assertTrue(nanOpt.filter((price, qty) -> price < qty).isEmpty());
+        assertSame(nanOpt, nanOpt.filter((price, qty) -> Double.isNaN(price)));
+
+        assertTrue(Double.isNaN(nanOpt.reduce(Double::sum).getAsDouble()));
+        assertTrue(Double.isNaN(OptionalDouble2.of(0.0, 0.0).reduce((num1, num2) -> num1 / num2).getAsDouble()));
+        assertSame(nanOpt, nanOpt.or(1, 2));
+    }
+
+    @Test
+    public void testIfPresent() {
+
+        DoubleAdder sum = new DoubleAdder();
+
+        goodOpt.ifPresent((price, qty) -> sum.add(price + qty));
+        badOpt.ifPresent((price, qty) -> sum.add(price + qty));
+        assertEquals(4.0, sum.sum());
+
+        goodOpt.ifEmpty(() -> sum.add(1));
+        badOpt.ifEmpty(() -> sum.add(1));
+        badOpt.ifPresentOrElse((price, qty) -> sum.reset(), () -> sum.add(1));
+        assertEquals(6.0, sum.sum());
+    }
+}
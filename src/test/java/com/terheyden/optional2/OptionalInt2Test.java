@@ -0,0 +1,91 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OptionalInt2Test unit tests.
+ */
+public class OptionalInt2Test {
+
+    private final OptionalInt2 goodOpt = OptionalInt2.of(3, 4);
+    private final OptionalInt2 badOpt = OptionalInt2.empty();
+
+    @Test
+    public void testBasics() {
+
+        assertTrue(goodOpt.isPresent());
+        assertFalse(goodOpt.isEmpty());
+        assertEquals(3, goodOpt.getFirstValue());
+        assertEquals(4, goodOpt.getSecondValue());
+        assertSame(goodOpt, goodOpt.throwIfEmpty());
+
+        assertTrue(badOpt.isEmpty());
+        assertFalse(badOpt.isPresent());
+        assertThrows(NoSuchElementException.class, badOpt::getFirstValue);
+        assertThrows(NoSuchElementException.class, badOpt::getSecondValue);
+        assertThrows(NoSuchElementException.class, badOpt::throwIfEmpty);
+    }
+
+    @Test
+    public void testOps() {
+
+        assertEquals(7, goodOpt.reduce(Integer::sum).getAsInt());
+        assertEquals(12, goodOpt.map(num -> num * 2, num -> num * 3).reduceOrElse(Integer::max, -1));
+        assertEquals(-1, badOpt.reduceOrElse(Integer::sum, -1));
+        assertFalse(badOpt.reduce(Integer::sum).isPresent());
+
+        assertSame(goodOpt, goodOpt.filter((id, count) -> count > id));
+        assertSame(OptionalInt2.empty(), goodOpt.filter((id, count) -> count < id));
+        assertEquals(OptionalInt2.of(7, 1), goodOpt.map(Integer::sum, (id, count) -> count - id));
+        assertSame(badOpt, badOpt.map(num -> num * 2, num -> num * 3));
+
+        assertSame(goodOpt, goodOpt.or(1, 2));
+        assertEquals(OptionalInt2.of(1, 2), badOpt.or(1, 2));
+        assertEquals(OptionalInt2.of(1, 2), badOpt.or(() -> OptionalInt2.of(1, 2)));
+        assertEquals(5, badOpt.orElseFirst(5));
+        assertEquals(4, goodOpt.orElseSecond(5));
+    }
+
+    @Test
+    public void testEmptiedPartway() {
+
+        AtomicInteger mapped = new AtomicInteger();
+
+        // Filtered out in the middle, so the later map is skipped and the fallback is used.
+        int result = goodOpt
+            .filter((id, count) -> id > count)
+            .map(mapped::addAndGet, mapped::addAndGet)
+            .or(10, 20)
+            .reduceOrElse(Integer::sum, -1);
+
+        assertEquals(30, result);
+        assertEquals(0, mapped.get());
+
+        // Overflow wraps, as with plain ints.
+        assertEquals(Integer.MIN_VALUE, OptionalInt2.of(Integer.MAX_VALUE, 1).reduce(Integer::sum).getAsInt());
+    }
+
+    @Test
+    public void testIfPresent() {
+
+        AtomicInteger sum = new AtomicInteger();
+
+        goodOpt.ifPresent((id, count) -> sum.addAndGet(id + count));
+        badOpt.ifPresent((id, count) -> sum.addAndGet(id + count));
+        assertEquals(7, sum.get());
+
+        goodOpt.ifEmpty(sum::incrementAndGet);
+        badOpt.ifEmpty(sum::incrementAndGet);
+        badOpt.ifPresentOrElse((id, count) -> sum.set(0), sum::incrementAndGet);
+        assertEquals(9, sum.get());
+    }
+}
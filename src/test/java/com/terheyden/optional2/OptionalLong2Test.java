@@ -0,0 +1,68 @@
+package com.terheyden.optional2;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OptionalLong2Test unit tests.
+ */
+public class OptionalLong2Test {
+
+    private final OptionalLong2 goodOpt = OptionalLong2.of(3, 4);
+    private final OptionalLong2 badOpt = OptionalLong2.empty();
+
+    @Test
+    public void testBasics() {
+
+        assertTrue(goodOpt.isPresent());
+        assertFalse(goodOpt.isEmpty());
+        assertEquals(3, goodOpt.getFirstValue());
+        assertEquals(4, goodOpt.getSecondValue());
+
+        assertTrue(badOpt.isEmpty());
+        assertThrows(NoSuchElementException.class, badOpt::getFirstValue);
+        assertThrows(NoSuchElementException.class, badOpt::throwIfEmpty);
+    }
+
+    @Test
+    public void testOps() {
+
+        assertEquals(7, goodOpt.reduce(Long::sum).getAsLong());
+        assertEquals(12, goodOpt.map(num -> num * 2, num -> num * 3).reduceOrElse(Long::max, -1));
+        assertEquals(-1, badOpt.reduceOrElse(Long::sum, -1));
+        assertFalse(badOpt.reduce(Long::sum).isPresent());
+
+        assertSame(goodOpt, goodOpt.filter((id, count) -> count > id));
+        assertSame(OptionalLong2.empty(), goodOpt.filter((id, count) -> count < id));
+        assertEquals(OptionalLong2.of(7, 1), goodOpt.map(Long::sum, (id, count) -> count - id));
+
+        assertSame(goodOpt, goodOpt.or(1, 2));
+        assertEquals(OptionalLong2.of(1, 2), badOpt.or(1, 2));
+        assertEquals(OptionalLong2.of(1, 2), badOpt.or(() -> OptionalLong2.of(1, 2)));
+        assertEquals(5, badOpt.orElseFirst(5));
+        assertEquals(4, goodOpt.orElseSecond(5));
+    }
+
+    @Test
+    public void testIfPresent() {
+
+        AtomicLong sum = new AtomicLong();
+
+        goodOpt.ifPresent((id, count) -> sum.addAndGet(id + count));
+        badOpt.ifPresent((id, count) -> sum.addAndGet(id + count));
+        assertEquals(7, sum.get());
+
+        goodOpt.ifEmpty(sum::incrementAndGet);
+        badOpt.ifEmpty(sum::incrementAndGet);
+        badOpt.ifPresentOrElse((id, count) -> sum.set(0), sum::incrementAndGet);
+        assertEquals(9, sum.get());
+    }
+}
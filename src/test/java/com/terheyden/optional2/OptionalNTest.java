@@ -0,0 +1,80 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the generated Optional3 through Optional8.
+ */
+public class OptionalNTest {
+
+    @Nullable
+    private static final String NULL_STR = null;
+
+    @Test
+    public void testAndOfChain() {
+
+        Optional8<String, UUID, Integer, Integer, Integer, Integer, Integer, String> opt8 = Optional2
+            .of("Cora")
+            .andOf(name -> TestService.findUserId(name))
+            .andOf((name, userId) -> name.length())
+            .andOf(3)
+            .andOf((name, userId, len, three) -> len + three)
+            .andOfNullable(5)
+            .andOf(6)
+            .andOf((name, userId, len, three, seven, five, six) -> name + six);
+
+        assertTrue(opt8.isPresent());
+        assertEquals("Cora", opt8.getValue1());
+        assertEquals(7, opt8.getValue5());
+        assertEquals("Cora6", opt8.getValue8());
+        assertEquals(4, opt8.get()._3);
+    }
+
+    @Test
+    public void testEmpty() {
+
+        Optional4<String, UUID, Integer, Integer> opt4 = Optional2
+            .ofNullable(NULL_STR)
+            .andOf(name -> TestService.findUserId(name))
+            .andOf((name, userId) -> name.length())
+            .andOf(3);
+
+        assertTrue(opt4.isEmpty());
+        assertSame(Optional4.empty(), opt4);
+        assertFalse(opt4.reduce((name, userId, len, three) -> len).isPresent());
+        assertThrows(NoSuchElementException.class, opt4::throwIfEmpty);
+        assertThrows(NoSuchElementException.class, opt4::get);
+    }
+
+    @Test
+    public void testOrFillsLastValue() {
+
+        AtomicInteger count = new AtomicInteger();
+
+        int len = Optional2.of("Cora", 1)
+            .<Integer>andOf((name, one) -> null)
+            .ifEmpty(count::incrementAndGet)
+            .or(2)
+            .filter((name, one, two) -> two == 2)
+            .ifPresent((name, one, two) -> count.incrementAndGet())
+            .reduceOrElse((name, one, two) -> name.length() + one + two, -1);
+
+        assertEquals(7, len);
+        assertEquals(2, count.get());
+
+        // If an earlier value is missing, or() has nothing to fill.
+        assertTrue(Optional3.ofNullable(NULL_STR, 1, null).or(2).isEmpty());
+        assertTrue(Optional3.of("Cora", 1, 2) instanceof Optional3.Present<String, Integer, Integer>);
+    }
+}
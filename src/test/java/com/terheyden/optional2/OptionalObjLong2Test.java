@@ -0,0 +1,62 @@
+package com.terheyden.optional2;
+
+import javax.annotation.Nullable;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * OptionalObjLong2Test unit tests.
+ */
+public class OptionalObjLong2Test {
+
+    @Nullable
+    private static final String NULL_STR = null;
+
+    private final OptionalObjLong2<String> goodOpt = OptionalObjLong2.of("Cora", 1_000L);
+    private final OptionalObjLong2<String> badOpt = OptionalObjLong2.ofNullable(NULL_STR, 1_000L);
+
+    @Test
+    public void testBasics() {
+
+        assertTrue(goodOpt.isPresent());
+        assertEquals("Cora", goodOpt.getFirstValue());
+        assertEquals(1_000L, goodOpt.getSecondValue());
+
+        assertTrue(badOpt.isEmpty());
+        assertSame(OptionalObjLong2.empty(), badOpt);
+        assertThrows(NoSuchElementException.class, badOpt::getSecondValue);
+        assertThrows(NoSuchElementException.class, badOpt::throwIfEmpty);
+    }
+
+    @Test
+    public void testOps() {
+
+        assertEquals("Cora@1000", goodOpt.reduce((name, time) -> name + "@" + time).get());
+        assertFalse(badOpt.reduce((name, time) -> name + "@" + time).isPresent());
+
+        assertSame(goodOpt, goodOpt.filter((name, time) -> time > 0));
+        assertTrue(goodOpt.filter((name, time) -> time < 0).isEmpty());
+
+        OptionalObjLong2<Integer> mapped = goodOpt.map(String::length, time -> time + 1);
+        assertEquals(4, mapped.getFirstValue());
+        assertEquals(1_001L, mapped.getSecondValue());
+        assertTrue(goodOpt.map(name -> null, time -> time).isEmpty());
+
+        assertSame(goodOpt, goodOpt.or("Other", 1L));
+        assertEquals("Other", badOpt.or("Other", 1L).getFirstValue());
+
+        AtomicLong sum = new AtomicLong();
+        goodOpt.ifPresent((name, time) -> sum.addAndGet(time));
+        badOpt.ifPresent((name, time) -> sum.addAndGet(time));
+        badOpt.ifEmpty(sum::incrementAndGet);
+        assertEquals(1_001L, sum.get());
+    }
+}
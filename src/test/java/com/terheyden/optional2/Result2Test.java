@@ -0,0 +1,123 @@
+package com.terheyden.optional2;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Result2 unit tests.
+ */
+public class Result2Test {
+
+    private static final UUID BACKUP_ID = UUID.randomUUID();
+
+    @Test
+    public void testSuccess() {
+
+        Result2<String, UUID> result = Optional2.ofNullable("Cora").andOfTry(TestService::findUserId);
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isPresent());
+        assertTrue(result.getCause().isEmpty());
+        assertEquals("Cora", result.toOptional2().getFirstValue());
+        assertTrue(result.reduce((name, userId) -> TestService.loginUser(userId, name)).isPresent());
+    }
+
+    @Test
+    public void testEmpty() {
+
+        assertSame(Result2.empty(), Optional2.ofNullable(TestService.NULL).andOfTry(TestService::findUserId));
+
+        Result2<String, UUID> partial = Optional2.ofNullable("Cora").andOfTry(name -> null);
+        assertTrue(partial.isSuccess());
+        assertFalse(partial.isPresent());
+        assertEquals(BACKUP_ID, partial.or(BACKUP_ID).toOptional2().getSecondValue());
+        assertEquals(BACKUP_ID, partial.or(() -> Optional.of(BACKUP_ID)).toOptional2().getSecondValue());
+    }
+
+    @Test
+    public void testFailureSkipsSteps() {
+
+        Result2<Integer, String> result = Optional2
+            .ofNullable("Cora")
+            .andOfTry(TestService::throwUserId)
+            .filter((name, userId) -> true)
+            .or(BACKUP_ID)
+            .map(String::length, UUID::toString);
+
+        assertTrue(result.isFailure());
+        assertTrue(result.getCause().orElseThrow() instanceof IllegalStateException);
+        assertThrows(IllegalStateException.class, result::toOptional2);
+        assertThrows(IllegalStateException.class, () -> result.reduce((len, id) -> len + id));
+    }
+
+    @Test
+    public void testRecover() {
+
+        AtomicReference<Throwable> logged = new AtomicReference<>();
+
+        Optional<TestUser> user = Optional2
+            .ofNullable("Cora")
+            .andOfTry(TestService::throwUserId)
+            .ifFailure(logged::set)
+            .recover(ex -> BACKUP_ID)
+            .reduce((name, userId) -> TestService.loginUser(userId, name));
+
+        assertTrue(logged.get() instanceof IllegalStateException);
+        assertEquals(BACKUP_ID, user.orElseThrow().userId());
+
+        // A failing recovery is a failure too.
+        Result2<String, UUID> failedAgain = Optional2
+            .ofNullable("Cora")
+            .andOfTry(TestService::throwUserId)
+            .recover(ex -> {
+                throw new UnsupportedOperationException(ex);
+            });
+
+        assertTrue(failedAgain.getCause().orElseThrow() instanceof UnsupportedOperationException);
+    }
+
+    @Test
+    public void testMapTry() {
+
+        Result2<Integer, String> result = Optional2
+            .of("Cora", UUID.randomUUID())
+            .mapTry(String::length, userId -> {
+                throw new IllegalStateException("IGNORE!");
+            });
+
+        // The first mapper succeeded, so its value is kept for recover().
+        assertEquals(new Result2.Failure<>(4, result.getCause().orElseThrow()), result);
+        assertEquals(Optional2.of(4, "IGNORE!"), result.recover(Throwable::getMessage).toOptional2());
+        assertSame(Result2.empty(), Optional2.<String, UUID>empty().mapTry(String::length, UUID::toString));
+    }
+
+    @Test
+    public void testBatchKeepsGoing() {
+
+        List<Result2<String, UUID>> results = List.of("Cora", "Mika", "Zed").stream()
+            .map(name -> Optional2.ofNullable(name).andOfTry(nm -> nm.startsWith("M")
+                ? TestService.throwUserId(nm)
+                : TestService.findUserId(nm)))
+            .toList();
+
+        assertEquals(2, results.stream().filter(Result2::isPresent).count());
+        assertEquals(1, results.stream().filter(Result2::isFailure).count());
+    }
+
+    @Test
+    public void testFatalErrorsAreNotCaptured() {
+        assertThrows(OutOfMemoryError.class, () -> Optional2.ofNullable("Cora").andOfTry(name -> {
+            throw new OutOfMemoryError("IGNORE!");
+        }));
+    }
+}
@@ -0,0 +1,68 @@
+package com.terheyden.optional2;
+
+import java.io.IOException;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * VavrInterop unit tests.
+ */
+public class VavrInteropTest {
+
+    @Test
+    public void testTuple() {
+
+        Tuple2<String, Integer> tuple = Optional2.of("Cora", 42).get();
+        io.vavr.Tuple2<String, Integer> vavrTuple = VavrInterop.toVavr(tuple);
+
+        assertEquals(io.vavr.Tuple.of("Cora", 42), vavrTuple);
+        assertEquals(tuple, VavrInterop.fromVavr(vavrTuple));
+        assertEquals(vavrTuple.toString(), tuple.toString());
+    }
+
+    @Test
+    public void testTupleMethodsMatchVavr() {
+
+        Tuple2<String, Integer> tuple = new Tuple2<>("Cora", 42);
+        io.vavr.Tuple2<String, Integer> vavrTuple = VavrInterop.toVavr(tuple);
+
+        String vavrApplied = vavrTuple.apply((name, age) -> name + age);
+        assertEquals(vavrApplied, tuple.apply((name, age) -> name + age));
+        assertEquals(
+            vavrTuple.map((name, age) -> io.vavr.Tuple.of(age, name)),
+            VavrInterop.toVavr(tuple.map((name, age) -> new Tuple2<>(age, name))));
+        assertEquals(
+            vavrTuple.map(String::length, age -> age + 1),
+            VavrInterop.toVavr(tuple.map(String::length, age -> age + 1)));
+        assertEquals(vavrTuple.map1(String::length), VavrInterop.toVavr(tuple.map1(String::length)));
+        assertEquals(vavrTuple.map2(age -> age + 1), VavrInterop.toVavr(tuple.map2(age -> age + 1)));
+        assertEquals(vavrTuple.swap(), VavrInterop.toVavr(tuple.swap()));
+    }
+
+    @Test
+    public void testOption() {
+
+        assertEquals(Option.of(io.vavr.Tuple.of("Cora", 42)), VavrInterop.toOption(Optional2.of("Cora", 42)));
+        assertTrue(VavrInterop.toOption(Optional2.ofNullable("Cora", null)).isEmpty());
+        assertEquals("Cora", VavrInterop.fromOption(Option.of("Cora")).get());
+        assertFalse(VavrInterop.fromOption(Option.none()).isPresent());
+    }
+
+    @Test
+    public void testFunctions() {
+
+        io.vavr.CheckedFunction1<String, Integer> length = String::length;
+        io.vavr.CheckedFunction1<String, Integer> fails = str -> {
+            throw new IOException("fail");
+        };
+
+        assertEquals(4, Optional2.of("Cora").map(VavrInterop.fromVavrFunction(length)).get());
+        assertThrows(IOException.class, () -> Optional2.of("Cora").map(VavrInterop.fromVavrFunction(fails)));
+    }
+}